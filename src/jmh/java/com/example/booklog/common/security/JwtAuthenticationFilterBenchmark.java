@@ -0,0 +1,61 @@
+package com.example.booklog.common.security;
+
+import com.example.booklog.common.cache.LocalCacheInvalidationBus;
+import com.example.booklog.common.util.JwtUtil;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 인증 필터 요청당 처리 시간 (클레임 인증 주체, 검증된 토큰 캐시 사용/미사용)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "booklog-secret-key-for-jwt-token-generation-very-long-string-for-security";
+    private static final long EXPIRATION = 86400000;
+
+    @Param({"0", "10000"})
+    private long verifiedCacheSize;
+
+    private JwtAuthenticationFilter filter;
+    private JwtUtil jwtUtil;
+    private String token;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(SECRET, EXPIRATION, verifiedCacheSize);
+        filter = new JwtAuthenticationFilter(jwtUtil, email -> {
+            throw new UsernameNotFoundException(email);
+        }, new TokenRevocationList(new LocalCacheInvalidationBus(), 100000, 0.0001));
+        ReflectionTestUtils.setField(filter, "principalSource", "claims");
+        token = jwtUtil.generateToken("reader@example.com", 1L, "reader");
+        authorization = "Bearer " + token;
+    }
+
+    @Benchmark
+    public Object parseClaims() {
+        return jwtUtil.parseClaims(token);
+    }
+
+    @Benchmark
+    public Object filter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/stats/my");
+        request.addHeader("Authorization", authorization);
+        try {
+            filter.doFilterInternal(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.booklog.common.cache;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * JdbcCacheInvalidationBus가 사용하는 무효화 로그 (스키마 생성용 매핑)
+ */
+@Entity
+@Table(name = "cache_invalidations",
+        indexes = @Index(name = "idx_cache_invalidations_created_at", columnList = "created_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CacheInvalidation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "cache_name", nullable = false, length = 50)
+    private String cacheName;
+
+    @Column(name = "cache_key", nullable = false, length = 100)
+    private String cacheKey;
+
+    @Column(name = "node_id", nullable = false, length = 36)
+    private String nodeId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,19 @@
+package com.example.booklog.common.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * 노드 간 로컬 캐시 무효화 전달
+ */
+public interface CacheInvalidationBus {
+
+    /**
+     * 다른 노드에 키 무효화 전파 (자기 노드의 캐시는 호출자가 직접 제거)
+     */
+    void publish(String cacheName, String key);
+
+    /**
+     * 다른 노드에서 전파된 무효화 수신
+     */
+    void subscribe(String cacheName, Consumer<String> listener);
+}
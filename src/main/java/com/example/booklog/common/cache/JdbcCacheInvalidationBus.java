@@ -0,0 +1,132 @@
+package com.example.booklog.common.cache;
+
+import com.example.booklog.common.datasource.ShardContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 공유 DB 테이블을 통한 무효화 전파
+ * 각 노드가 cache_invalidations에 기록하고, 주기적으로 다른 노드의 기록을 읽어 로컬 캐시에서 제거
+ * 전파 지연은 최대 폴링 주기이며, 샤딩 환경에서는 홈 샤드의 테이블을 사용
+ * auto_increment ID는 커밋 순서와 다를 수 있어(작은 ID가 나중에 커밋) ID 커서만으로는 늦게 커밋된 기록을 건너뛰므로,
+ * 최근 overlap 구간의 기록을 매번 다시 읽고 이미 처리한 ID는 제외
+ */
+@Slf4j
+public class JdbcCacheInvalidationBus implements CacheInvalidationBus {
+
+    private static final String INSERT =
+            "INSERT INTO cache_invalidations (cache_name, cache_key, node_id, created_at) VALUES (?, ?, ?, ?)";
+
+    // 페이지 커서(id > ?) 안에서, 아직 본 적 없는 ID 이후이거나 최근 구간에 기록된 행
+    private static final String SELECT_SINCE =
+            "SELECT id, cache_name, cache_key, created_at FROM cache_invalidations " +
+            "WHERE id > ? AND (id > ? OR created_at >= ?) AND node_id <> ? ORDER BY id LIMIT ?";
+
+    private static final String SELECT_MAX_ID = "SELECT COALESCE(MAX(id), 0) FROM cache_invalidations";
+
+    private static final String PURGE = "DELETE FROM cache_invalidations WHERE created_at < ?";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, List<Consumer<String>>> listeners = new ConcurrentHashMap<>();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long retentionMinutes;
+    private final Duration overlap;
+
+    private volatile Long lastSeenId;
+    // overlap 구간 안에서 이미 처리한 ID -> 기록 시각 (폴링은 한 번에 하나만 실행되므로 폴링 스레드에서만 접근)
+    private final Map<Long, LocalDateTime> recentlySeen = new HashMap<>();
+
+    public JdbcCacheInvalidationBus(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                    int batchSize, long retentionMinutes, Duration overlap) {
+        this.jdbcTemplate = jdbcTemplate;
+        // 커밋 이후(afterCommit) 호출되어도 원래 트랜잭션과 분리되어 기록되도록 새 트랜잭션 사용
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = batchSize;
+        this.retentionMinutes = retentionMinutes;
+        this.overlap = overlap;
+    }
+
+    @Override
+    public void publish(String cacheName, String key) {
+        try {
+            ShardContext.callOn(ShardContext.HOME_SHARD, () -> transactionTemplate.execute(status ->
+                    jdbcTemplate.update(INSERT, cacheName, key, nodeId, LocalDateTime.now())));
+        } catch (RuntimeException e) {
+            // 전파 실패가 요청 실패로 이어지지 않도록 기록만 남김
+            log.warn("캐시 무효화 전파에 실패했습니다. cache={}, key={}", cacheName, key, e);
+        }
+    }
+
+    @Override
+    public void subscribe(String cacheName, Consumer<String> listener) {
+        listeners.computeIfAbsent(cacheName, name -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    @Scheduled(fixedDelayString = "${booklog.cache.invalidation.poll-interval-ms:1000}")
+    public void poll() {
+        ShardContext.callOn(ShardContext.HOME_SHARD, () -> {
+            // 시작 시점 이전의 기록은 이미 반영된 것으로 간주
+            if (lastSeenId == null) {
+                lastSeenId = jdbcTemplate.queryForObject(SELECT_MAX_ID, Long.class);
+                return null;
+            }
+
+            LocalDateTime since = LocalDateTime.now().minus(overlap);
+            recentlySeen.values().removeIf(createdAt -> createdAt.isBefore(since));
+
+            long seenBefore = lastSeenId;
+            long pageCursor = 0;
+            List<Map<String, Object>> rows;
+            do {
+                rows = jdbcTemplate.queryForList(SELECT_SINCE, pageCursor, seenBefore, since, nodeId, batchSize);
+                for (Map<String, Object> row : rows) {
+                    long id = ((Number) row.get("id")).longValue();
+                    pageCursor = id;
+                    if (id > lastSeenId) {
+                        lastSeenId = id;
+                    }
+                    if (recentlySeen.putIfAbsent(id, createdAt(row)) != null) {
+                        continue;
+                    }
+                    String cacheName = (String) row.get("cache_name");
+                    String key = (String) row.get("cache_key");
+                    listeners.getOrDefault(cacheName, List.of()).forEach(listener -> listener.accept(key));
+                }
+            } while (rows.size() == batchSize);
+            return null;
+        });
+    }
+
+    private static LocalDateTime createdAt(Map<String, Object> row) {
+        Object value = row.get("created_at");
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return value instanceof LocalDateTime createdAt ? createdAt : LocalDateTime.now();
+    }
+
+    @Scheduled(fixedDelayString = "${booklog.cache.invalidation.purge-interval-ms:600000}")
+    public void purge() {
+        ShardContext.callOn(ShardContext.HOME_SHARD, () ->
+                jdbcTemplate.update(PURGE, LocalDateTime.now().minusMinutes(retentionMinutes)));
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.booklog.common.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * 단일 노드용 (전파할 대상이 없음)
+ */
+public class LocalCacheInvalidationBus implements CacheInvalidationBus {
+
+    @Override
+    public void publish(String cacheName, String key) {
+    }
+
+    @Override
+    public void subscribe(String cacheName, Consumer<String> listener) {
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.booklog.common.config;
+
+import com.example.booklog.common.cache.CacheInvalidationBus;
+import com.example.booklog.common.cache.JdbcCacheInvalidationBus;
+import com.example.booklog.common.cache.LocalCacheInvalidationBus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+
+/**
+ * 로컬 캐시 무효화 전파 방식 설정
+ * booklog.cache.invalidation.mode=jdbc 이면 공유 DB 테이블로 다른 노드에 전파, 그 외에는 단일 노드
+ */
+@Configuration
+public class CacheInvalidationConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "booklog.cache.invalidation.mode", havingValue = "jdbc")
+    public CacheInvalidationBus jdbcCacheInvalidationBus(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${booklog.cache.invalidation.batch-size:500}") int batchSize,
+            @Value("${booklog.cache.invalidation.retention-minutes:10}") long retentionMinutes,
+            @Value("${booklog.cache.invalidation.overlap-seconds:30}") long overlapSeconds) {
+        return new JdbcCacheInvalidationBus(jdbcTemplate, transactionManager, batchSize, retentionMinutes,
+                Duration.ofSeconds(overlapSeconds));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "booklog.cache.invalidation.mode", havingValue = "local", matchIfMissing = true)
+    public CacheInvalidationBus localCacheInvalidationBus() {
+        return new LocalCacheInvalidationBus();
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.booklog.common.config;
+
+import com.example.booklog.common.security.JdbcLoginAttemptStore;
+import com.example.booklog.common.security.LocalLoginAttemptStore;
+import com.example.booklog.common.security.LoginAttemptStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+
+/**
+ * 로그인 시도 횟수 저장소 설정
+ * booklog.auth.throttle.store=jdbc 이면 공유 DB 테이블로 노드 간 공유, 그 외에는 노드별 메모리
+ */
+@Configuration
+public class LoginThrottleConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "booklog.auth.throttle.store", havingValue = "jdbc")
+    public LoginAttemptStore jdbcLoginAttemptStore(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${booklog.auth.throttle.bucket-seconds:60}") long bucketSeconds,
+            @Value("${booklog.auth.throttle.window-buckets:10}") int windowBuckets) {
+        return new JdbcLoginAttemptStore(jdbcTemplate, transactionManager, bucketSeconds, windowBuckets);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "booklog.auth.throttle.store", havingValue = "local", matchIfMissing = true)
+    public LoginAttemptStore localLoginAttemptStore(
+            @Value("${booklog.auth.throttle.max-keys:100000}") long maxKeys,
+            @Value("${booklog.auth.throttle.bucket-seconds:60}") long bucketSeconds,
+            @Value("${booklog.auth.throttle.window-buckets:10}") int windowBuckets) {
+        return new LocalLoginAttemptStore(maxKeys, Duration.ofSeconds(bucketSeconds * windowBuckets));
+    }
+}
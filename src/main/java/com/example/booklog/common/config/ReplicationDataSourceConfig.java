@@ -0,0 +1,112 @@
+package com.example.booklog.common.config;
+
+import com.example.booklog.common.datasource.ReadYourWritesTracker;
+import com.example.booklog.common.datasource.ReplicaLagMonitor;
+import com.example.booklog.common.datasource.ReplicationRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 읽기/쓰기 분리 설정
+ * booklog.datasource.replica.enabled=true 일 때만 기본 DataSource를 대체
+ * 직접 만든 커넥션 풀에도 spring.datasource.hikari.* 설정을 적용하고, primary/replica 풀은 각 빈 종료 시 닫힘
+ */
+@Configuration
+@ConditionalOnProperty(name = "booklog.datasource.replica.enabled", havingValue = "true")
+public class ReplicationDataSourceConfig {
+
+    @Value("${booklog.datasource.replica.urls}")
+    private List<String> replicaUrls;
+
+    @Value("${booklog.datasource.replica.username:${spring.datasource.username}}")
+    private String replicaUsername;
+
+    @Value("${booklog.datasource.replica.password:${spring.datasource.password}}")
+    private String replicaPassword;
+
+    @Value("${booklog.datasource.replica.max-lag-seconds:5}")
+    private long maxLagSeconds;
+
+    @Value("${booklog.datasource.replica.lag-query:SHOW REPLICA STATUS}")
+    private String lagQuery;
+
+    @Value("${booklog.datasource.replica.sticky-window-ms:5000}")
+    private long stickyWindowMillis;
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker() {
+        return new ReadYourWritesTracker(stickyWindowMillis);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(DataSourceProperties properties,
+                                               ReadYourWritesTracker readYourWritesTracker,
+                                               Environment environment) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            String name = "replica-" + i;
+            replicas.put(name, bindHikariProperties(DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(properties.determineDriverClassName())
+                    .url(replicaUrls.get(i).trim())
+                    .username(replicaUsername)
+                    .password(replicaPassword)
+                    .build(), name, environment));
+        }
+        return new ReplicaLagMonitor(replicas, lagQuery, maxLagSeconds, readYourWritesTracker);
+    }
+
+    /**
+     * 쓰기용 primary 풀 (라우팅 DataSource는 종료 콜백이 없는 프록시로 감싸므로 별도 빈으로 등록하여 종료 시 닫음)
+     */
+    @Bean
+    public HikariDataSource primaryDataSource(DataSourceProperties properties, Environment environment) {
+        return bindHikariProperties(properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build(), "primary", environment);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primary,
+                                 ReplicaLagMonitor replicaLagMonitor,
+                                 ReadYourWritesTracker readYourWritesTracker) {
+        Map<Object, Object> targets = new HashMap<>(replicaLagMonitor.getReplicas());
+        targets.put(ReplicationRoutingDataSource.PRIMARY, primary);
+
+        ReplicationRoutingDataSource routingDataSource =
+                new ReplicationRoutingDataSource(replicaLagMonitor, readYourWritesTracker);
+        routingDataSource.setTargetDataSources(targets);
+        routingDataSource.setDefaultTargetDataSource(primary);
+        routingDataSource.afterPropertiesSet();
+
+        // 트랜잭션의 readOnly 여부가 정해진 뒤 실제 커넥션을 얻도록 지연
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /**
+     * spring.datasource.hikari.* 설정 적용 (풀 이름은 풀마다 구분)
+     */
+    private HikariDataSource bindHikariProperties(HikariDataSource dataSource, String poolName,
+                                                  Environment environment) {
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+        dataSource.setPoolName(poolName);
+        return dataSource;
+    }
+}
@@ -1,7 +1,10 @@
 package com.example.booklog.common.config;
 
+import com.example.booklog.common.security.BulkheadPasswordEncoder;
 import com.example.booklog.common.security.JwtAuthenticationFilter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -49,6 +52,7 @@ public class SecurityConfig {
                 .requestMatchers("/actuator/**").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/v1/books/search").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/v1/books/{googleBooksId}").permitAll()
+                .requestMatchers(HttpMethod.GET, "/api/v1/books/{googleBooksId}/rating-stats").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/v1/reviews/book/**").permitAll()
                 
                 // 나머지는 인증 필요
@@ -61,9 +65,18 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * BCrypt 연산은 전용 스레드 풀에서 실행 (로그인/회원가입이 몰려도 다른 API의 CPU를 잠식하지 않도록)
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry,
+                                           @Value("${booklog.auth.hash.threads:0}") int threads,
+                                           @Value("${booklog.auth.hash.queue-capacity:50}") int queueCapacity,
+                                           @Value("${booklog.auth.hash.timeout-ms:2000}") long timeoutMillis) {
+        // 0이면 코어 수의 절반 (최소 1)
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new BulkheadPasswordEncoder(new BCryptPasswordEncoder(), poolSize, queueCapacity, timeoutMillis,
+                meterRegistry);
     }
 
     @Bean
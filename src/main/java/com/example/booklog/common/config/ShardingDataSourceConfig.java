@@ -0,0 +1,142 @@
+package com.example.booklog.common.config;
+
+import com.example.booklog.common.datasource.ReferenceDataReplicator;
+import com.example.booklog.common.datasource.ShardContext;
+import com.example.booklog.common.datasource.ShardContextInterceptor;
+import com.example.booklog.common.datasource.ShardDataSources;
+import com.example.booklog.common.datasource.ShardKeyResolver;
+import com.example.booklog.common.datasource.ShardRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자 ID 해시 기반 샤딩 설정
+ * booklog.sharding.enabled=true 일 때만 기본 DataSource를 대체 (읽기 복제본 라우팅과 동시에 사용할 수 없음)
+ * 샤드 0은 spring.datasource(홈 샤드), 샤드 1..N은 booklog.sharding.urls 순서
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "booklog.sharding.enabled", havingValue = "true")
+public class ShardingDataSourceConfig implements WebMvcConfigurer {
+
+    @Value("${booklog.sharding.urls}")
+    private List<String> shardUrls;
+
+    @Value("${booklog.sharding.username:${spring.datasource.username}}")
+    private String shardUsername;
+
+    @Value("${booklog.sharding.password:${spring.datasource.password}}")
+    private String shardPassword;
+
+    @Value("${booklog.sharding.user-backfill.batch-size:500}")
+    private int userBackfillBatchSize;
+
+    @Bean
+    public ShardKeyResolver shardKeyResolver() {
+        return new ShardKeyResolver(shardUrls.size() + 1);
+    }
+
+    @Bean
+    public ShardDataSources shardDataSources(DataSourceProperties properties, ShardKeyResolver shardKeyResolver) {
+        List<DataSource> shards = new ArrayList<>();
+        shards.add(properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build());
+        for (String url : shardUrls) {
+            shards.add(DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(properties.determineDriverClassName())
+                    .url(url.trim())
+                    .username(shardUsername)
+                    .password(shardPassword)
+                    .build());
+        }
+        return new ShardDataSources(shards, shardKeyResolver);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardDataSources shardDataSources) {
+        Map<Object, Object> targets = new HashMap<>();
+        for (int shard = 0; shard < shardDataSources.shardCount(); shard++) {
+            targets.put(shard, shardDataSources.dataSource(shard));
+        }
+
+        ShardRoutingDataSource routingDataSource = new ShardRoutingDataSource();
+        routingDataSource.setTargetDataSources(targets);
+        routingDataSource.setDefaultTargetDataSource(shardDataSources.dataSource(ShardContext.HOME_SHARD));
+        routingDataSource.afterPropertiesSet();
+        return routingDataSource;
+    }
+
+    @Bean
+    public ReferenceDataReplicator referenceDataReplicator(ShardDataSources shardDataSources) {
+        return new ReferenceDataReplicator(shardDataSources, userBackfillBatchSize);
+    }
+
+    /**
+     * 시작 시 홈 샤드에만 있는 사용자를 소유 샤드에 복사 (샤딩 도입 이전 가입자, 가입 직후 복제 실패분)
+     * 샤드별 집계 작업(연간 리포트 등)이 샤드의 users 테이블을 읽으므로 필요
+     * 스키마 생성(ApplicationRunner) 이후에 실행되도록 ApplicationReadyEvent에서 실행
+     */
+    @Bean
+    @ConditionalOnProperty(name = "booklog.sharding.user-backfill.enabled", havingValue = "true", matchIfMissing = true)
+    public ApplicationListener<ApplicationReadyEvent> userShardBackfill(ReferenceDataReplicator referenceDataReplicator) {
+        return event -> {
+            try {
+                int copied = referenceDataReplicator.backfillUsers();
+                if (copied > 0) {
+                    log.info("소유 샤드에 없던 사용자 {}명을 복사했습니다.", copied);
+                }
+            } catch (RuntimeException e) {
+                // 남은 사용자는 첫 쓰기 때 복사되므로 시작은 계속
+                log.warn("사용자 샤드 백필에 실패했습니다.", e);
+            }
+        };
+    }
+
+    /**
+     * 새로 만든 샤드에 매핑된 테이블 생성 (로컬 H2 등 빈 데이터베이스 전용)
+     * 홈 샤드는 spring.jpa.hibernate.ddl-auto 설정을 따름
+     */
+    @Bean
+    @ConditionalOnProperty(name = "booklog.sharding.create-schema", havingValue = "true")
+    public ApplicationRunner shardSchemaInitializer(EntityManagerFactory entityManagerFactory,
+                                                    ShardDataSources shardDataSources) {
+        return args -> {
+            SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+            for (int shard = 1; shard < shardDataSources.shardCount(); shard++) {
+                ShardContext.callOn(shard, () -> {
+                    sessionFactory.getSchemaManager().exportMappedObjects(true);
+                    return null;
+                });
+                log.info("샤드 {} 스키마를 생성했습니다.", shard);
+            }
+        };
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ShardContextInterceptor(shardKeyResolver()));
+    }
+}
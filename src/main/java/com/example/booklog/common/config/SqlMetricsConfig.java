@@ -0,0 +1,48 @@
+package com.example.booklog.common.config;
+
+import com.example.booklog.common.datasource.ShardDataSources;
+import com.example.booklog.common.metrics.SqlMetricsContext;
+import com.example.booklog.common.metrics.SqlMetricsDataSource;
+import com.example.booklog.common.metrics.SqlMetricsFilter;
+import com.example.booklog.common.metrics.SqlMetricsProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * 요청별 SQL 구문 수/DB 시간/조회 행 수 측정 설정
+ * booklog.sql-metrics.enabled=false 이면 DataSource를 감싸지 않고 필터도 등록하지 않아 오버헤드 없음
+ */
+@Configuration
+@ConditionalOnProperty(name = "booklog.sql-metrics.enabled", havingValue = "true")
+@EnableConfigurationProperties(SqlMetricsProperties.class)
+public class SqlMetricsConfig {
+
+    @Bean
+    public static BeanPostProcessor sqlMetricsDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // 애플리케이션이 사용하는 기본 DataSource만 감쌈
+                if (bean instanceof DataSource dataSource && "dataSource".equals(beanName)) {
+                    return new SqlMetricsDataSource(dataSource);
+                }
+                // 샤드 직접 접근(scatter, 참조 데이터 복제)도 측정하고, scatter 작업 스레드로 측정 컨텍스트 전달
+                if (bean instanceof ShardDataSources shards) {
+                    shards.decorate(SqlMetricsDataSource::new, SqlMetricsContext::wrap);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public SqlMetricsFilter sqlMetricsFilter(MeterRegistry meterRegistry, SqlMetricsProperties properties) {
+        return new SqlMetricsFilter(meterRegistry, properties);
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.booklog.common.config;
+
+import com.example.booklog.common.web.ConditionalGetInterceptor;
+import com.example.booklog.common.web.ContentVersionService;
+import com.example.booklog.domain.book.service.BookService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 조건부 GET(ETag) 설정
+ * 연말 결산은 배치로 생성되어 버전 카운터가 증가하지 않으므로 제외
+ */
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "booklog.http.conditional-get.enabled", havingValue = "true")
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final ContentVersionService contentVersionService;
+    private final BookService bookService;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${booklog.http.conditional-get.book-id-cache-size:10000}")
+    private long bookIdCacheSize;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // 샤드 바인딩 인터셉터 이후에 실행
+        registry.addInterceptor(new ConditionalGetInterceptor(
+                        contentVersionService, bookService, transactionManager, bookIdCacheSize))
+                .addPathPatterns(
+                        "/api/v1/user-books", "/api/v1/user-books/**",
+                        "/api/v1/reviews/my", "/api/v1/reviews/book/*",
+                        "/api/v1/stats/my", "/api/v1/stats/my/history", "/api/v1/stats/my/history/**",
+                        "/api/v1/stats/my/activity")
+                .order(Ordered.LOWEST_PRECEDENCE);
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.booklog.common.datasource;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 마지막 쓰기 시각을 기록하여, 쓰기 직후의 읽기는 primary로 보내도록 판단
+ */
+public class ReadYourWritesTracker {
+
+    private final Map<Long, Long> lastWriteAt = new ConcurrentHashMap<>();
+    private final long stickyWindowMillis;
+
+    public ReadYourWritesTracker(long stickyWindowMillis) {
+        this.stickyWindowMillis = stickyWindowMillis;
+    }
+
+    /**
+     * 사용자의 쓰기 기록
+     */
+    public void recordWrite(Long userId) {
+        lastWriteAt.put(userId, System.currentTimeMillis());
+    }
+
+    /**
+     * 최근 쓰기 이후 sticky 구간 안에 있는지 확인
+     */
+    public boolean isSticky(Long userId) {
+        Long writtenAt = lastWriteAt.get(userId);
+        if (writtenAt == null) {
+            return false;
+        }
+        if (System.currentTimeMillis() - writtenAt < stickyWindowMillis) {
+            return true;
+        }
+        lastWriteAt.remove(userId, writtenAt);
+        return false;
+    }
+
+    /**
+     * 만료된 기록 정리
+     */
+    public void purgeExpired() {
+        long threshold = System.currentTimeMillis() - stickyWindowMillis;
+        lastWriteAt.values().removeIf(writtenAt -> writtenAt < threshold);
+    }
+}
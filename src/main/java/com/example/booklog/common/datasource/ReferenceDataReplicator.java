@@ -0,0 +1,231 @@
+package com.example.booklog.common.datasource;
+
+import com.example.booklog.domain.book.entity.Book;
+import com.example.booklog.domain.user.entity.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 샤드 간 참조 데이터 복제
+ * - books: 홈 샤드에서 ID를 확정한 뒤 모든 샤드에 같은 ID로 복제
+ * - users: 홈 샤드(인증용)와 사용자 소유 샤드에만 존재
+ *   가입 커밋 후 복제가 실패해도 첫 쓰기 전에 다시 확인해 복사하고, 샤딩 이전 사용자는 시작 시 백필
+ */
+@Slf4j
+public class ReferenceDataReplicator {
+
+    private static final String UPSERT_BOOK =
+            "INSERT INTO books (google_books_id, title, authors, publisher, published_date, description, " +
+            "page_count, thumbnail_url, isbn, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE google_books_id = google_books_id";
+
+    private static final String SELECT_BOOK =
+            "SELECT id, google_books_id, title, authors, publisher, published_date, description, " +
+            "page_count, thumbnail_url, isbn, created_at, updated_at FROM books WHERE google_books_id = ?";
+
+    private static final String COPY_BOOK =
+            "INSERT INTO books (id, google_books_id, title, authors, publisher, published_date, description, " +
+            "page_count, thumbnail_url, isbn, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE id = id";
+
+    private static final String SELECT_BOOK_KEYS =
+            "SELECT id, google_books_id FROM books WHERE id = ? OR google_books_id = ?";
+
+    private static final String COPY_USER =
+            "INSERT INTO users (id, username, email, password, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE username = VALUES(username), password = VALUES(password), " +
+            "updated_at = VALUES(updated_at)";
+
+    private static final String SELECT_USER =
+            "SELECT id, username, email, password, created_at, updated_at FROM users WHERE id = ?";
+
+    private static final String SELECT_USERS_AFTER =
+            "SELECT id, username, email, password, created_at, updated_at FROM users " +
+            "WHERE id > ? ORDER BY id LIMIT ?";
+
+    private static final String EXISTS_USER =
+            "SELECT COUNT(*) FROM users WHERE id = ?";
+
+    private static final String SELECT_USER_IDS_IN_RANGE =
+            "SELECT id FROM users WHERE id >= ? AND id <= ?";
+
+    private static final RowMapper<Object[]> USER_ROW = (rs, rowNum) -> new Object[]{
+            rs.getLong("id"), rs.getString("username"), rs.getString("email"), rs.getString("password"),
+            rs.getObject("created_at", LocalDateTime.class), rs.getObject("updated_at", LocalDateTime.class)};
+
+    private final ShardDataSources shardDataSources;
+    private final int userBackfillBatchSize;
+
+    // 소유 샤드에 행이 있음을 확인한 사용자 (노드별, 첫 쓰기 때만 샤드를 조회하기 위함)
+    private final Cache<Long, Boolean> replicatedUsers;
+
+    public ReferenceDataReplicator(ShardDataSources shardDataSources, int userBackfillBatchSize) {
+        this.shardDataSources = shardDataSources;
+        this.userBackfillBatchSize = userBackfillBatchSize;
+        this.replicatedUsers = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .build();
+    }
+
+    /**
+     * 홈 샤드에 책을 upsert하고 모든 샤드에 같은 행을 복제한 뒤 ID 반환
+     * 호출 트랜잭션과 무관하게 즉시 커밋되므로 이후 어느 샤드에서도 조회 가능
+     * 다른 샤드에 같은 Google Books ID가 다른 ID로(또는 같은 ID가 다른 책으로) 있으면 샤드 간 조인이 어긋나므로 실패
+     */
+    public Long upsertBook(Book book) {
+        JdbcTemplate home = shardDataSources.jdbcTemplate(ShardContext.HOME_SHARD);
+        LocalDateTime now = LocalDateTime.now();
+        home.update(UPSERT_BOOK,
+                book.getGoogleBooksId(), book.getTitle(), book.getAuthors(), book.getPublisher(),
+                book.getPublishedDate(), book.getDescription(), book.getPageCount(),
+                book.getThumbnailUrl(), book.getIsbn(), now, now);
+
+        // 먼저 추가된 행이 기준이 되도록 홈 샤드의 값을 그대로 복사
+        Object[] row = home.queryForObject(SELECT_BOOK, (rs, rowNum) -> {
+            Object[] values = new Object[12];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = rs.getObject(i + 1);
+            }
+            return values;
+        }, book.getGoogleBooksId());
+
+        for (int shard = 0; shard < shardDataSources.shardCount(); shard++) {
+            if (shard != ShardContext.HOME_SHARD) {
+                copyBook(shard, row);
+            }
+        }
+        return ((Number) row[0]).longValue();
+    }
+
+    private void copyBook(int shard, Object[] row) {
+        JdbcTemplate target = shardDataSources.jdbcTemplate(shard);
+        if (target.update(COPY_BOOK, row) == 1) {
+            return;
+        }
+
+        // 이미 행이 있으면 같은 책인지 확인 (ID와 Google Books ID가 모두 일치해야 함)
+        long id = ((Number) row[0]).longValue();
+        String googleBooksId = (String) row[1];
+        boolean consistent = target.query(SELECT_BOOK_KEYS, (rs, rowNum) ->
+                        rs.getLong("id") == id && googleBooksId.equals(rs.getString("google_books_id")),
+                id, googleBooksId).stream().allMatch(Boolean::booleanValue);
+        if (!consistent) {
+            log.error("샤드 {}의 책 행이 홈 샤드와 다릅니다. id={}, googleBooksId={}", shard, id, googleBooksId);
+            throw new IllegalStateException("샤드 " + shard + "에 ID가 다른 같은 책이 있습니다: " + googleBooksId);
+        }
+    }
+
+    /**
+     * 홈 샤드 트랜잭션이 커밋된 뒤 사용자 소유 샤드에 사용자 행 복제
+     * 실패해도 가입은 이미 커밋되었으므로 로그만 남기고, 첫 쓰기 전 {@link #ensureUserOnShard}에서 다시 복사
+     */
+    public void replicateUserAfterCommit(User user) {
+        Object[] row = {user.getId(), user.getUsername(), user.getEmail(), user.getPassword(),
+                user.getCreatedAt(), user.getUpdatedAt()};
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            replicateUser(row);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                replicateUser(row);
+            }
+        });
+    }
+
+    private void replicateUser(Object[] row) {
+        Long userId = (Long) row[0];
+        int shard = shardDataSources.shardFor(userId);
+        if (shard == ShardContext.HOME_SHARD) {
+            return;
+        }
+        try {
+            shardDataSources.jdbcTemplate(shard).update(COPY_USER, row);
+            replicatedUsers.put(userId, Boolean.TRUE);
+            log.debug("사용자 {}를 샤드 {}에 복제했습니다.", userId, shard);
+        } catch (RuntimeException e) {
+            log.warn("사용자 {}를 샤드 {}에 복제하지 못했습니다. 첫 쓰기 때 다시 복사합니다.", userId, shard, e);
+        }
+    }
+
+    /**
+     * 사용자 소유 샤드에 사용자 행이 없으면 홈 샤드에서 복사 (user_books, reviews 외래 키용)
+     * 호출 트랜잭션과 별도 커넥션에서 즉시 커밋되므로, 해당 샤드 트랜잭션의 첫 조회 전에 호출해야 함
+     * 홈 샤드에도 없으면 아무것도 하지 않으며 이후 조회에서 USER_NOT_FOUND로 처리됨
+     */
+    public void ensureUserOnShard(Long userId) {
+        int shard = shardDataSources.shardFor(userId);
+        if (shard == ShardContext.HOME_SHARD || replicatedUsers.getIfPresent(userId) != null) {
+            return;
+        }
+
+        JdbcTemplate target = shardDataSources.jdbcTemplate(shard);
+        Integer count = target.queryForObject(EXISTS_USER, Integer.class, userId);
+        if (count == null || count == 0) {
+            List<Object[]> rows = shardDataSources.jdbcTemplate(ShardContext.HOME_SHARD)
+                    .query(SELECT_USER, USER_ROW, userId);
+            if (rows.isEmpty()) {
+                return;
+            }
+            target.update(COPY_USER, rows.get(0));
+            log.info("샤드 {}에 없던 사용자 {}를 복사했습니다.", shard, userId);
+        }
+        replicatedUsers.put(userId, Boolean.TRUE);
+    }
+
+    /**
+     * 홈 샤드의 모든 사용자를 ID 순으로 훑어 소유 샤드에 없는 사용자 복사 (샤딩 도입 이전 사용자, 복제 실패분)
+     * 이미 있는 행은 건드리지 않으므로 여러 번 실행해도 안전
+     */
+    public int backfillUsers() {
+        JdbcTemplate home = shardDataSources.jdbcTemplate(ShardContext.HOME_SHARD);
+        int copied = 0;
+        long lastId = 0;
+        while (true) {
+            List<Object[]> rows = home.query(SELECT_USERS_AFTER, USER_ROW, lastId, userBackfillBatchSize);
+            if (rows.isEmpty()) {
+                return copied;
+            }
+            long firstId = (Long) rows.get(0)[0];
+            lastId = (Long) rows.get(rows.size() - 1)[0];
+
+            Map<Integer, List<Object[]>> rowsByShard = new HashMap<>();
+            for (Object[] row : rows) {
+                int shard = shardDataSources.shardFor((Long) row[0]);
+                if (shard != ShardContext.HOME_SHARD) {
+                    rowsByShard.computeIfAbsent(shard, key -> new ArrayList<>()).add(row);
+                }
+            }
+
+            for (Map.Entry<Integer, List<Object[]>> entry : rowsByShard.entrySet()) {
+                JdbcTemplate target = shardDataSources.jdbcTemplate(entry.getKey());
+                Set<Long> existing = new HashSet<>(
+                        target.queryForList(SELECT_USER_IDS_IN_RANGE, Long.class, firstId, lastId));
+                List<Object[]> missing = entry.getValue().stream()
+                        .filter(row -> !existing.contains((Long) row[0]))
+                        .toList();
+                if (!missing.isEmpty()) {
+                    target.batchUpdate(COPY_USER, missing);
+                    copied += missing.size();
+                }
+            }
+        }
+    }
+}
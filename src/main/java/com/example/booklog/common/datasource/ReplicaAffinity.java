@@ -0,0 +1,40 @@
+package com.example.booklog.common.datasource;
+
+/**
+ * 현재 스레드(요청)의 읽기 전용 트랜잭션들을 처음 선택된 같은 노드로 보내기 위한 고정 범위
+ * 조건부 GET에서 버전을 읽은 노드에서 본문도 읽어, 트랜잭션을 요청 전체로 늘리지 않고도 본문이 버전보다 오래되지 않게 함
+ * 범위 밖에서는 라우팅에 영향 없음
+ */
+public final class ReplicaAffinity {
+
+    private static final ThreadLocal<String[]> PINNED = new ThreadLocal<>();
+
+    private ReplicaAffinity() {
+    }
+
+    public static void begin() {
+        PINNED.set(new String[1]);
+    }
+
+    public static void end() {
+        PINNED.remove();
+    }
+
+    /**
+     * 범위 안에서 이미 선택된 노드 (범위 밖이거나 아직 선택 전이면 null)
+     */
+    static String pinned() {
+        String[] slot = PINNED.get();
+        return slot != null ? slot[0] : null;
+    }
+
+    /**
+     * 범위 안이면 선택한 노드를 고정
+     */
+    static void pin(String lookupKey) {
+        String[] slot = PINNED.get();
+        if (slot != null && slot[0] == null) {
+            slot[0] = lookupKey;
+        }
+    }
+}
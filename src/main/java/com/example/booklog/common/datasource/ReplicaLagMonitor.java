@@ -0,0 +1,128 @@
+package com.example.booklog.common.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * replica 복제 지연을 주기적으로 확인하여 읽기 가능한 replica 목록을 관리
+ * replica 커넥션 풀을 소유하므로 빈 종료 시 함께 닫음
+ */
+@Slf4j
+public class ReplicaLagMonitor implements AutoCloseable {
+
+    private final Map<String, DataSource> replicas;
+    private final String lagQuery;
+    private final long maxLagSeconds;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final AtomicInteger roundRobin = new AtomicInteger();
+
+    // 최초 확인 전까지는 replica를 사용하지 않음
+    private volatile List<String> healthyReplicas = List.of();
+
+    public ReplicaLagMonitor(Map<String, DataSource> replicas, String lagQuery, long maxLagSeconds,
+                             ReadYourWritesTracker readYourWritesTracker) {
+        this.replicas = replicas;
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLagSeconds;
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    public Map<String, DataSource> getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * 마지막 확인에서 사용 가능했던 replica인지
+     */
+    public boolean isHealthy(String name) {
+        return healthyReplicas.contains(name);
+    }
+
+    /**
+     * 사용 가능한 replica를 라운드 로빈으로 선택
+     */
+    public Optional<String> nextHealthyReplica() {
+        List<String> candidates = healthyReplicas;
+        if (candidates.isEmpty()) {
+            return Optional.empty();
+        }
+        int index = Math.floorMod(roundRobin.getAndIncrement(), candidates.size());
+        return Optional.of(candidates.get(index));
+    }
+
+    /**
+     * replica 상태 및 복제 지연 확인
+     */
+    @Scheduled(fixedDelayString = "${booklog.datasource.replica.lag-check-interval-ms:2000}")
+    public void checkReplicas() {
+        List<String> healthy = new ArrayList<>();
+        for (Map.Entry<String, DataSource> replica : replicas.entrySet()) {
+            try {
+                long lagSeconds = measureLagSeconds(replica.getValue());
+                if (lagSeconds <= maxLagSeconds) {
+                    healthy.add(replica.getKey());
+                } else {
+                    log.warn("Replica {} is lagging by {}s, routing reads to primary", replica.getKey(), lagSeconds);
+                }
+            } catch (Exception e) {
+                log.warn("Replica {} health check failed: {}", replica.getKey(), e.getMessage());
+            }
+        }
+        healthyReplicas = List.copyOf(healthy);
+        readYourWritesTracker.purgeExpired();
+    }
+
+    private long measureLagSeconds(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            if (lagQuery == null || lagQuery.isBlank()) {
+                // 지연 쿼리가 없으면 연결 가능 여부만 확인 (H2 등 로컬 환경)
+                if (!connection.isValid(1)) {
+                    throw new SQLException("connection is not valid");
+                }
+                return 0;
+            }
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery(lagQuery)) {
+                if (!rs.next()) {
+                    // 복제 설정이 없는 인스턴스는 지연 없음으로 간주
+                    return 0;
+                }
+                long lag = readLagColumn(rs);
+                if (rs.wasNull()) {
+                    throw new SQLException("replication is not running");
+                }
+                return lag;
+            }
+        }
+    }
+
+    private long readLagColumn(ResultSet rs) throws SQLException {
+        try {
+            return rs.getLong("Seconds_Behind_Source");
+        } catch (SQLException e) {
+            // MySQL 8.0.22 이전 버전
+            return rs.getLong("Seconds_Behind_Master");
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        healthyReplicas = List.of();
+        for (DataSource dataSource : replicas.values()) {
+            if (dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
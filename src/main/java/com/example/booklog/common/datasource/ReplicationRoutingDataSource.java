@@ -0,0 +1,59 @@
+package com.example.booklog.common.datasource;
+
+import com.example.booklog.domain.user.service.CustomUserDetails;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기 전용 트랜잭션은 replica로, 그 외에는 primary로 라우팅
+ * LazyConnectionDataSourceProxy로 감싸서 트랜잭션 속성이 결정된 뒤 커넥션을 얻어야 함
+ * ReplicaAffinity 범위 안에서는 처음 선택한 노드를 계속 사용 (그 replica가 지연되면 primary)
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReplicationRoutingDataSource(ReplicaLagMonitor replicaLagMonitor,
+                                        ReadYourWritesTracker readYourWritesTracker) {
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Long userId = currentUserId();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (userId != null && TransactionSynchronizationManager.isActualTransactionActive()) {
+                readYourWritesTracker.recordWrite(userId);
+            }
+            return PRIMARY;
+        }
+
+        // 같은 범위의 이전 읽기보다 오래된 데이터를 보지 않도록 같은 노드 (primary는 어느 replica보다 최신)
+        String pinned = ReplicaAffinity.pinned();
+        if (pinned != null) {
+            return PRIMARY.equals(pinned) || replicaLagMonitor.isHealthy(pinned) ? pinned : PRIMARY;
+        }
+
+        // 본인의 쓰기 직후에는 복제 지연과 무관하게 primary에서 읽음
+        String lookupKey = userId != null && readYourWritesTracker.isSticky(userId)
+                ? PRIMARY
+                : replicaLagMonitor.nextHealthyReplica().orElse(PRIMARY);
+        ReplicaAffinity.pin(lookupKey);
+        return lookupKey;
+    }
+
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return userDetails.getUserId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.booklog.common.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드에서 사용할 샤드 번호 보관 (없으면 홈 샤드)
+ */
+public final class ShardContext {
+
+    public static final int HOME_SHARD = 0;
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static void bind(int shard) {
+        CURRENT.set(shard);
+    }
+
+    public static int current() {
+        Integer shard = CURRENT.get();
+        return shard != null ? shard : HOME_SHARD;
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 지정한 샤드에서 작업을 실행하고 이전 샤드로 복원
+     */
+    public static <T> T callOn(int shard, Supplier<T> task) {
+        Integer previous = CURRENT.get();
+        CURRENT.set(shard);
+        try {
+            return task.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.booklog.common.datasource;
+
+import com.example.booklog.domain.user.service.CustomUserDetails;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 인증된 요청은 해당 사용자의 샤드에 바인딩
+ * 컨트롤러의 첫 DB 접근 전에 실행되어야 하므로 인터셉터로 등록
+ */
+@RequiredArgsConstructor
+public class ShardContextInterceptor implements HandlerInterceptor {
+
+    private final ShardKeyResolver shardKeyResolver;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            ShardContext.bind(shardKeyResolver.shardFor(userDetails.getUserId()));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        ShardContext.clear();
+    }
+}
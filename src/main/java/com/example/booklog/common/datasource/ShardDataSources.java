@@ -0,0 +1,98 @@
+package com.example.booklog.common.datasource;
+
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * 샤드별 원본 DataSource 목록
+ * 샤드 간 조회(scatter-gather)나 참조 테이블 복제처럼 트랜잭션 밖에서 특정 샤드에 접근할 때 사용
+ */
+public class ShardDataSources implements AutoCloseable {
+
+    private final List<DataSource> dataSources;
+    private final ShardKeyResolver shardKeyResolver;
+    private final ExecutorService executor;
+    private volatile List<JdbcTemplate> jdbcTemplates;
+    private volatile TaskDecorator taskDecorator = runnable -> runnable;
+
+    public ShardDataSources(List<DataSource> dataSources, ShardKeyResolver shardKeyResolver) {
+        this.dataSources = List.copyOf(dataSources);
+        this.jdbcTemplates = toJdbcTemplates(dataSources, UnaryOperator.identity());
+        this.shardKeyResolver = shardKeyResolver;
+        this.executor = Executors.newFixedThreadPool(dataSources.size(), runnable -> {
+            Thread thread = new Thread(runnable, "shard-query");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 직접 접근용 JdbcTemplate의 DataSource와 scatter 작업을 감쌈 (SQL 측정 등)
+     * dataSource(int)는 라우팅 DataSource의 대상이므로 원본 그대로 유지
+     */
+    public void decorate(UnaryOperator<DataSource> dataSourceDecorator, TaskDecorator taskDecorator) {
+        this.jdbcTemplates = toJdbcTemplates(dataSources, dataSourceDecorator);
+        this.taskDecorator = taskDecorator;
+    }
+
+    public int shardCount() {
+        return dataSources.size();
+    }
+
+    public DataSource dataSource(int shard) {
+        return dataSources.get(shard);
+    }
+
+    public JdbcTemplate jdbcTemplate(int shard) {
+        return jdbcTemplates.get(shard);
+    }
+
+    public int shardFor(Long userId) {
+        return shardKeyResolver.shardFor(userId);
+    }
+
+    /**
+     * 모든 샤드에 같은 조회를 병렬로 실행하고 샤드 순서대로 결과 반환
+     */
+    public <T> List<T> scatter(Function<JdbcTemplate, T> query) {
+        List<JdbcTemplate> templates = jdbcTemplates;
+        TaskDecorator decorator = taskDecorator;
+        List<CompletableFuture<T>> futures = new ArrayList<>(templates.size());
+        for (JdbcTemplate jdbcTemplate : templates) {
+            // 호출 스레드의 컨텍스트를 작업 스레드로 전달할 수 있도록 제출 시점에 감쌈
+            futures.add(CompletableFuture.supplyAsync(() -> query.apply(jdbcTemplate),
+                    runnable -> executor.execute(decorator.decorate(runnable))));
+        }
+        return futures.stream()
+                .map(CompletableFuture::join)
+                .collect(Collectors.toList());
+    }
+
+    private static List<JdbcTemplate> toJdbcTemplates(List<DataSource> dataSources,
+                                                      UnaryOperator<DataSource> dataSourceDecorator) {
+        return dataSources.stream()
+                .map(dataSourceDecorator)
+                .map(JdbcTemplate::new)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    @Override
+    public void close() throws Exception {
+        executor.shutdown();
+        for (DataSource dataSource : dataSources) {
+            if (dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
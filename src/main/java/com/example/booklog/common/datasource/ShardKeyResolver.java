@@ -0,0 +1,34 @@
+package com.example.booklog.common.datasource;
+
+/**
+ * 사용자 ID를 해시하여 샤드 번호를 결정
+ */
+public class ShardKeyResolver {
+
+    private final int shardCount;
+
+    public ShardKeyResolver(int shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("샤드는 최소 1개 이상이어야 합니다.");
+        }
+        this.shardCount = shardCount;
+    }
+
+    public int shardCount() {
+        return shardCount;
+    }
+
+    public int shardFor(Long userId) {
+        return Math.floorMod(mix(userId), shardCount);
+    }
+
+    // 연속된 ID가 고르게 분산되도록 비트를 섞음 (MurmurHash3 fmix64)
+    private static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return key;
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.booklog.common.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 하나에서 발생한 JDBC 구문 수, DB 소요 시간, 조회 행 수
+ * 샤드 병렬 조회처럼 요청 스레드가 아닌 작업 스레드에서도 갱신되므로 LongAdder로 누적
+ */
+public class SqlMetrics {
+
+    private final LongAdder statementCount = new LongAdder();
+    private final LongAdder elapsedNanos = new LongAdder();
+    private final LongAdder rowCount = new LongAdder();
+
+    void recordStatement(long nanos) {
+        statementCount.increment();
+        elapsedNanos.add(nanos);
+    }
+
+    void recordRow() {
+        rowCount.increment();
+    }
+
+    public long getStatementCount() {
+        return statementCount.sum();
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos.sum();
+    }
+
+    public long getRowCount() {
+        return rowCount.sum();
+    }
+
+    public long getElapsedMillis() {
+        return getElapsedNanos() / 1_000_000;
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.booklog.common.metrics;
+
+/**
+ * 현재 요청의 SqlMetrics를 스레드에 보관
+ */
+public final class SqlMetricsContext {
+
+    private static final ThreadLocal<SqlMetrics> CURRENT = new ThreadLocal<>();
+
+    private SqlMetricsContext() {
+    }
+
+    public static SqlMetrics start() {
+        SqlMetrics metrics = new SqlMetrics();
+        CURRENT.set(metrics);
+        return metrics;
+    }
+
+    public static SqlMetrics current() {
+        return CURRENT.get();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 현재 요청의 측정 컨텍스트를 다른 스레드에서 실행될 작업에 전달 (샤드 병렬 조회 등)
+     */
+    public static Runnable wrap(Runnable task) {
+        SqlMetrics metrics = CURRENT.get();
+        if (metrics == null) {
+            return task;
+        }
+        return () -> {
+            SqlMetrics previous = CURRENT.get();
+            CURRENT.set(metrics);
+            try {
+                task.run();
+            } finally {
+                if (previous != null) {
+                    CURRENT.set(previous);
+                } else {
+                    CURRENT.remove();
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.booklog.common.metrics;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 커넥션/구문/결과셋을 프록시로 감싸 현재 요청의 SqlMetrics에 기록하는 DataSource
+ * 요청 컨텍스트가 없으면 측정 없이 그대로 위임
+ */
+public class SqlMetricsDataSource extends DelegatingDataSource {
+
+    public SqlMetricsDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxyConnection(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return proxyConnection(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private static Connection proxyConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                SqlMetricsDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new ConnectionHandler(connection));
+    }
+
+    /**
+     * 프록시 자신의 동일성(equals/hashCode)을 유지한 채 대상 객체로 위임
+     * (Hibernate가 구문/결과셋을 해시 기반으로 추적하므로 필요)
+     */
+    private abstract static class DelegatingHandler implements InvocationHandler {
+
+        private final Object target;
+
+        DelegatingHandler(Object target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    return handle(proxy, method, args);
+            }
+        }
+
+        protected abstract Object handle(Object proxy, Method method, Object[] args) throws Throwable;
+
+        protected Object delegate(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+
+    private static class ConnectionHandler extends DelegatingHandler {
+
+        ConnectionHandler(Connection target) {
+            super(target);
+        }
+
+        @Override
+        protected Object handle(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = delegate(method, args);
+            if (result instanceof Statement statement) {
+                Class<?> type = statement instanceof CallableStatement ? CallableStatement.class
+                        : statement instanceof PreparedStatement ? PreparedStatement.class
+                        : Statement.class;
+                return Proxy.newProxyInstance(
+                        SqlMetricsDataSource.class.getClassLoader(),
+                        new Class<?>[]{type},
+                        new StatementHandler(statement, (Connection) proxy));
+            }
+            return result;
+        }
+    }
+
+    private static class StatementHandler extends DelegatingHandler {
+
+        private final Connection connectionProxy;
+
+        StatementHandler(Statement target, Connection connectionProxy) {
+            super(target);
+            this.connectionProxy = connectionProxy;
+        }
+
+        @Override
+        protected Object handle(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if ("getConnection".equals(name)) {
+                return connectionProxy;
+            }
+
+            SqlMetrics metrics = SqlMetricsContext.current();
+            if (metrics == null) {
+                return delegate(method, args);
+            }
+
+            Object result;
+            if (name.startsWith("execute")) {
+                long start = System.nanoTime();
+                try {
+                    result = delegate(method, args);
+                } finally {
+                    metrics.recordStatement(System.nanoTime() - start);
+                }
+            } else {
+                result = delegate(method, args);
+            }
+
+            if (result instanceof ResultSet resultSet && !"getGeneratedKeys".equals(name)) {
+                return Proxy.newProxyInstance(
+                        SqlMetricsDataSource.class.getClassLoader(),
+                        new Class<?>[]{ResultSet.class},
+                        new ResultSetHandler(resultSet, (Statement) proxy, metrics));
+            }
+            return result;
+        }
+    }
+
+    private static class ResultSetHandler extends DelegatingHandler {
+
+        private final Statement statementProxy;
+        private final SqlMetrics metrics;
+
+        ResultSetHandler(ResultSet target, Statement statementProxy, SqlMetrics metrics) {
+            super(target);
+            this.statementProxy = statementProxy;
+            this.metrics = metrics;
+        }
+
+        @Override
+        protected Object handle(Object proxy, Method method, Object[] args) throws Throwable {
+            if ("getStatement".equals(method.getName())) {
+                return statementProxy;
+            }
+            Object result = delegate(method, args);
+            if ("next".equals(method.getName()) && Boolean.TRUE.equals(result)) {
+                metrics.recordRow();
+            }
+            return result;
+        }
+    }
+}
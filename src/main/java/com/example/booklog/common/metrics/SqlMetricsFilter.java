@@ -0,0 +1,144 @@
+package com.example.booklog.common.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 단위로 SQL 측정 컨텍스트를 열고, 종료 시 메트릭 기록 및 예산 초과 경고
+ * 측정값 헤더(X-DB-*)는 응답이 커밋되기 직전에 설정 (본문을 쓰기 시작할 때, 본문이 없으면 필터 체인 종료 시)
+ * 204, 304처럼 본문이 없는 응답에도 헤더가 붙음
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SqlMetricsFilter extends OncePerRequestFilter implements Ordered {
+
+    private final MeterRegistry meterRegistry;
+    private final SqlMetricsProperties properties;
+
+    @Override
+    public int getOrder() {
+        // 인증 필터의 사용자 조회까지 포함하도록 가장 먼저 실행
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        SqlMetrics metrics = SqlMetricsContext.start();
+        MetricsHeaderResponse metricsResponse = properties.isExposeHeaders()
+                ? new MetricsHeaderResponse(response, metrics)
+                : null;
+        try {
+            filterChain.doFilter(request, metricsResponse != null ? metricsResponse : response);
+        } finally {
+            if (metricsResponse != null) {
+                metricsResponse.writeMetricsHeaders();
+            }
+            SqlMetricsContext.clear();
+            record(request, metrics);
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlMetrics metrics) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String endpoint = pattern != null ? pattern.toString() : "UNMAPPED";
+        String method = request.getMethod();
+
+        DistributionSummary.builder("booklog.http.db.statements")
+                .tags("endpoint", endpoint, "method", method)
+                .register(meterRegistry)
+                .record(metrics.getStatementCount());
+        DistributionSummary.builder("booklog.http.db.rows")
+                .tags("endpoint", endpoint, "method", method)
+                .register(meterRegistry)
+                .record(metrics.getRowCount());
+        Timer.builder("booklog.http.db.time")
+                .tags("endpoint", endpoint, "method", method)
+                .register(meterRegistry)
+                .record(metrics.getElapsedNanos(), TimeUnit.NANOSECONDS);
+
+        int budget = properties.budgetFor(endpoint);
+        if (metrics.getStatementCount() > budget) {
+            log.warn("SQL budget exceeded: {} {} statements={} (budget {}), dbTime={}ms, rows={}",
+                    method, endpoint, metrics.getStatementCount(), budget,
+                    metrics.getElapsedMillis(), metrics.getRowCount());
+        }
+    }
+
+    /**
+     * 응답이 커밋될 수 있는 첫 시점에 측정값 헤더를 한 번 설정
+     */
+    private static class MetricsHeaderResponse extends HttpServletResponseWrapper {
+
+        private final SqlMetrics metrics;
+        private boolean headersWritten;
+
+        MetricsHeaderResponse(HttpServletResponse response, SqlMetrics metrics) {
+            super(response);
+            this.metrics = metrics;
+        }
+
+        void writeMetricsHeaders() {
+            if (headersWritten || isCommitted()) {
+                return;
+            }
+            headersWritten = true;
+            setHeader("X-DB-Statements", String.valueOf(metrics.getStatementCount()));
+            setHeader("X-DB-Time-Ms", String.valueOf(metrics.getElapsedMillis()));
+            setHeader("X-DB-Rows", String.valueOf(metrics.getRowCount()));
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeMetricsHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeMetricsHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeMetricsHeaders();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeMetricsHeaders();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeMetricsHeaders();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeMetricsHeaders();
+            super.sendRedirect(location);
+        }
+    }
+}
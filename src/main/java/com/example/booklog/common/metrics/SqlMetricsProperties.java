@@ -0,0 +1,30 @@
+package com.example.booklog.common.metrics;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "booklog.sql-metrics")
+public class SqlMetricsProperties {
+
+    // 요청별 SQL 측정 활성화 여부 (비활성화 시 DataSource를 감싸지 않음)
+    private boolean enabled = false;
+
+    // 응답 헤더(X-DB-*)로 측정값 노출 여부
+    private boolean exposeHeaders = true;
+
+    // 엔드포인트별 예산이 없을 때 적용할 요청당 최대 구문 수
+    private int defaultStatementBudget = 20;
+
+    // 엔드포인트(URI 패턴)별 요청당 최대 구문 수
+    private Map<String, Integer> statementBudgets = new HashMap<>();
+
+    public int budgetFor(String endpoint) {
+        return statementBudgets.getOrDefault(endpoint, defaultStatementBudget);
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.booklog.common.security;
+
+import com.example.booklog.common.datasource.ShardContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 공유 DB 테이블 저장소 (여러 노드가 같은 카운터 사용)
+ * 키-버킷마다 한 행을 원자적으로 증가시키고 윈도 안의 행을 합산, 윈도가 지난 행은 주기적으로 삭제
+ * 샤딩 환경에서는 홈 샤드의 테이블을 사용
+ */
+public class JdbcLoginAttemptStore implements LoginAttemptStore {
+
+    private static final String INCREMENT =
+            "INSERT INTO login_attempts (throttle_key, bucket, attempts) VALUES (?, ?, 1) " +
+            "ON DUPLICATE KEY UPDATE attempts = attempts + 1";
+
+    private static final String SUM_WINDOW =
+            "SELECT COALESCE(SUM(attempts), 0) FROM login_attempts WHERE throttle_key = ? AND bucket > ?";
+
+    private static final String DECREMENT =
+            "UPDATE login_attempts SET attempts = attempts - 1 WHERE throttle_key = ? AND bucket = ? AND attempts > 0";
+
+    private static final String RESET = "DELETE FROM login_attempts WHERE throttle_key = ?";
+
+    private static final String PURGE = "DELETE FROM login_attempts WHERE bucket <= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final long bucketSeconds;
+    private final int windowBuckets;
+
+    public JdbcLoginAttemptStore(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                 long bucketSeconds, int windowBuckets) {
+        this.jdbcTemplate = jdbcTemplate;
+        // 로그인 트랜잭션과 분리하여 실패한 로그인도 기록되도록 새 트랜잭션 사용
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.bucketSeconds = bucketSeconds;
+        this.windowBuckets = windowBuckets;
+    }
+
+    /**
+     * 현재 버킷 행을 잠근 상태에서 합산하므로 같은 키의 동시 증가는 차례로 서로의 결과를 봄
+     */
+    @Override
+    public long increment(String key, long bucket, int windowBuckets) {
+        return ShardContext.callOn(ShardContext.HOME_SHARD, () -> transactionTemplate.execute(status -> {
+            jdbcTemplate.update(INCREMENT, key, bucket);
+            return jdbcTemplate.queryForObject(SUM_WINDOW, Long.class, key, bucket - windowBuckets);
+        }));
+    }
+
+    @Override
+    public void decrement(String key, long bucket) {
+        ShardContext.callOn(ShardContext.HOME_SHARD, () -> transactionTemplate.execute(status ->
+                jdbcTemplate.update(DECREMENT, key, bucket)));
+    }
+
+    @Override
+    public void reset(String key) {
+        ShardContext.callOn(ShardContext.HOME_SHARD, () -> transactionTemplate.execute(status ->
+                jdbcTemplate.update(RESET, key)));
+    }
+
+    @Scheduled(fixedDelayString = "${booklog.auth.throttle.purge-interval-ms:60000}")
+    public void purge() {
+        long currentBucket = System.currentTimeMillis() / 1000 / bucketSeconds;
+        ShardContext.callOn(ShardContext.HOME_SHARD, () ->
+                jdbcTemplate.update(PURGE, currentBucket - windowBuckets));
+    }
+}
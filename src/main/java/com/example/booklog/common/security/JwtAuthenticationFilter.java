@@ -1,12 +1,16 @@
 package com.example.booklog.common.security;
 
 import com.example.booklog.common.util.JwtUtil;
+import com.example.booklog.domain.user.service.CustomUserDetails;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -24,6 +28,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final UserDetailsService userDetailsService;
+    private final TokenRevocationList tokenRevocationList;
+
+    // claims: 검증된 토큰 클레임으로 인증 주체 생성 (요청마다 users 조회 없음), database: 요청마다 사용자 조회
+    @Value("${booklog.security.principal-source:claims}")
+    private String principalSource;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, 
@@ -32,25 +41,33 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         final String authorizationHeader = request.getHeader("Authorization");
         
-        String email = null;
-        String jwt = null;
-        
         // Authorization 헤더에서 JWT 토큰 추출
-        if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
-            jwt = jwtUtil.getTokenFromAuthorizationHeader(authorizationHeader);
+        String jwt = jwtUtil.getTokenFromAuthorizationHeader(authorizationHeader);
+        
+        // 토큰이 있고 아직 인증되지 않은 경우
+        if (jwt != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            // 서명과 만료는 여기서 한 번만 검증 (검증된 토큰은 JwtUtil 캐시에서 바로 반환)
+            Claims claims = null;
             try {
-                email = jwtUtil.getEmailFromToken(jwt);
-            } catch (Exception e) {
-                log.warn("Cannot get email from JWT token: {}", e.getMessage());
+                claims = jwtUtil.parseClaims(jwt);
+            } catch (JwtException | IllegalArgumentException e) {
+                log.warn("Invalid JWT token: {}", e.getMessage());
             }
-        }
-        
-        // 토큰이 유효하고 아직 인증되지 않은 경우
-        if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(email);
-            
-            // 토큰 유효성 검증
-            if (jwtUtil.validateToken(jwt, email)) {
+
+            // 폐기된 토큰은 인증하지 않음 (메모리 블룸 필터 확인, DB 조회 없음)
+            if (claims != null && claims.getId() != null && tokenRevocationList.isRevoked(claims.getId())) {
+                log.debug("Revoked JWT token: {}", claims.getId());
+                claims = null;
+            }
+
+            UserDetails userDetails = null;
+            if (claims != null) {
+                userDetails = "database".equals(principalSource)
+                        ? loadFromDatabase(claims)
+                        : loadFromClaims(claims);
+            }
+
+            if (userDetails != null) {
                 UsernamePasswordAuthenticationToken authToken = 
                     new UsernamePasswordAuthenticationToken(
                         userDetails, 
@@ -64,4 +81,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         filterChain.doFilter(request, response);
     }
-} 
\ No newline at end of file
+
+    /**
+     * 클레임으로 인증 주체 생성 (userId 클레임이 없는 토큰은 DB에서 사용자 조회)
+     */
+    private UserDetails loadFromClaims(Claims claims) {
+        Long userId = claims.get("userId", Long.class);
+        if (userId == null || claims.getSubject() == null) {
+            return loadFromDatabase(claims);
+        }
+        return CustomUserDetails.fromClaims(userId, claims.getSubject(), claims.get("username", String.class));
+    }
+
+    /**
+     * 토큰의 이메일로 사용자를 조회하여 인증 주체 생성
+     */
+    private UserDetails loadFromDatabase(Claims claims) {
+        String email = claims.getSubject();
+        return email != null ? this.userDetailsService.loadUserByUsername(email) : null;
+    }
+}
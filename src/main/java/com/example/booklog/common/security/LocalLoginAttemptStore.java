@@ -0,0 +1,82 @@
+package com.example.booklog.common.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+
+/**
+ * 노드별 메모리 저장소
+ * 키 수는 maxKeys로 제한하고(초과 시 오래 쓰이지 않은 키부터 제거), 윈도 동안 시도가 없는 키는 만료
+ * 키마다 버킷 링을 두고 키 단위로만 잠가 서로 다른 IP/이메일 사이에는 경합이 없음
+ */
+public class LocalLoginAttemptStore implements LoginAttemptStore {
+
+    private final Cache<String, Window> windows;
+
+    public LocalLoginAttemptStore(long maxKeys, Duration window) {
+        this.windows = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(window)
+                .build();
+    }
+
+    @Override
+    public void decrement(String key, long bucket) {
+        Window window = windows.getIfPresent(key);
+        if (window != null) {
+            window.decrement(bucket);
+        }
+    }
+
+    @Override
+    public long increment(String key, long bucket, int windowBuckets) {
+        return windows.get(key, k -> new Window(windowBuckets)).increment(bucket);
+    }
+
+    @Override
+    public void reset(String key) {
+        windows.invalidate(key);
+    }
+
+    /**
+     * 버킷 링 (슬롯 = 버킷 % 크기, 지난 버킷의 슬롯은 재사용 시 초기화)
+     */
+    private static class Window {
+
+        private final long[] buckets;
+        private final long[] counts;
+
+        Window(int size) {
+            this.buckets = new long[size];
+            this.counts = new long[size];
+        }
+
+        synchronized long increment(long bucket) {
+            int slot = (int) Math.floorMod(bucket, (long) buckets.length);
+            if (buckets[slot] != bucket) {
+                buckets[slot] = bucket;
+                counts[slot] = 0;
+            }
+            counts[slot]++;
+            return sum(bucket);
+        }
+
+        synchronized void decrement(long bucket) {
+            int slot = (int) Math.floorMod(bucket, (long) buckets.length);
+            if (buckets[slot] == bucket && counts[slot] > 0) {
+                counts[slot]--;
+            }
+        }
+
+        synchronized long sum(long bucket) {
+            long total = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                if (bucket - buckets[i] < buckets.length) {
+                    total += counts[i];
+                }
+            }
+            return total;
+        }
+    }
+}
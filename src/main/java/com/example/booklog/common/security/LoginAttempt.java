@@ -0,0 +1,41 @@
+package com.example.booklog.common.security;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * JdbcLoginAttemptStore가 사용하는 키-버킷별 로그인 시도 수 (스키마 생성용 매핑)
+ */
+@Entity
+@Table(name = "login_attempts")
+@IdClass(LoginAttempt.LoginAttemptId.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LoginAttempt {
+
+    @Id
+    @Column(name = "throttle_key", length = 120)
+    private String throttleKey;
+
+    @Id
+    @Column(name = "bucket")
+    private Long bucket;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class LoginAttemptId implements Serializable {
+        private String throttleKey;
+        private Long bucket;
+    }
+}
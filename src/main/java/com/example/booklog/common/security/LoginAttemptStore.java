@@ -0,0 +1,23 @@
+package com.example.booklog.common.security;
+
+/**
+ * 로그인 시도 횟수 저장소 (시간 버킷 단위 슬라이딩 윈도)
+ * 증가와 합계 조회는 원자적이어야 함 (동시 시도가 같은 합계를 보고 함께 통과하지 않도록)
+ */
+public interface LoginAttemptStore {
+
+    /**
+     * 현재 버킷에 1회를 더하고, 현재 버킷을 포함한 최근 windowBuckets개 버킷의 합계 반환
+     */
+    long increment(String key, long bucket, int windowBuckets);
+
+    /**
+     * 지정한 버킷에서 1회를 뺌 (예약을 되돌릴 때 사용, 이미 지난 버킷이거나 0이면 무시)
+     */
+    void decrement(String key, long bucket);
+
+    /**
+     * 키의 기록 삭제
+     */
+    void reset(String key);
+}
@@ -0,0 +1,144 @@
+package com.example.booklog.common.security;
+
+import com.example.booklog.common.exception.CustomException;
+import com.example.booklog.common.exception.ErrorCode;
+import com.example.booklog.common.util.HashUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * 로그인 시도 제한 (클라이언트 IP별, 계정(이메일)별)
+ * 비밀번호 검증 전에 시도 한 건을 원자적으로 예약(증가 후 합계 확인)하여 한도를 넘으면 BCrypt 연산 없이 거절
+ * 동시에 몰린 시도도 예약 순서대로 한도까지만 통과하며, 예약은 결과에 따라 정리
+ * - 인증 실패: 예약을 실패 기록으로 남김
+ * - 인증 성공: 계정의 기록을 삭제하고 IP 예약은 되돌림 (성공한 로그인은 세지 않음)
+ * - 거절되거나 검증 전에 끝난 시도(해시 풀 포화 등): 예약을 되돌림
+ */
+@Slf4j
+@Component
+public class LoginThrottle {
+
+    private static final Attempt UNTRACKED = new Attempt(null, null, 0);
+
+    private final LoginAttemptStore loginAttemptStore;
+    private final boolean enabled;
+    private final long bucketSeconds;
+    private final int windowBuckets;
+    private final long maxPerIp;
+    private final long maxPerEmail;
+    private final Counter rejectedByIp;
+    private final Counter rejectedByEmail;
+
+    public LoginThrottle(LoginAttemptStore loginAttemptStore,
+                         MeterRegistry meterRegistry,
+                         @Value("${booklog.auth.throttle.enabled:true}") boolean enabled,
+                         @Value("${booklog.auth.throttle.bucket-seconds:60}") long bucketSeconds,
+                         @Value("${booklog.auth.throttle.window-buckets:10}") int windowBuckets,
+                         @Value("${booklog.auth.throttle.max-per-ip:50}") long maxPerIp,
+                         @Value("${booklog.auth.throttle.max-per-email:10}") long maxPerEmail) {
+        this.loginAttemptStore = loginAttemptStore;
+        this.enabled = enabled;
+        this.bucketSeconds = bucketSeconds;
+        this.windowBuckets = windowBuckets;
+        this.maxPerIp = maxPerIp;
+        this.maxPerEmail = maxPerEmail;
+        this.rejectedByIp = Counter.builder("booklog.auth.throttle.rejected").tag("key", "ip").register(meterRegistry);
+        this.rejectedByEmail = Counter.builder("booklog.auth.throttle.rejected").tag("key", "email").register(meterRegistry);
+    }
+
+    /**
+     * 시도 예약 (IP 또는 계정의 최근 시도가 한도를 넘으면 예약을 되돌리고 TOO_MANY_LOGIN_ATTEMPTS)
+     */
+    public Attempt acquire(String clientIp, String email) {
+        if (!enabled) {
+            return UNTRACKED;
+        }
+
+        long bucket = currentBucket();
+        String ipKey = clientIp != null ? ipKey(clientIp) : null;
+        if (ipKey != null && reserve(ipKey, bucket) > maxPerIp) {
+            release(ipKey, bucket);
+            rejectedByIp.increment();
+            log.warn("로그인 시도가 너무 많습니다. ip={}", clientIp);
+            throw new CustomException(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+        }
+
+        String emailKey = email != null ? emailKey(email) : null;
+        if (emailKey != null && reserve(emailKey, bucket) > maxPerEmail) {
+            release(emailKey, bucket);
+            release(ipKey, bucket);
+            rejectedByEmail.increment();
+            // 저장 키와 마찬가지로 이메일 원문 대신 해시만 기록
+            log.warn("로그인 시도가 너무 많습니다. emailHash={}", emailKey);
+            throw new CustomException(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+        }
+        return new Attempt(ipKey, emailKey, bucket);
+    }
+
+    /**
+     * 인증 성공 (계정의 기록은 삭제하고, IP는 같은 IP의 다른 계정 실패 기록을 유지한 채 이번 예약만 되돌림)
+     */
+    public void succeeded(Attempt attempt) {
+        release(attempt.ipKey(), attempt.bucket());
+        if (attempt.emailKey() == null) {
+            return;
+        }
+        try {
+            loginAttemptStore.reset(attempt.emailKey());
+        } catch (RuntimeException e) {
+            log.warn("로그인 실패 기록을 삭제하지 못했습니다.", e);
+        }
+    }
+
+    /**
+     * 비밀번호를 검증하지 못하고 끝난 시도 (예약을 되돌림)
+     */
+    public void abandoned(Attempt attempt) {
+        release(attempt.ipKey(), attempt.bucket());
+        release(attempt.emailKey(), attempt.bucket());
+    }
+
+    private long reserve(String key, long bucket) {
+        try {
+            return loginAttemptStore.increment(key, bucket, windowBuckets);
+        } catch (RuntimeException e) {
+            // 저장소 장애로 로그인 전체가 막히지 않도록 제한 없이 통과
+            log.warn("로그인 시도를 기록하지 못했습니다. key={}", key, e);
+            return 0;
+        }
+    }
+
+    private void release(String key, long bucket) {
+        if (key == null) {
+            return;
+        }
+        try {
+            loginAttemptStore.decrement(key, bucket);
+        } catch (RuntimeException e) {
+            log.warn("로그인 시도 예약을 되돌리지 못했습니다. key={}", key, e);
+        }
+    }
+
+    private long currentBucket() {
+        return System.currentTimeMillis() / 1000 / bucketSeconds;
+    }
+
+    private static String ipKey(String clientIp) {
+        return "ip:" + clientIp;
+    }
+
+    private static String emailKey(String email) {
+        return "email:" + HashUtil.sha256(email.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * 예약한 시도 (키가 null이면 기록하지 않은 항목, bucket은 예약한 버킷)
+     */
+    public record Attempt(String ipKey, String emailKey, long bucket) {
+    }
+}
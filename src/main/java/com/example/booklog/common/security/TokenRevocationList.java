@@ -0,0 +1,69 @@
+package com.example.booklog.common.security;
+
+import com.example.booklog.common.cache.CacheInvalidationBus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * 폐기된 액세스 토큰 jti 목록 (메모리 블룸 필터, DB 조회 없이 O(1) 확인)
+ * 필터 두 세대를 액세스 토큰 유효 시간마다 교체하므로 폐기 기록은 최소 유효 시간 동안 유지되고 이후 자연히 사라짐
+ * 다른 노드에는 CacheInvalidationBus로 전파하며, 오탐 시 해당 토큰은 거절되어 클라이언트가 다시 갱신함
+ */
+@Component
+public class TokenRevocationList {
+
+    public static final String CACHE_NAME = "revokedTokens";
+
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter current;
+    private volatile BloomFilter previous;
+
+    public TokenRevocationList(CacheInvalidationBus cacheInvalidationBus,
+                               @Value("${booklog.auth.revocation.expected-insertions:100000}") long expectedInsertions,
+                               @Value("${booklog.auth.revocation.false-positive-rate:0.0001}") double falsePositiveRate) {
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.current = new BloomFilter(expectedInsertions, falsePositiveRate);
+        this.previous = new BloomFilter(expectedInsertions, falsePositiveRate);
+        cacheInvalidationBus.subscribe(CACHE_NAME, this::revokeLocally);
+    }
+
+    /**
+     * 액세스 토큰 폐기 (다른 노드에도 전파)
+     */
+    public void revoke(String tokenId) {
+        revokeLocally(tokenId);
+        cacheInvalidationBus.publish(CACHE_NAME, tokenId);
+    }
+
+    /**
+     * 시작 시 DB의 폐기 내역으로 채움 (각 노드가 직접 불러오므로 전파하지 않음)
+     */
+    public synchronized void seed(Collection<String> tokenIds) {
+        tokenIds.forEach(current::put);
+    }
+
+    public boolean isRevoked(String tokenId) {
+        return current.mightContain(tokenId) || previous.mightContain(tokenId);
+    }
+
+    /**
+     * 세대 교체 (액세스 토큰 유효 시간마다)
+     */
+    @Scheduled(fixedRateString = "${jwt.expiration}", initialDelayString = "${jwt.expiration}")
+    public synchronized void rotate() {
+        previous = current;
+        current = new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    private synchronized void revokeLocally(String tokenId) {
+        current.put(tokenId);
+    }
+}
@@ -1,5 +1,8 @@
 package com.example.booklog.common.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
@@ -7,9 +10,11 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.time.Duration;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 
 @Component
 @Slf4j
@@ -17,23 +22,45 @@ public class JwtUtil {
 
     private final SecretKey secretKey;
     private final long jwtExpiration;
+    private final JwtParser parser;
+
+    // 검증을 마친 토큰의 클레임 (토큰 SHA-256 -> 클레임, 토큰 만료 시각까지 보관), 크기가 0이면 사용 안 함
+    private final Cache<String, Claims> verifiedTokens;
 
     public JwtUtil(@Value("${jwt.secret}") String secret,
-                   @Value("${jwt.expiration}") long jwtExpiration) {
+                   @Value("${jwt.expiration}") long jwtExpiration,
+                   @Value("${jwt.verified-cache.max-size:10000}") long verifiedCacheSize) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes());
         this.jwtExpiration = jwtExpiration;
+        this.parser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.verifiedTokens = verifiedCacheSize > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(verifiedCacheSize)
+                        .expireAfter(Expiry.<String, Claims>creating((key, claims) -> untilExpiration(claims)))
+                        .build()
+                : null;
     }
 
     /**
      * JWT 토큰 생성
      */
     public String generateToken(String email, Long userId, String username) {
+        return generateToken(email, userId, username, UUID.randomUUID().toString());
+    }
+
+    /**
+     * JWT 토큰 생성 (폐기 확인용 토큰 ID(jti) 지정)
+     */
+    public String generateToken(String email, Long userId, String username, String tokenId) {
         Map<String, Object> claims = new HashMap<>();
         claims.put("userId", userId);
         claims.put("username", username);
         
         return Jwts.builder()
                 .claims(claims)
+                .id(tokenId)
                 .subject(email)
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + jwtExpiration))
@@ -41,18 +68,25 @@ public class JwtUtil {
                 .compact();
     }
 
+    /**
+     * 액세스 토큰 유효 시간 (밀리초)
+     */
+    public long getExpirationMillis() {
+        return jwtExpiration;
+    }
+
     /**
      * 토큰에서 이메일 추출
      */
     public String getEmailFromToken(String token) {
-        return getClaimsFromToken(token).getSubject();
+        return parseClaims(token).getSubject();
     }
 
     /**
      * 토큰에서 사용자 ID 추출
      */
     public Long getUserIdFromToken(String token) {
-        Claims claims = getClaimsFromToken(token);
+        Claims claims = parseClaims(token);
         return claims.get("userId", Long.class);
     }
 
@@ -60,7 +94,7 @@ public class JwtUtil {
      * 토큰에서 사용자명 추출
      */
     public String getUsernameFromToken(String token) {
-        Claims claims = getClaimsFromToken(token);
+        Claims claims = parseClaims(token);
         return claims.get("username", String.class);
     }
 
@@ -68,18 +102,46 @@ public class JwtUtil {
      * 토큰에서 만료일 추출
      */
     public Date getExpirationDateFromToken(String token) {
-        return getClaimsFromToken(token).getExpiration();
+        return parseClaims(token).getExpiration();
+    }
+
+    /**
+     * 서명과 만료를 검증하고 클레임 반환 (유효하지 않으면 JwtException)
+     * 이미 검증한 토큰은 만료 전까지 캐시된 클레임을 반환하여 서명 검증을 건너뜀
+     */
+    public Claims parseClaims(String token) {
+        if (verifiedTokens == null) {
+            return getClaimsFromToken(token);
+        }
+
+        String key = HashUtil.sha256(token);
+        Claims cached = verifiedTokens.getIfPresent(key);
+        if (cached != null && !isExpired(cached)) {
+            return cached;
+        }
+
+        Claims claims = getClaimsFromToken(token);
+        verifiedTokens.put(key, claims);
+        return claims;
     }
 
     /**
      * 토큰에서 모든 클레임 추출
      */
     private Claims getClaimsFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    private static boolean isExpired(Claims claims) {
+        Date expiration = claims.getExpiration();
+        return expiration != null && expiration.before(new Date());
+    }
+
+    private static Duration untilExpiration(Claims claims) {
+        Date expiration = claims.getExpiration();
+        // 만료 시각이 없는 토큰은 캐시하지 않음 (즉시 만료)
+        long millis = expiration != null ? expiration.getTime() - System.currentTimeMillis() : 0;
+        return Duration.ofMillis(Math.max(millis, 0));
     }
 
     /**
@@ -99,8 +161,9 @@ public class JwtUtil {
      */
     public boolean validateToken(String token, String email) {
         try {
-            String tokenEmail = getEmailFromToken(token);
-            return (email.equals(tokenEmail) && !isTokenExpired(token));
+            // 한 번의 파싱으로 서명과 만료를 함께 검증
+            Claims claims = parseClaims(token);
+            return email.equals(claims.getSubject()) && !isExpired(claims);
         } catch (ExpiredJwtException e) {
             log.warn("JWT token is expired: {}", e.getMessage());
             return false;
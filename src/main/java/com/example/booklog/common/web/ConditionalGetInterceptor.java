@@ -0,0 +1,176 @@
+package com.example.booklog.common.web;
+
+import com.example.booklog.common.datasource.ReplicaAffinity;
+import com.example.booklog.common.exception.CustomException;
+import com.example.booklog.common.util.HashUtil;
+import com.example.booklog.domain.book.service.BookService;
+import com.example.booklog.domain.user.service.CustomUserDetails;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * 서재/리뷰/통계 GET 요청의 조건부 응답 (강한 ETag)
+ * ETag는 본문을 만들지 않고 버전 카운터로 계산하며, If-None-Match가 일치하면 컨트롤러를 실행하지 않고 304 반환
+ * 버전은 짧은 읽기 전용 트랜잭션에서 읽고 바로 종료하므로 304 응답은 커넥션을 더 점유하지 않음
+ * 200 응답의 본문은 서비스 호출마다의 트랜잭션에서 읽되, ReplicaAffinity로 버전을 읽은 노드(복제본이면 같은 복제본)에서
+ * 읽으므로 본문이 ETag의 버전보다 오래되지 않음 (더 새로우면 다음 요청에서 다른 ETag로 다시 받음)
+ * 사용자 샤드 바인딩 이후에 실행되어야 하므로 가장 낮은 우선순위로 등록
+ */
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    /** 이번 요청에서 읽은 사용자 버전 (본문의 메모리 캐시가 이 버전보다 오래되었는지 확인용) */
+    public static final String USER_VERSION_ATTRIBUTE = ConditionalGetInterceptor.class.getName() + ".USER_VERSION";
+
+    private static final String BOOK_REVIEWS_PREFIX = "/api/v1/reviews/book/";
+    private static final String STATS_PREFIX = "/api/v1/stats/";
+    private static final String AFFINITY_ATTRIBUTE = ConditionalGetInterceptor.class.getName() + ".AFFINITY";
+
+    private final ContentVersionService contentVersionService;
+    private final BookService bookService;
+    private final TransactionTemplate readOnly;
+    // Google Books ID -> 책 ID (책 ID는 바뀌지 않으므로 만료 없이 크기만 제한)
+    private final Cache<String, Long> bookIds;
+
+    public ConditionalGetInterceptor(ContentVersionService contentVersionService,
+                                     BookService bookService,
+                                     PlatformTransactionManager transactionManager,
+                                     long bookIdCacheSize) {
+        this.contentVersionService = contentVersionService;
+        this.bookService = bookService;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.bookIds = Caffeine.newBuilder()
+                .maximumSize(bookIdCacheSize)
+                .build();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!HttpMethod.GET.matches(request.getMethod())) {
+            return true;
+        }
+
+        boolean bookScope = request.getRequestURI().startsWith(BOOK_REVIEWS_PREFIX);
+        Long ownerId = bookScope ? bookId(request) : currentUserId();
+        if (ownerId == null) {
+            return true;
+        }
+
+        ReplicaAffinity.begin();
+        String etag;
+        try {
+            etag = readOnly.execute(status ->
+                    bookScope ? bookEtag(ownerId, request, response) : userEtag(ownerId, request, response));
+        } catch (RuntimeException e) {
+            ReplicaAffinity.end();
+            throw e;
+        }
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            // false를 반환하면 afterCompletion이 호출되지 않으므로 여기서 해제
+            ReplicaAffinity.end();
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return false;
+        }
+        request.setAttribute(AFFINITY_ATTRIBUTE, Boolean.TRUE);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(AFFINITY_ATTRIBUTE) != null) {
+            request.removeAttribute(AFFINITY_ATTRIBUTE);
+            ReplicaAffinity.end();
+        }
+    }
+
+    private String userEtag(Long userId, HttpServletRequest request, HttpServletResponse response) {
+        // 사용자별 응답이므로 공유 캐시에는 저장하지 않음
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        long version = contentVersionService.getUserVersion(userId);
+        request.setAttribute(USER_VERSION_ATTRIBUTE, version);
+        // 연속 독서일 등 날짜에 따라 달라지는 통계는 날짜가 바뀌면 새 ETag
+        String day = request.getRequestURI().startsWith(STATS_PREFIX) ? LocalDate.now().toString() : "";
+        return etag(version, "user:" + userId, request, day);
+    }
+
+    private String bookEtag(Long bookId, HttpServletRequest request, HttpServletResponse response) {
+        // 매번 ETag로 재검증
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        long version = contentVersionService.getBookVersion(bookId);
+        return etag(version, "book:" + bookId, request, "");
+    }
+
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return userDetails.getUserId();
+        }
+        return null;
+    }
+
+    /**
+     * 경로의 Google Books ID에 해당하는 책 ID (처음 한 번만 조회, 없는 책은 컨트롤러에서 404 처리)
+     */
+    private Long bookId(HttpServletRequest request) {
+        @SuppressWarnings("unchecked")
+        Map<String, String> variables =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        String googleBooksId = variables != null ? variables.get("googleBooksId") : null;
+        if (googleBooksId == null) {
+            return null;
+        }
+
+        Long bookId = bookIds.getIfPresent(googleBooksId);
+        if (bookId != null) {
+            return bookId;
+        }
+        try {
+            bookId = bookService.findByGoogleBooksId(googleBooksId).getId();
+        } catch (CustomException e) {
+            return null;
+        }
+        bookIds.put(googleBooksId, bookId);
+        return bookId;
+    }
+
+    /**
+     * 버전 + (소유자, 경로, 쿼리 문자열) 해시 (같은 버전이라도 페이지/정렬이 다르면 다른 ETag)
+     */
+    private String etag(long version, String owner, HttpServletRequest request, String day) {
+        String query = request.getQueryString() != null ? request.getQueryString() : "";
+        String hash = HashUtil.sha256(owner + "|" + request.getRequestURI() + "?" + query + "|" + day);
+        return "\"" + version + "-" + hash.substring(0, 16) + "\"";
+    }
+
+    private boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            // 약한 비교: 프록시가 W/를 붙여 돌려주는 경우도 허용
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals(etag) || value.equals("*")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
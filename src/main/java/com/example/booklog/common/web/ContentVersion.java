@@ -0,0 +1,45 @@
+package com.example.booklog.common.web;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 조건부 GET(ETag)용 버전 카운터 (스키마 생성용 매핑)
+ * USER: 사용자의 서재/리뷰/통계가 바뀔 때마다 증가, BOOK: 책의 리뷰가 바뀔 때마다 증가 (샤딩 환경에서는 샤드별 행의 합)
+ */
+@Entity
+@Table(name = "content_versions")
+@IdClass(ContentVersion.ContentVersionId.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ContentVersion {
+
+    public static final String USER = "USER";
+    public static final String BOOK = "BOOK";
+
+    @Id
+    @Column(name = "scope", length = 10)
+    private String scope;
+
+    @Id
+    @Column(name = "owner_id")
+    private Long ownerId;
+
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class ContentVersionId implements Serializable {
+        private String scope;
+        private Long ownerId;
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.booklog.common.web;
+
+import com.example.booklog.common.datasource.ShardDataSources;
+import com.example.booklog.domain.review.event.ReviewRatingChangedEvent;
+import com.example.booklog.domain.stats.event.UserLibraryChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * 사용자/책 단위 버전 카운터
+ * 변경 이벤트를 트랜잭션 안에서(동기 리스너) 받아 데이터와 함께 커밋되도록 증가시키고, 조회는 기본키 한 건
+ */
+@Service
+@RequiredArgsConstructor
+public class ContentVersionService {
+
+    private static final String BUMP =
+            "INSERT INTO content_versions (scope, owner_id, version) VALUES (?, ?, 1) " +
+            "ON DUPLICATE KEY UPDATE version = version + 1";
+
+    private static final String SELECT_VERSION =
+            "SELECT COALESCE(MAX(version), 0) FROM content_versions WHERE scope = ? AND owner_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectProvider<ShardDataSources> shardDataSources;
+
+    @EventListener
+    public void onUserLibraryChanged(UserLibraryChangedEvent event) {
+        bumpUser(event.userId());
+    }
+
+    @EventListener
+    public void onReviewRatingChanged(ReviewRatingChangedEvent event) {
+        bumpBook(event.bookId());
+    }
+
+    public void bumpUser(Long userId) {
+        jdbcTemplate.update(BUMP, ContentVersion.USER, userId);
+    }
+
+    /**
+     * 여러 사용자의 버전을 한 번에 증가 (교착 방지를 위해 id 순)
+     */
+    public void bumpUsers(Collection<Long> userIds) {
+        List<Object[]> args = new ArrayList<>(userIds.size());
+        new TreeSet<>(userIds).forEach(userId -> args.add(new Object[]{ContentVersion.USER, userId}));
+        if (!args.isEmpty()) {
+            jdbcTemplate.batchUpdate(BUMP, args);
+        }
+    }
+
+    public void bumpBook(Long bookId) {
+        jdbcTemplate.update(BUMP, ContentVersion.BOOK, bookId);
+    }
+
+    /**
+     * 사용자 버전 (현재 바인딩된 사용자 샤드에서 조회, 진행 중인 트랜잭션이 있으면 같은 커넥션 사용)
+     */
+    public long getUserVersion(Long userId) {
+        return jdbcTemplate.queryForObject(SELECT_VERSION, Long.class, ContentVersion.USER, userId);
+    }
+
+    /**
+     * 책 버전 (샤딩 환경에서는 리뷰가 여러 샤드에 있으므로 샤드별 값의 합)
+     * 샤딩 환경에는 복제본이 없으므로 본문보다 먼저 각 샤드 primary에서 읽으면 본문이 버전보다 오래될 수 없음
+     */
+    public long getBookVersion(Long bookId) {
+        ShardDataSources shards = shardDataSources.getIfAvailable();
+        if (shards == null) {
+            return jdbcTemplate.queryForObject(SELECT_VERSION, Long.class, ContentVersion.BOOK, bookId);
+        }
+        return shards.scatter(shardJdbc -> shardJdbc.queryForObject(SELECT_VERSION, Long.class,
+                        ContentVersion.BOOK, bookId))
+                .stream()
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+}
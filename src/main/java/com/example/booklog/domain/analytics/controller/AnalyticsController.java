@@ -0,0 +1,27 @@
+package com.example.booklog.domain.analytics.controller;
+
+import com.example.booklog.domain.analytics.dto.PlatformAnalyticsResponse;
+import com.example.booklog.domain.analytics.service.PlatformAnalyticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/analytics")
+@RequiredArgsConstructor
+@Tag(name = "Analytics", description = "플랫폼 지표 API")
+public class AnalyticsController {
+
+    private final PlatformAnalyticsService platformAnalyticsService;
+
+    /**
+     * 플랫폼 지표 조회
+     */
+    @GetMapping("/platform")
+    @Operation(summary = "플랫폼 지표 조회", description = "주간 배치로 집계한 전체 사용자의 독서/리뷰 지표를 조회합니다")
+    public ResponseEntity<PlatformAnalyticsResponse> getPlatformAnalytics() {
+        return ResponseEntity.ok(platformAnalyticsService.getLatest());
+    }
+}
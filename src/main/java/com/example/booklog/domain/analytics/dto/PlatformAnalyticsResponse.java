@@ -0,0 +1,55 @@
+package com.example.booklog.domain.analytics.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlatformAnalyticsResponse {
+
+    private LocalDateTime createdAt;
+    private Long durationMs;
+    private Metrics metrics;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Metrics {
+        // 서재
+        private Long libraryUsers;          // 서재에 책이 한 권 이상 있는 사용자 수
+        private Long userBooks;
+        private Long wantToReadBooks;
+        private Long readingBooks;
+        private Long completedBooks;
+        private Long completedPages;
+        private Double averageCompletionDays;
+        private List<Bucket> completedBooksPerUser;
+        private List<Bucket> completedPagesPerUser;
+        private List<Bucket> completionDays;    // 시작일부터 완독일까지 일수
+
+        // 리뷰
+        private Long reviewers;
+        private Long reviews;
+        private Double averageRating;
+        private List<Long> ratingDistribution;  // 1~5점 순
+        private List<Bucket> reviewsPerUser;
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Bucket {
+        private Long min;
+        private Long max;       // 마지막 구간은 null
+        private Long count;
+    }
+}
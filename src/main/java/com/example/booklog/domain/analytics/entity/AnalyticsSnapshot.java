@@ -0,0 +1,39 @@
+package com.example.booklog.domain.analytics.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 플랫폼 지표 배치 결과 (지표는 JSON으로 저장)
+ */
+@Entity
+@Table(name = "analytics_snapshots")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AnalyticsSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "metrics", nullable = false, columnDefinition = "TEXT")
+    private String metrics;
+
+    @Column(name = "duration_ms", nullable = false)
+    private Long durationMs;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public AnalyticsSnapshot(String metrics, Long durationMs, LocalDateTime createdAt) {
+        this.metrics = metrics;
+        this.durationMs = durationMs;
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.booklog.domain.analytics.repository;
+
+import com.example.booklog.domain.analytics.entity.AnalyticsSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface AnalyticsSnapshotRepository extends JpaRepository<AnalyticsSnapshot, Long> {
+
+    Optional<AnalyticsSnapshot> findTopByOrderByIdDesc();
+}
@@ -0,0 +1,206 @@
+package com.example.booklog.domain.analytics.service;
+
+import com.example.booklog.common.datasource.ShardContext;
+import com.example.booklog.common.datasource.ShardDataSources;
+import com.example.booklog.domain.analytics.entity.AnalyticsSnapshot;
+import com.example.booklog.domain.analytics.repository.AnalyticsSnapshotRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 플랫폼 전체 지표 배치
+ * 완독 기록은 보관 테이블(user_books_archive)까지 합쳐 집계
+ * 샤드별 user_id 범위를 fork/join으로 나누어 읽기 전용 트랜잭션(복제본 사용 시 복제본)에서 구간 단위로 조회하고,
+ * 구간마다 고정 크기 누적기에 집계한 뒤 병합하여 결과를 analytics_snapshots에 저장
+ * 동시에 여는 커넥션 수는 병렬도와 같으므로 커넥션 풀보다 작게 설정
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "booklog.analytics.enabled", havingValue = "true")
+public class PlatformAnalyticsJob {
+
+    private static final String SELECT_USER_RANGE =
+            "SELECT (SELECT MIN(user_id) FROM user_books), (SELECT MAX(user_id) FROM user_books), " +
+            "(SELECT MIN(user_id) FROM reviews), (SELECT MAX(user_id) FROM reviews), " +
+            "(SELECT MIN(user_id) FROM user_books_archive), (SELECT MAX(user_id) FROM user_books_archive)";
+
+    // 보관된 완독 기록도 포함 (사용자별 집계를 위해 합친 결과를 user_id 순으로 정렬)
+    private static final String SELECT_USER_BOOKS =
+            "SELECT user_id, status, current_page, started_at, completed_at FROM user_books " +
+            "WHERE user_id >= ? AND user_id < ? " +
+            "UNION ALL " +
+            "SELECT user_id, status, current_page, started_at, completed_at FROM user_books_archive " +
+            "WHERE user_id >= ? AND user_id < ? " +
+            "ORDER BY user_id";
+
+    private static final String SELECT_REVIEWS =
+            "SELECT user_id, rating FROM reviews WHERE user_id >= ? AND user_id < ? ORDER BY user_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectProvider<ShardDataSources> shardDataSources;
+    private final AnalyticsSnapshotRepository analyticsSnapshotRepository;
+    private final ObjectMapper objectMapper;
+
+    // 0이면 CPU 코어 수
+    @Value("${booklog.analytics.parallelism:0}")
+    private int parallelism;
+
+    // 한 구간에서 조회할 user_id 범위
+    @Value("${booklog.analytics.chunk-users:1000}")
+    private long chunkUsers;
+
+    public PlatformAnalyticsJob(JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                ObjectProvider<ShardDataSources> shardDataSources,
+                                AnalyticsSnapshotRepository analyticsSnapshotRepository,
+                                ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.shardDataSources = shardDataSources;
+        this.analyticsSnapshotRepository = analyticsSnapshotRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @Scheduled(cron = "${booklog.analytics.cron:0 0 3 * * MON}")
+    public void run() {
+        long startedAt = System.currentTimeMillis();
+        ShardDataSources shards = shardDataSources.getIfAvailable();
+        int shardCount = shards != null ? shards.shardCount() : 1;
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            List<ForkJoinTask<PlatformMetrics>> tasks = new ArrayList<>(shardCount);
+            for (int shard = 0; shard < shardCount; shard++) {
+                long[] range = userRange(shard);
+                if (range != null) {
+                    tasks.add(pool.submit(new RangeTask(shard, range[0], range[1] + 1)));
+                }
+            }
+
+            PlatformMetrics total = new PlatformMetrics();
+            for (ForkJoinTask<PlatformMetrics> task : tasks) {
+                total.merge(task.join());
+            }
+
+            long durationMs = System.currentTimeMillis() - startedAt;
+            saveSnapshot(total, durationMs);
+            log.info("플랫폼 지표를 집계했습니다. ({}ms, 병렬도 {})", durationMs, threads);
+        } catch (RuntimeException e) {
+            log.error("플랫폼 지표 집계에 실패했습니다.", e);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * 샤드의 user_id 최소/최대 (데이터가 없으면 null)
+     */
+    private long[] userRange(int shard) {
+        return ShardContext.callOn(shard, () -> readOnlyTransaction.execute(status ->
+                jdbcTemplate.queryForObject(SELECT_USER_RANGE, (rs, rowNum) -> {
+                    Long min = minOf(minOf(rs.getObject(1, Long.class), rs.getObject(3, Long.class)),
+                            rs.getObject(5, Long.class));
+                    Long max = maxOf(maxOf(rs.getObject(2, Long.class), rs.getObject(4, Long.class)),
+                            rs.getObject(6, Long.class));
+                    return min != null ? new long[]{min, max} : null;
+                })));
+    }
+
+    private void saveSnapshot(PlatformMetrics metrics, long durationMs) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(metrics.toResponse());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("플랫폼 지표를 직렬화할 수 없습니다.", e);
+        }
+
+        AnalyticsSnapshot snapshot = AnalyticsSnapshot.builder()
+                .metrics(json)
+                .durationMs(durationMs)
+                .createdAt(LocalDateTime.now())
+                .build();
+        ShardContext.callOn(ShardContext.HOME_SHARD, () ->
+                transactionTemplate.execute(status -> analyticsSnapshotRepository.save(snapshot)));
+    }
+
+    /**
+     * 구간 [fromUserId, toUserId)의 지표 (구간이 크면 반으로 나누어 병렬 처리)
+     */
+    private class RangeTask extends RecursiveTask<PlatformMetrics> {
+
+        private final int shard;
+        private final long fromUserId;
+        private final long toUserId;
+
+        RangeTask(int shard, long fromUserId, long toUserId) {
+            this.shard = shard;
+            this.fromUserId = fromUserId;
+            this.toUserId = toUserId;
+        }
+
+        @Override
+        protected PlatformMetrics compute() {
+            if (toUserId - fromUserId <= chunkUsers) {
+                return scan();
+            }
+            long middle = fromUserId + (toUserId - fromUserId) / 2;
+            RangeTask left = new RangeTask(shard, fromUserId, middle);
+            left.fork();
+            PlatformMetrics right = new RangeTask(shard, middle, toUserId).compute();
+            return right.merge(left.join());
+        }
+
+        private PlatformMetrics scan() {
+            return ShardContext.callOn(shard, () -> readOnlyTransaction.execute(status -> {
+                PlatformMetrics metrics = new PlatformMetrics();
+                jdbcTemplate.query(SELECT_USER_BOOKS, rs -> {
+                    metrics.addUserBook(rs.getLong("user_id"), rs.getString("status"), rs.getInt("current_page"),
+                            daysBetween(rs.getTimestamp("started_at"), rs.getTimestamp("completed_at")));
+                }, fromUserId, toUserId, fromUserId, toUserId);
+                jdbcTemplate.query(SELECT_REVIEWS, rs -> {
+                    metrics.addReview(rs.getLong("user_id"), rs.getInt("rating"));
+                }, fromUserId, toUserId);
+                return metrics.finish();
+            }));
+        }
+    }
+
+    private static Long daysBetween(Timestamp startedAt, Timestamp completedAt) {
+        if (startedAt == null || completedAt == null) {
+            return null;
+        }
+        return ChronoUnit.DAYS.between(startedAt.toLocalDateTime().toLocalDate(),
+                completedAt.toLocalDateTime().toLocalDate());
+    }
+
+    private static Long minOf(Long a, Long b) {
+        return a == null ? b : b == null ? a : Math.min(a, b);
+    }
+
+    private static Long maxOf(Long a, Long b) {
+        return a == null ? b : b == null ? a : Math.max(a, b);
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.booklog.domain.analytics.service;
+
+import com.example.booklog.common.exception.CustomException;
+import com.example.booklog.common.exception.ErrorCode;
+import com.example.booklog.domain.analytics.dto.PlatformAnalyticsResponse;
+import com.example.booklog.domain.analytics.entity.AnalyticsSnapshot;
+import com.example.booklog.domain.analytics.repository.AnalyticsSnapshotRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PlatformAnalyticsService {
+
+    private final AnalyticsSnapshotRepository analyticsSnapshotRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 가장 최근 배치 결과 조회
+     */
+    public PlatformAnalyticsResponse getLatest() {
+        AnalyticsSnapshot snapshot = analyticsSnapshotRepository.findTopByOrderByIdDesc()
+                .orElseThrow(() -> new CustomException(ErrorCode.ENTITY_NOT_FOUND));
+
+        try {
+            return PlatformAnalyticsResponse.builder()
+                    .createdAt(snapshot.getCreatedAt())
+                    .durationMs(snapshot.getDurationMs())
+                    .metrics(objectMapper.readValue(snapshot.getMetrics(), PlatformAnalyticsResponse.Metrics.class))
+                    .build();
+        } catch (JsonProcessingException e) {
+            log.error("플랫폼 지표 스냅샷을 읽을 수 없습니다. (id: {})", snapshot.getId(), e);
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+}
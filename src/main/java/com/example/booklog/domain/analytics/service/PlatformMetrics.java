@@ -0,0 +1,202 @@
+package com.example.booklog.domain.analytics.service;
+
+import com.example.booklog.domain.analytics.dto.PlatformAnalyticsResponse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 플랫폼 지표 누적기
+ * 고정 크기 히스토그램과 합계만 보관하여 메모리가 사용자 수와 무관하며, 구간별 결과를 merge로 합칠 수 있음
+ * 사용자별 값은 같은 사용자의 행이 연속으로 들어온다는 가정(user_id 순 조회)에서 사용자가 바뀔 때 히스토그램에 반영
+ */
+public class PlatformMetrics {
+
+    // 구간 하한 (마지막 구간은 상한 없음)
+    private static final long[] BOOK_BOUNDS = {0, 1, 2, 5, 10, 20, 50, 100};
+    private static final long[] PAGE_BOUNDS = {0, 1, 500, 1000, 2500, 5000, 10000, 25000, 50000};
+    private static final long[] DAY_BOUNDS = {0, 1, 3, 7, 14, 30, 60, 90, 180, 365};
+    private static final long[] REVIEW_BOUNDS = {1, 2, 5, 10, 20, 50};
+
+    private long libraryUsers;
+    private long userBooks;
+    private long wantToReadBooks;
+    private long readingBooks;
+    private long completedBooks;
+    private long completedPages;
+    private long completionDaysSum;
+    private long completionDaysCount;
+    private final Histogram completedBooksPerUser = new Histogram(BOOK_BOUNDS);
+    private final Histogram completedPagesPerUser = new Histogram(PAGE_BOUNDS);
+    private final Histogram completionDays = new Histogram(DAY_BOUNDS);
+
+    private long reviewers;
+    private long reviews;
+    private long ratingSum;
+    private final long[] ratingDistribution = new long[5];
+    private final Histogram reviewsPerUser = new Histogram(REVIEW_BOUNDS);
+
+    // 현재 집계 중인 사용자
+    private long currentUserId = -1;
+    private long userCompletedBooks;
+    private long userCompletedPages;
+    private long currentReviewerId = -1;
+    private long userReviews;
+
+    /**
+     * 독서 기록 한 건 (user_id 오름차순으로 호출)
+     */
+    public void addUserBook(long userId, String status, int currentPage, Long completionDays) {
+        if (userId != currentUserId) {
+            finishUser();
+            currentUserId = userId;
+            libraryUsers++;
+        }
+        userBooks++;
+        switch (status) {
+            case "WANT_TO_READ" -> wantToReadBooks++;
+            case "READING" -> readingBooks++;
+            case "COMPLETED" -> {
+                completedBooks++;
+                completedPages += currentPage;
+                userCompletedBooks++;
+                userCompletedPages += currentPage;
+                if (completionDays != null && completionDays >= 0) {
+                    this.completionDays.add(completionDays);
+                    completionDaysSum += completionDays;
+                    completionDaysCount++;
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * 리뷰 한 건 (user_id 오름차순으로 호출)
+     */
+    public void addReview(long userId, int rating) {
+        if (userId != currentReviewerId) {
+            finishReviewer();
+            currentReviewerId = userId;
+            reviewers++;
+        }
+        reviews++;
+        ratingSum += rating;
+        if (rating >= 1 && rating <= 5) {
+            ratingDistribution[rating - 1]++;
+        }
+        userReviews++;
+    }
+
+    /**
+     * 마지막 사용자의 값을 히스토그램에 반영 (구간 처리 종료 시 호출)
+     */
+    public PlatformMetrics finish() {
+        finishUser();
+        finishReviewer();
+        return this;
+    }
+
+    /**
+     * 다른 구간의 결과를 합침 (둘 다 finish 이후)
+     */
+    public PlatformMetrics merge(PlatformMetrics other) {
+        libraryUsers += other.libraryUsers;
+        userBooks += other.userBooks;
+        wantToReadBooks += other.wantToReadBooks;
+        readingBooks += other.readingBooks;
+        completedBooks += other.completedBooks;
+        completedPages += other.completedPages;
+        completionDaysSum += other.completionDaysSum;
+        completionDaysCount += other.completionDaysCount;
+        completedBooksPerUser.merge(other.completedBooksPerUser);
+        completedPagesPerUser.merge(other.completedPagesPerUser);
+        completionDays.merge(other.completionDays);
+        reviewers += other.reviewers;
+        reviews += other.reviews;
+        ratingSum += other.ratingSum;
+        for (int i = 0; i < ratingDistribution.length; i++) {
+            ratingDistribution[i] += other.ratingDistribution[i];
+        }
+        reviewsPerUser.merge(other.reviewsPerUser);
+        return this;
+    }
+
+    public PlatformAnalyticsResponse.Metrics toResponse() {
+        return PlatformAnalyticsResponse.Metrics.builder()
+                .libraryUsers(libraryUsers)
+                .userBooks(userBooks)
+                .wantToReadBooks(wantToReadBooks)
+                .readingBooks(readingBooks)
+                .completedBooks(completedBooks)
+                .completedPages(completedPages)
+                .averageCompletionDays(completionDaysCount == 0 ? null : (double) completionDaysSum / completionDaysCount)
+                .completedBooksPerUser(completedBooksPerUser.toBuckets())
+                .completedPagesPerUser(completedPagesPerUser.toBuckets())
+                .completionDays(completionDays.toBuckets())
+                .reviewers(reviewers)
+                .reviews(reviews)
+                .averageRating(reviews == 0 ? null : (double) ratingSum / reviews)
+                .ratingDistribution(Arrays.stream(ratingDistribution).boxed().toList())
+                .reviewsPerUser(reviewsPerUser.toBuckets())
+                .build();
+    }
+
+    private void finishUser() {
+        if (currentUserId >= 0) {
+            completedBooksPerUser.add(userCompletedBooks);
+            completedPagesPerUser.add(userCompletedPages);
+        }
+        currentUserId = -1;
+        userCompletedBooks = 0;
+        userCompletedPages = 0;
+    }
+
+    private void finishReviewer() {
+        if (currentReviewerId >= 0) {
+            reviewsPerUser.add(userReviews);
+        }
+        currentReviewerId = -1;
+        userReviews = 0;
+    }
+
+    /**
+     * 고정 구간 히스토그램
+     */
+    private static class Histogram {
+
+        private final long[] bounds;
+        private final long[] counts;
+
+        Histogram(long[] bounds) {
+            this.bounds = bounds;
+            this.counts = new long[bounds.length];
+        }
+
+        void add(long value) {
+            int index = Arrays.binarySearch(bounds, value);
+            // 하한과 같지 않으면 (삽입 위치 - 1) 구간, 첫 하한보다 작으면 첫 구간
+            counts[Math.max(index >= 0 ? index : -index - 2, 0)]++;
+        }
+
+        void merge(Histogram other) {
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] += other.counts[i];
+            }
+        }
+
+        List<PlatformAnalyticsResponse.Bucket> toBuckets() {
+            List<PlatformAnalyticsResponse.Bucket> buckets = new ArrayList<>(counts.length);
+            for (int i = 0; i < counts.length; i++) {
+                buckets.add(PlatformAnalyticsResponse.Bucket.builder()
+                        .min(bounds[i])
+                        .max(i + 1 < bounds.length ? bounds[i + 1] - 1 : null)
+                        .count(counts[i])
+                        .build());
+            }
+            return buckets;
+        }
+    }
+}
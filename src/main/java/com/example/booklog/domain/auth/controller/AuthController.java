@@ -1,11 +1,13 @@
 package com.example.booklog.domain.auth.controller;
 
 import com.example.booklog.domain.auth.dto.LoginRequest;
+import com.example.booklog.domain.auth.dto.RefreshTokenRequest;
 import com.example.booklog.domain.auth.dto.RegisterRequest;
 import com.example.booklog.domain.auth.dto.AuthResponse;
 import com.example.booklog.domain.auth.service.AuthService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -29,8 +31,25 @@ public class AuthController {
 
     @PostMapping("/login")
     @Operation(summary = "로그인", description = "사용자 로그인을 수행합니다") 
-    public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request) {
-        AuthResponse response = authService.login(request);
+    public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request,
+                                              HttpServletRequest httpRequest) {
+        // 로드 밸런서 뒤에서는 server.forward-headers-strategy=native 설정으로 신뢰하는 프록시가 전달한 클라이언트 IP
+        AuthResponse response = authService.login(request, httpRequest.getRemoteAddr());
         return ResponseEntity.ok(response);
     }
-} 
\ No newline at end of file
+
+    @PostMapping("/refresh")
+    @Operation(summary = "토큰 갱신", description = "리프레시 토큰으로 새 액세스 토큰과 리프레시 토큰을 발급합니다")
+    public ResponseEntity<AuthResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        AuthResponse response = authService.refresh(request);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/logout")
+    @Operation(summary = "로그아웃", description = "리프레시 토큰과 현재 액세스 토큰을 폐기합니다")
+    public ResponseEntity<Void> logout(@Valid @RequestBody RefreshTokenRequest request,
+                                       @RequestHeader(value = "Authorization", required = false) String authorization) {
+        authService.logout(request, authorization);
+        return ResponseEntity.noContent().build();
+    }
+}
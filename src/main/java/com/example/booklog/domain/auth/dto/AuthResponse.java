@@ -11,7 +11,9 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class AuthResponse {
 
-    private String token;
+    private String token;           // 액세스 토큰
+    private String refreshToken;
+    private Long expiresIn;         // 액세스 토큰 유효 시간 (초)
     private Long userId;
     private String username;
     private String email;
@@ -0,0 +1,77 @@
+package com.example.booklog.domain.auth.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리프레시 토큰 (원문 대신 SHA-256만 저장)
+ * 한 번 사용하면 같은 family의 새 토큰으로 교체되며, 사용된 토큰이 다시 제시되면 탈취로 보고 family 전체를 폐기
+ */
+@Entity
+@Table(name = "refresh_tokens",
+       indexes = {
+               @Index(name = "idx_refresh_tokens_family", columnList = "family_id"),
+               @Index(name = "idx_refresh_tokens_revoked_at", columnList = "revoked_at")
+       })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RefreshToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "token_hash", nullable = false, unique = true, length = 44)
+    private String tokenHash;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "family_id", nullable = false, length = 36)
+    private String familyId;
+
+    // 함께 발급한 액세스 토큰의 jti (family 폐기 시 함께 폐기)
+    @Column(name = "access_token_id", nullable = false, length = 36)
+    private String accessTokenId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "used_at")
+    private LocalDateTime usedAt;
+
+    @Column(name = "revoked_at")
+    private LocalDateTime revokedAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public RefreshToken(String tokenHash, Long userId, String familyId, String accessTokenId,
+                        LocalDateTime expiresAt, LocalDateTime createdAt) {
+        this.tokenHash = tokenHash;
+        this.userId = userId;
+        this.familyId = familyId;
+        this.accessTokenId = accessTokenId;
+        this.expiresAt = expiresAt;
+        this.createdAt = createdAt;
+    }
+
+    // 비즈니스 메서드
+    public boolean isUsable(LocalDateTime now) {
+        return usedAt == null && revokedAt == null && expiresAt.isAfter(now);
+    }
+
+    public boolean isUsed() {
+        return usedAt != null;
+    }
+
+    public void markUsed(LocalDateTime now) {
+        this.usedAt = now;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.booklog.domain.auth.repository;
+
+import com.example.booklog.domain.auth.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    /**
+     * 같은 토큰으로 동시에 갱신하는 경우 한 요청만 교체되도록 행 잠금
+     */
+    @Query(value = "SELECT * FROM refresh_tokens WHERE token_hash = :tokenHash FOR UPDATE", nativeQuery = true)
+    Optional<RefreshToken> findByTokenHashForUpdate(String tokenHash);
+
+    /**
+     * family에서 아직 폐기되지 않은 토큰의 액세스 토큰 jti
+     */
+    @Query("SELECT t.accessTokenId FROM RefreshToken t WHERE t.familyId = :familyId AND t.revokedAt IS NULL")
+    List<String> findActiveAccessTokenIdsByFamilyId(String familyId);
+
+    /**
+     * 지정 시각 이후 폐기된 토큰의 액세스 토큰 jti (시작 시 폐기 목록 복원용)
+     */
+    @Query("SELECT t.accessTokenId FROM RefreshToken t WHERE t.revokedAt > :since")
+    List<String> findAccessTokenIdsRevokedAfter(LocalDateTime since);
+
+    @Modifying
+    @Query("UPDATE RefreshToken t SET t.revokedAt = :now WHERE t.familyId = :familyId AND t.revokedAt IS NULL")
+    int revokeFamily(String familyId, LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken t WHERE t.expiresAt < :before")
+    int deleteExpired(LocalDateTime before);
+}
@@ -1,13 +1,16 @@
 package com.example.booklog.domain.auth.service;
 
 import com.example.booklog.domain.auth.dto.LoginRequest;
+import com.example.booklog.domain.auth.dto.RefreshTokenRequest;
 import com.example.booklog.domain.auth.dto.RegisterRequest;
 import com.example.booklog.domain.auth.dto.AuthResponse;
 import com.example.booklog.domain.user.entity.User;
 import com.example.booklog.common.exception.CustomException;
 import com.example.booklog.common.exception.ErrorCode;
+import com.example.booklog.common.security.LoginThrottle;
 import com.example.booklog.common.util.JwtUtil;
 import com.example.booklog.domain.user.service.UserService;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -28,6 +31,8 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
     private final AuthenticationManager authenticationManager;
+    private final LoginThrottle loginThrottle;
+    private final RefreshTokenService refreshTokenService;
 
     /**
      * 사용자 회원가입
@@ -48,15 +53,13 @@ public class AuthService {
 
         User savedUser = userService.saveUser(user);
 
-        // JWT 토큰 생성
-        String token = jwtUtil.generateToken(
-                savedUser.getEmail(),
-                savedUser.getId(),
-                savedUser.getUsername()
-        );
+        // 액세스/리프레시 토큰 발급
+        RefreshTokenService.IssuedTokens tokens = refreshTokenService.issue(savedUser);
 
         return AuthResponse.builder()
-                .token(token)
+                .token(tokens.accessToken())
+                .refreshToken(tokens.refreshToken())
+                .expiresIn(tokens.expiresIn())
                 .userId(savedUser.getId())
                 .username(savedUser.getUsername())
                 .email(savedUser.getEmail())
@@ -67,7 +70,11 @@ public class AuthService {
     /**
      * 사용자 로그인
      */
-    public AuthResponse login(LoginRequest request) {
+    public AuthResponse login(LoginRequest request, String clientIp) {
+        // 비밀번호 검증 전에 IP/계정별 시도 예약 (한도를 넘으면 BCrypt 연산 없이 거절)
+        LoginThrottle.Attempt attempt = loginThrottle.acquire(clientIp, request.getEmail());
+        boolean verified = false;
+
         try {
             // 인증 수행
             Authentication authentication = authenticationManager.authenticate(
@@ -77,18 +84,19 @@ public class AuthService {
                     )
             );
 
+            verified = true;
+            loginThrottle.succeeded(attempt);
+
             // 사용자 정보 조회
             User user = userService.findByEmail(request.getEmail());
 
-            // JWT 토큰 생성
-            String token = jwtUtil.generateToken(
-                    user.getEmail(),
-                    user.getId(),
-                    user.getUsername()
-            );
+            // 액세스/리프레시 토큰 발급
+            RefreshTokenService.IssuedTokens tokens = refreshTokenService.issue(user);
 
             return AuthResponse.builder()
-                    .token(token)
+                    .token(tokens.accessToken())
+                    .refreshToken(tokens.refreshToken())
+                    .expiresIn(tokens.expiresIn())
                     .userId(user.getId())
                     .username(user.getUsername())
                     .email(user.getEmail())
@@ -96,11 +104,56 @@ public class AuthService {
                     .build();
                     
         } catch (BadCredentialsException e) {
+            // 예약한 시도는 실패 기록으로 남김
             log.warn("Login failed for email: {}", request.getEmail());
             throw new CustomException(ErrorCode.INVALID_LOGIN_CREDENTIALS);
+        } catch (CustomException e) {
+            // 해시 풀 포화(AUTH_BUSY) 등은 그대로 전달 (검증 전에 끝났으면 예약을 되돌림)
+            if (!verified) {
+                loginThrottle.abandoned(attempt);
+            }
+            throw e;
         } catch (Exception e) {
+            if (!verified) {
+                loginThrottle.abandoned(attempt);
+            }
             log.error("Unexpected error during login for email: {}", request.getEmail(), e);
             throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
         }
     }
-} 
\ No newline at end of file
+
+    /**
+     * 토큰 갱신 (리프레시 토큰 교체, 재사용 감지로 인한 폐기는 RefreshTokenService가 별도로 커밋)
+     */
+    public AuthResponse refresh(RefreshTokenRequest request) {
+        RefreshTokenService.IssuedTokens tokens = refreshTokenService.refresh(request.getRefreshToken());
+        User user = tokens.user();
+
+        return AuthResponse.builder()
+                .token(tokens.accessToken())
+                .refreshToken(tokens.refreshToken())
+                .expiresIn(tokens.expiresIn())
+                .userId(user.getId())
+                .username(user.getUsername())
+                .email(user.getEmail())
+                .message("토큰이 갱신되었습니다")
+                .build();
+    }
+
+    /**
+     * 로그아웃 (리프레시 토큰 family와 현재 액세스 토큰 폐기)
+     */
+    public void logout(RefreshTokenRequest request, String authorizationHeader) {
+        String accessTokenId = null;
+        String accessToken = jwtUtil.getTokenFromAuthorizationHeader(authorizationHeader);
+        if (accessToken != null) {
+            try {
+                accessTokenId = jwtUtil.parseClaims(accessToken).getId();
+            } catch (JwtException | IllegalArgumentException e) {
+                // 만료되었거나 잘못된 액세스 토큰은 폐기할 필요 없음
+                log.debug("Ignoring invalid access token on logout: {}", e.getMessage());
+            }
+        }
+        refreshTokenService.logout(request.getRefreshToken(), accessTokenId);
+    }
+}
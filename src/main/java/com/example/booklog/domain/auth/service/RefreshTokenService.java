@@ -0,0 +1,183 @@
+package com.example.booklog.domain.auth.service;
+
+import com.example.booklog.common.datasource.ShardContext;
+import com.example.booklog.common.exception.CustomException;
+import com.example.booklog.common.exception.ErrorCode;
+import com.example.booklog.common.security.TokenRevocationList;
+import com.example.booklog.common.util.HashUtil;
+import com.example.booklog.common.util.JwtUtil;
+import com.example.booklog.domain.auth.entity.RefreshToken;
+import com.example.booklog.domain.auth.repository.RefreshTokenRepository;
+import com.example.booklog.domain.user.entity.User;
+import com.example.booklog.domain.user.service.UserService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 액세스/리프레시 토큰 발급과 교체, 폐기
+ * 리프레시 토큰은 한 번만 사용할 수 있고, 사용된 토큰이 다시 오면 같은 family의 모든 토큰과 액세스 토큰을 폐기
+ * 리프레시 토큰은 홈 샤드에 저장하므로, 호출한 쪽에 바인딩된 샤드나 트랜잭션과 관계없이
+ * 홈 샤드를 바인딩한 뒤 새 트랜잭션에서 처리
+ */
+@Slf4j
+@Service
+public class RefreshTokenService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserService userService;
+    private final JwtUtil jwtUtil;
+    private final TokenRevocationList tokenRevocationList;
+    private final TransactionTemplate transactionTemplate;
+    private final long refreshExpiration;
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               UserService userService,
+                               JwtUtil jwtUtil,
+                               TokenRevocationList tokenRevocationList,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${jwt.refresh-expiration:1209600000}") long refreshExpiration) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userService = userService;
+        this.jwtUtil = jwtUtil;
+        this.tokenRevocationList = tokenRevocationList;
+        // 호출한 쪽의 트랜잭션은 다른 샤드의 커넥션을 쓰고 있을 수 있으므로 합류하지 않음
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.refreshExpiration = refreshExpiration;
+    }
+
+    /**
+     * 로그인/회원가입 시 새 family로 발급
+     */
+    public IssuedTokens issue(User user) {
+        return onHomeShard(() -> issue(user, UUID.randomUUID().toString(), LocalDateTime.now()));
+    }
+
+    /**
+     * 리프레시 토큰 교체 (재사용이 감지되면 family 폐기 내역을 커밋한 뒤 예외)
+     */
+    public IssuedTokens refresh(String rawRefreshToken) {
+        IssuedTokens tokens = onHomeShard(() -> rotate(rawRefreshToken));
+        if (tokens == null) {
+            throw new CustomException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
+        return tokens;
+    }
+
+    /**
+     * 로그아웃 (리프레시 토큰의 family와 현재 액세스 토큰 폐기)
+     */
+    public void logout(String rawRefreshToken, String accessTokenId) {
+        if (accessTokenId != null) {
+            tokenRevocationList.revoke(accessTokenId);
+        }
+        if (rawRefreshToken != null) {
+            onHomeShard(() -> {
+                refreshTokenRepository.findByTokenHashForUpdate(HashUtil.sha256(rawRefreshToken))
+                        .ifPresent(token -> revokeFamily(token.getFamilyId(), LocalDateTime.now()));
+                return null;
+            });
+        }
+    }
+
+    @Scheduled(cron = "${booklog.auth.refresh-token.purge-cron:0 30 4 * * *}")
+    public void purgeExpired() {
+        int deleted = onHomeShard(() -> refreshTokenRepository.deleteExpired(LocalDateTime.now()));
+        log.info("만료된 리프레시 토큰 {}건을 삭제했습니다.", deleted);
+    }
+
+    /**
+     * 폐기 목록은 메모리에만 있으므로, 시작 시 아직 만료되지 않았을 수 있는 폐기된 액세스 토큰을 다시 등록
+     * (액세스 토큰은 폐기 시각 이전에 발급되었으므로 폐기 후 유효 시간이 지난 토큰은 이미 만료)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedRevocationList() {
+        LocalDateTime since = LocalDateTime.now().minus(Duration.ofMillis(jwtUtil.getExpirationMillis()));
+        try {
+            List<String> accessTokenIds = onHomeShard(() ->
+                    refreshTokenRepository.findAccessTokenIdsRevokedAfter(since));
+            tokenRevocationList.seed(accessTokenIds);
+            log.info("폐기된 액세스 토큰 {}건을 폐기 목록에 등록했습니다.", accessTokenIds.size());
+        } catch (RuntimeException e) {
+            // 폐기 목록 없이도 시작은 계속 (이후 폐기되는 토큰은 정상 등록)
+            log.error("폐기된 액세스 토큰을 불러오지 못했습니다.", e);
+        }
+    }
+
+    /**
+     * 재사용이 감지되면 family를 폐기하고 null 반환 (폐기 내역이 롤백되지 않도록 예외는 트랜잭션 밖에서 발생)
+     */
+    private IssuedTokens rotate(String rawRefreshToken) {
+        RefreshToken token = refreshTokenRepository.findByTokenHashForUpdate(HashUtil.sha256(rawRefreshToken))
+                .orElseThrow(() -> new CustomException(ErrorCode.INVALID_REFRESH_TOKEN));
+        LocalDateTime now = LocalDateTime.now();
+
+        if (token.isUsed() && token.getRevokedAt() == null) {
+            log.warn("이미 사용된 리프레시 토큰이 다시 제시되었습니다. userId={}, family={}",
+                    token.getUserId(), token.getFamilyId());
+            revokeFamily(token.getFamilyId(), now);
+            return null;
+        }
+        if (!token.isUsable(now)) {
+            throw new CustomException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
+
+        token.markUsed(now);
+        User user = userService.findById(token.getUserId());
+        return issue(user, token.getFamilyId(), now);
+    }
+
+    private IssuedTokens issue(User user, String familyId, LocalDateTime now) {
+        String accessTokenId = UUID.randomUUID().toString();
+        String accessToken = jwtUtil.generateToken(user.getEmail(), user.getId(), user.getUsername(), accessTokenId);
+
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(HashUtil.sha256(refreshToken))
+                .userId(user.getId())
+                .familyId(familyId)
+                .accessTokenId(accessTokenId)
+                .expiresAt(now.plus(Duration.ofMillis(refreshExpiration)))
+                .createdAt(now)
+                .build());
+
+        return new IssuedTokens(user, accessToken, refreshToken, jwtUtil.getExpirationMillis() / 1000);
+    }
+
+    private void revokeFamily(String familyId, LocalDateTime now) {
+        // 아직 만료되지 않았을 수 있는 액세스 토큰도 함께 폐기
+        refreshTokenRepository.findActiveAccessTokenIdsByFamilyId(familyId)
+                .forEach(tokenRevocationList::revoke);
+        refreshTokenRepository.revokeFamily(familyId, now);
+    }
+
+    private <T> T onHomeShard(Supplier<T> task) {
+        return ShardContext.callOn(ShardContext.HOME_SHARD, () -> transactionTemplate.execute(status -> task.get()));
+    }
+
+    /**
+     * 발급된 토큰 (expiresIn: 액세스 토큰 유효 시간(초))
+     */
+    public record IssuedTokens(User user, String accessToken, String refreshToken, long expiresIn) {
+    }
+}
@@ -3,6 +3,8 @@ package com.example.booklog.domain.book.controller;
 import com.example.booklog.domain.book.dto.BookSearchResponse;
 import com.example.booklog.domain.book.dto.BookDetailResponse;
 import com.example.booklog.domain.book.service.GoogleBooksService;
+import com.example.booklog.domain.review.dto.BookRatingStatsResponse;
+import com.example.booklog.domain.review.service.ReviewService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -17,6 +19,7 @@ import org.springframework.web.bind.annotation.*;
 public class BookController {
 
     private final GoogleBooksService googleBooksService;
+    private final ReviewService reviewService;
 
     @GetMapping("/search")
     @Operation(summary = "책 검색", description = "Google Books API를 통해 책을 검색합니다")
@@ -47,4 +50,13 @@ public class BookController {
         BookDetailResponse response = googleBooksService.getBookDetail(googleBooksId);
         return ResponseEntity.ok(response);
     }
-} 
\ No newline at end of file
+
+    @GetMapping("/{googleBooksId}/rating-stats")
+    @Operation(summary = "책 평점 통계 조회", description = "책의 리뷰 수, 평균 평점, 1~5점 분포를 조회합니다.")
+    public ResponseEntity<BookRatingStatsResponse> getBookRatingStats(
+            @Parameter(description = "Google Books API의 책 ID", required = true)
+            @PathVariable String googleBooksId) {
+
+        return ResponseEntity.ok(reviewService.getBookRatingStats(googleBooksId));
+    }
+}
@@ -1,14 +1,16 @@
 package com.example.booklog.domain.book.repository;
 
 import com.example.booklog.domain.book.entity.Book;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 @Repository
-public interface BookRepository extends JpaRepository<Book, Long> {
+public interface BookRepository extends JpaRepository<Book, Long>, BookRepositoryCustom {
     
     Optional<Book> findByGoogleBooksId(String googleBooksId);
     
@@ -16,4 +18,11 @@ public interface BookRepository extends JpaRepository<Book, Long> {
     
     @Query("SELECT b FROM Book b WHERE b.title LIKE %:keyword% OR b.authors LIKE %:keyword%")
     java.util.List<Book> findByTitleOrAuthorsContaining(String keyword);
+
+    /**
+     * 트랜잭션 스냅샷과 무관하게 커밋된 최신 행 조회 (공유 잠금)
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT b FROM Book b WHERE b.id = :id")
+    Optional<Book> findLatestById(Long id);
 } 
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.example.booklog.domain.book.repository;
+
+import com.example.booklog.domain.book.entity.Book;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface BookRepositoryCustom {
+
+    /**
+     * Google Books ID(natural id)로 책 조회 - 2차 캐시 우선
+     */
+    Optional<Book> findByNaturalId(String googleBooksId);
+
+    /**
+     * ID 목록으로 책 일괄 조회 - 2차 캐시 우선, 캐시에 없는 책만 한 번에 조회 (요청 순서 유지, 없는 책은 null)
+     */
+    List<Book> multiLoad(List<Long> bookIds);
+
+    /**
+     * google_books_id 기준 upsert 후 책 ID 반환 (이미 있으면 기존 행 유지)
+     */
+    Long upsertAndGetId(Book book);
+}
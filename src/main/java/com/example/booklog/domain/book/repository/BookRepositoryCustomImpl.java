@@ -0,0 +1,111 @@
+package com.example.booklog.domain.book.repository;
+
+import com.example.booklog.domain.book.entity.Book;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class BookRepositoryCustomImpl implements BookRepositoryCustom {
+
+    private static final String INSERT_BOOK =
+            "INSERT INTO books (google_books_id, title, authors, publisher, published_date, description, " +
+            "page_count, thumbnail_url, isbn, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) ";
+
+    // MySQL: 중복 시 LAST_INSERT_ID(id)로 기존 ID를 생성 키로 돌려받음 (한 번의 구문)
+    private static final String UPSERT_BOOK_MYSQL =
+            INSERT_BOOK + "ON DUPLICATE KEY UPDATE id = LAST_INSERT_ID(id)";
+
+    // 그 외(H2 MySQL 모드 등): 원자적 upsert 후 ID 조회
+    private static final String UPSERT_BOOK_GENERIC =
+            INSERT_BOOK + "ON DUPLICATE KEY UPDATE google_books_id = google_books_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile Boolean mysql;
+
+    /**
+     * natural id 캐시 -> 엔티티 캐시 -> DB 순으로 조회
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Book> findByNaturalId(String googleBooksId) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Book.class)
+                .loadOptional(googleBooksId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Book> multiLoad(List<Long> bookIds) {
+        return entityManager.unwrap(Session.class)
+                .byMultipleIds(Book.class)
+                .multiLoad(bookIds);
+    }
+
+    /**
+     * 동시에 같은 책을 추가해도 unique 제약 위반 없이 하나의 행으로 수렴
+     */
+    @Override
+    @Transactional
+    public Long upsertAndGetId(Book book) {
+        if (isMySql()) {
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.update(connection -> {
+                PreparedStatement ps = connection.prepareStatement(UPSERT_BOOK_MYSQL, Statement.RETURN_GENERATED_KEYS);
+                bindBook(ps, book);
+                return ps;
+            }, keyHolder);
+            return keyHolder.getKey().longValue();
+        }
+
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(UPSERT_BOOK_GENERIC);
+            bindBook(ps, book);
+            return ps;
+        });
+        return jdbcTemplate.queryForObject(
+                "SELECT id FROM books WHERE google_books_id = ?", Long.class, book.getGoogleBooksId());
+    }
+
+    private void bindBook(PreparedStatement ps, Book book) throws SQLException {
+        LocalDateTime now = LocalDateTime.now();
+        ps.setString(1, book.getGoogleBooksId());
+        ps.setString(2, book.getTitle());
+        ps.setString(3, book.getAuthors());
+        ps.setString(4, book.getPublisher());
+        ps.setObject(5, book.getPublishedDate());
+        ps.setString(6, book.getDescription());
+        ps.setObject(7, book.getPageCount());
+        ps.setString(8, book.getThumbnailUrl());
+        ps.setString(9, book.getIsbn());
+        ps.setObject(10, now);
+        ps.setObject(11, now);
+    }
+
+    private boolean isMySql() {
+        if (mysql == null) {
+            String productName = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            mysql = productName != null && productName.toLowerCase().contains("mysql");
+        }
+        return mysql;
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.booklog.domain.book.service;
 
+import com.example.booklog.common.datasource.ReferenceDataReplicator;
 import com.example.booklog.domain.book.dto.BookSearchResponse;
 import com.example.booklog.domain.book.entity.Book;
 import com.example.booklog.common.exception.CustomException;
@@ -7,9 +8,12 @@ import com.example.booklog.common.exception.ErrorCode;
 import com.example.booklog.domain.book.repository.BookRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 @Service
@@ -19,20 +23,22 @@ import java.util.Optional;
 public class BookService {
 
     private final BookRepository bookRepository;
+    private final ObjectProvider<ReferenceDataReplicator> referenceDataReplicator;
 
     /**
      * Google Books ID로 책 조회 (없으면 생성)
+     * 대부분은 이미 있는 책이므로 먼저 자연 키(2차 캐시)로 조회하고, 없을 때만 upsert하여
+     * 동시에 같은 책을 처음 추가해도 실패하지 않음
      */
     @Transactional
     public Book findOrCreateBook(BookSearchResponse.BookSummary bookSummary) {
-        Optional<Book> existingBook = bookRepository.findByGoogleBooksId(bookSummary.getGoogleBooksId());
-        
-        if (existingBook.isPresent()) {
-            return existingBook.get();
+        // 샤딩 환경에서도 책은 모든 샤드에 같은 ID로 복제되므로 현재 샤드에서 찾으면 그대로 사용
+        Optional<Book> existing = bookRepository.findByNaturalId(bookSummary.getGoogleBooksId());
+        if (existing.isPresent()) {
+            return existing.get();
         }
 
-        // 새 책 생성
-        Book newBook = Book.builder()
+        Book book = Book.builder()
                 .googleBooksId(bookSummary.getGoogleBooksId())
                 .title(bookSummary.getTitle())
                 .authors(bookSummary.getAuthors() != null ? String.join(", ", bookSummary.getAuthors()) : null)
@@ -44,14 +50,23 @@ public class BookService {
                 .isbn(bookSummary.getIsbn())
                 .build();
 
-        return bookRepository.save(newBook);
+        // 샤딩 환경에서는 홈 샤드에서 ID를 확정한 뒤 모든 샤드에 복제
+        ReferenceDataReplicator replicator = referenceDataReplicator.getIfAvailable();
+        if (replicator == null) {
+            return findById(bookRepository.upsertAndGetId(book));
+        }
+
+        // 복제는 별도 커넥션에서 커밋되고 위 조회로 이미 스냅샷이 잡혔으므로 잠금 읽기로 최신 행을 조회
+        Long bookId = replicator.upsertBook(book);
+        return bookRepository.findLatestById(bookId)
+                .orElseThrow(() -> new CustomException(ErrorCode.BOOK_NOT_FOUND));
     }
 
     /**
      * Google Books ID로 책 조회
      */
     public Book findByGoogleBooksId(String googleBooksId) {
-        return bookRepository.findByGoogleBooksId(googleBooksId)
+        return bookRepository.findByNaturalId(googleBooksId)
                 .orElseThrow(() -> new CustomException(ErrorCode.BOOK_NOT_FOUND));
     }
 
@@ -63,6 +78,15 @@ public class BookService {
                 .orElseThrow(() -> new CustomException(ErrorCode.BOOK_NOT_FOUND));
     }
 
+    /**
+     * ID 목록으로 책 일괄 조회 (2차 캐시 우선, 없는 책은 제외하고 요청 순서 유지)
+     */
+    public List<Book> findAllByIds(List<Long> bookIds) {
+        return bookRepository.multiLoad(bookIds).stream()
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     /**
      * 책 정보 업데이트
      */
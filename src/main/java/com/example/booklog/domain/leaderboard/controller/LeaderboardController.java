@@ -0,0 +1,44 @@
+package com.example.booklog.domain.leaderboard.controller;
+
+import com.example.booklog.domain.leaderboard.dto.LeaderboardResponse;
+import com.example.booklog.domain.leaderboard.service.LeaderboardService;
+import com.example.booklog.domain.user.service.CustomUserDetails;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/leaderboards")
+@RequiredArgsConstructor
+@Tag(name = "Leaderboard", description = "순위표 API")
+public class LeaderboardController {
+
+    private final LeaderboardService leaderboardService;
+
+    /**
+     * 이번 달 완독 순위 조회
+     */
+    @GetMapping("/readers")
+    @Operation(summary = "이번 달 완독 순위 조회", description = "이번 달 완독한 책이 많은 사용자 순위와 내 순위를 조회합니다")
+    public ResponseEntity<LeaderboardResponse.Readers> getTopReaders(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Parameter(description = "조회할 순위 수 (최대 100)") @RequestParam(defaultValue = "10") int limit) {
+
+        return ResponseEntity.ok(leaderboardService.getTopReaders(userDetails.getUserId(), limit));
+    }
+
+    /**
+     * 평점 높은 책 순위 조회
+     */
+    @GetMapping("/books")
+    @Operation(summary = "평점 높은 책 순위 조회", description = "리뷰 수가 기준 이상인 책 중 평균 평점이 높은 순서로 조회합니다")
+    public ResponseEntity<LeaderboardResponse.Books> getTopRatedBooks(
+            @Parameter(description = "조회할 순위 수 (최대 100)") @RequestParam(defaultValue = "10") int limit) {
+
+        return ResponseEntity.ok(leaderboardService.getTopRatedBooks(limit));
+    }
+}
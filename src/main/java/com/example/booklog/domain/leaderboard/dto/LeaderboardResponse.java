@@ -0,0 +1,55 @@
+package com.example.booklog.domain.leaderboard.dto;
+
+import com.example.booklog.domain.userbook.dto.UserBookResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+public class LeaderboardResponse {
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Readers {
+        private String period;          // yyyy-MM
+        private List<Reader> top;
+        private Long myRank;            // 이번 달 완독 기록이 없으면 null
+        private Long myCompletedBooks;
+        private Integer totalReaders;
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Reader {
+        private Long rank;
+        private Long userId;
+        private String username;
+        private Long completedBooks;
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Books {
+        private Integer minReviews;
+        private List<RatedBook> top;
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RatedBook {
+        private Long rank;
+        private UserBookResponse.BookInfo book;
+        private Double averageRating;
+        private Long reviewCount;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.booklog.domain.leaderboard.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * LeaderboardService가 재시작 복구용으로 저장하는 순위표 스냅샷 (스키마 생성용 매핑)
+ */
+@Entity
+@Table(name = "leaderboard_snapshots")
+@IdClass(LeaderboardSnapshot.SnapshotId.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LeaderboardSnapshot {
+
+    @Id
+    @Column(name = "board", length = 30)
+    private String board;
+
+    @Id
+    @Column(name = "member_id")
+    private Long memberId;
+
+    // 순위표 기간 (월간 순위는 yyyy-MM, 누적 순위는 빈 문자열)
+    @Column(name = "period", nullable = false, length = 10)
+    private String period;
+
+    @Column(name = "score", nullable = false)
+    private Long score;
+
+    @Column(name = "review_count")
+    private Long reviewCount;
+
+    @Column(name = "rating_sum")
+    private Long ratingSum;
+
+    @Column(name = "snapshot_at", nullable = false)
+    private LocalDateTime snapshotAt;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class SnapshotId implements Serializable {
+        private String board;
+        private Long memberId;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.booklog.domain.leaderboard.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 순위표 스냅샷을 저장할 노드 임대 (한 노드만 저장하도록, 만료되면 다른 노드가 넘겨받음, 스키마 생성용 매핑)
+ */
+@Entity
+@Table(name = "leaderboard_snapshot_leases")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LeaderboardSnapshotLease {
+
+    @Id
+    @Column(name = "name", length = 30)
+    private String name;
+
+    @Column(name = "owner_id", nullable = false, length = 36)
+    private String ownerId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
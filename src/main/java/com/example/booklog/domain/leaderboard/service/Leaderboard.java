@@ -0,0 +1,149 @@
+package com.example.booklog.domain.leaderboard.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 점수 내림차순 순위표 (메모리)
+ * 상위 K는 정렬 집합을 앞에서부터 순회하고, 순위는 점수별 인원 수를 담은 펜윅 트리로 O(log n) 계산
+ * 점수 변경은 기존 항목 제거 후 추가이므로, 순회 중 항목이 빠져 보이지 않도록 조회도 읽기 잠금 사용
+ * 점수는 1 ~ maxScore 범위로 가정하며, 초과한 점수는 순위 계산에서 maxScore와 동점으로 취급
+ */
+public class Leaderboard {
+
+    // 점수 내림차순, 동점이면 id 오름차순
+    private static final Comparator<Entry> ORDER = Comparator.comparingLong(Entry::score).reversed()
+            .thenComparingLong(Entry::id);
+
+    private final ConcurrentSkipListSet<Entry> ranking = new ConcurrentSkipListSet<>(ORDER);
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final int maxScore;
+    private final long[] tree;
+
+    public Leaderboard(int maxScore) {
+        this.maxScore = maxScore;
+        this.tree = new long[maxScore + 1];
+    }
+
+    /**
+     * 점수 설정 (0 이하이면 순위표에서 제외)
+     */
+    public void set(long id, long score) {
+        lock.writeLock().lock();
+        try {
+            Entry previous = entries.remove(id);
+            if (previous != null) {
+                ranking.remove(previous);
+                add(bucket(previous.score()), -1);
+            }
+            if (score > 0) {
+                Entry entry = new Entry(id, score);
+                entries.put(id, entry);
+                ranking.add(entry);
+                add(bucket(score), 1);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 점수 증감
+     */
+    public void increment(long id, long delta) {
+        lock.writeLock().lock();
+        try {
+            set(id, score(id) + delta);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            ranking.clear();
+            Arrays.fill(tree, 0);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public long score(long id) {
+        Entry entry = entries.get(id);
+        return entry != null ? entry.score() : 0;
+    }
+
+    /**
+     * 상위 K개
+     */
+    public List<Entry> top(int limit) {
+        lock.readLock().lock();
+        try {
+            List<Entry> top = new ArrayList<>(Math.min(limit, entries.size()));
+            for (Entry entry : ranking) {
+                if (top.size() >= limit) {
+                    break;
+                }
+                top.add(entry);
+            }
+            return top;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 순위 (1부터, 동점은 같은 순위), 순위표에 없으면 null
+     */
+    public Long rank(long id) {
+        lock.readLock().lock();
+        try {
+            Entry entry = entries.get(id);
+            if (entry == null) {
+                return null;
+            }
+            // 자신보다 점수가 높은 인원 수 + 1
+            return entries.size() - prefixSum(bucket(entry.score())) + 1;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Entry> entries() {
+        return new ArrayList<>(entries.values());
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private int bucket(long score) {
+        return (int) Math.min(Math.max(score, 1), maxScore);
+    }
+
+    private void add(int index, long delta) {
+        for (int i = index; i <= maxScore; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    private long prefixSum(int index) {
+        long sum = 0;
+        for (int i = index; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    public record Entry(long id, long score) {
+    }
+}
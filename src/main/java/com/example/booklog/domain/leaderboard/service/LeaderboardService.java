@@ -0,0 +1,455 @@
+package com.example.booklog.domain.leaderboard.service;
+
+import com.example.booklog.common.cache.CacheInvalidationBus;
+import com.example.booklog.common.datasource.ShardContext;
+import com.example.booklog.common.datasource.ShardDataSources;
+import com.example.booklog.domain.book.service.BookService;
+import com.example.booklog.domain.leaderboard.dto.LeaderboardResponse;
+import com.example.booklog.domain.review.event.ReviewRatingChangedEvent;
+import com.example.booklog.domain.stats.event.ReadingCompletedEvent;
+import com.example.booklog.domain.stats.event.ReadingCompletionsRecountEvent;
+import com.example.booklog.domain.userbook.dto.UserBookResponse;
+import com.example.booklog.domain.userbook.entity.UserBook;
+import com.example.booklog.domain.userbook.repository.UserBookRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 전역 순위표 (이번 달 완독 순위, 평점 높은 책 순위)
+ * 커밋된 완독/리뷰 이벤트로 메모리 순위표를 증분 갱신하고, 같은 변경분을 CacheInvalidationBus로 다른 노드에 전파하여
+ * 모든 노드가 같은 순위표를 유지 (전파 지연은 버스의 폴링 주기)
+ * 임대(lease)를 가진 한 노드만 주기적으로 홈 샤드에 스냅샷을 저장하고, 시작 시 스냅샷을 복구
+ * (스냅샷이 없을 때만 원본 테이블에서 한 번 집계), 복구가 끝나기 전에 들어온 변경은 모아 두었다가 복구 후 반영
+ * 스냅샷 저장과 재시작 사이(최대 저장 주기)에 다른 노드에서 반영된 변경은 재시작한 노드에서 빠질 수 있음
+ */
+@Slf4j
+@Service
+public class LeaderboardService {
+
+    static final String READERS = "monthly-readers";
+    static final String BOOKS = "book-ratings";
+    static final String CACHE_NAME = "leaderboard";
+
+    private static final String SNAPSHOT_LEASE = "snapshot";
+
+    // 월간 완독 수 상한 (초과 시 순위 계산에서 동점 처리)
+    private static final int MAX_MONTHLY_COMPLETIONS = 1000;
+    // 평균 평점을 1/1000 단위 정수 점수로 저장
+    private static final int RATING_SCALE = 1000;
+    private static final int MAX_LIMIT = 100;
+
+    private static final String DELETE_SNAPSHOT = "DELETE FROM leaderboard_snapshots WHERE board = ?";
+
+    private static final String INSERT_SNAPSHOT =
+            "INSERT INTO leaderboard_snapshots (board, member_id, period, score, review_count, rating_sum, snapshot_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SELECT_SNAPSHOT =
+            "SELECT member_id, period, score, review_count, rating_sum FROM leaderboard_snapshots WHERE board = ?";
+
+    private static final String INSERT_LEASE =
+            "INSERT IGNORE INTO leaderboard_snapshot_leases (name, owner_id, expires_at) VALUES (?, ?, ?)";
+
+    // 자신이 가진 임대는 연장하고, 만료된 임대는 넘겨받음
+    private static final String ACQUIRE_LEASE =
+            "UPDATE leaderboard_snapshot_leases SET owner_id = ?, expires_at = ? " +
+            "WHERE name = ? AND (owner_id = ? OR expires_at < ?)";
+
+    private static final String SEED_READERS =
+            "SELECT user_id, COUNT(*) FROM user_books WHERE status = 'COMPLETED' AND completed_at >= ? GROUP BY user_id";
+
+    private static final String SEED_BOOKS =
+            "SELECT book_id, COUNT(*), SUM(rating) FROM reviews GROUP BY book_id";
+
+    private static final String SELECT_USERNAMES = "SELECT id, username FROM users WHERE id IN (%s)";
+
+    private final Leaderboard readers = new Leaderboard(MAX_MONTHLY_COMPLETIONS);
+    private final Leaderboard books = new Leaderboard(5 * RATING_SCALE);
+    private final Map<Long, RatingTotals> bookRatings = new ConcurrentHashMap<>();
+    private volatile YearMonth readersPeriod = YearMonth.now();
+    private volatile boolean dirty;
+    // 복구 전에 들어온 변경 (복구가 끝나면 차례로 반영)
+    private final List<PendingChange> pending = new ArrayList<>();
+    private volatile boolean restored;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectProvider<ShardDataSources> shardDataSources;
+    private final UserBookRepository userBookRepository;
+    private final BookService bookService;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    @Value("${booklog.leaderboard.min-reviews:5}")
+    private int minReviews;
+
+    @Value("${booklog.leaderboard.snapshot-interval-ms:60000}")
+    private long snapshotIntervalMillis;
+
+    public LeaderboardService(JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              ObjectProvider<ShardDataSources> shardDataSources,
+                              UserBookRepository userBookRepository,
+                              BookService bookService,
+                              CacheInvalidationBus cacheInvalidationBus) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.shardDataSources = shardDataSources;
+        this.userBookRepository = userBookRepository;
+        this.bookService = bookService;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        cacheInvalidationBus.subscribe(CACHE_NAME, this::onRemoteChange);
+    }
+
+    /**
+     * 이번 달 완독 순위 (상위 K + 내 순위)
+     */
+    public LeaderboardResponse.Readers getTopReaders(Long userId, int limit) {
+        rollOverIfNeeded(YearMonth.now());
+        List<Leaderboard.Entry> top = readers.top(clamp(limit));
+        Map<Long, String> usernames = findUsernames(top.stream().map(Leaderboard.Entry::id).toList());
+
+        List<LeaderboardResponse.Reader> entries = new ArrayList<>(top.size());
+        for (Leaderboard.Entry entry : top) {
+            entries.add(LeaderboardResponse.Reader.builder()
+                    .rank(readers.rank(entry.id()))
+                    .userId(entry.id())
+                    .username(usernames.get(entry.id()))
+                    .completedBooks(entry.score())
+                    .build());
+        }
+
+        return LeaderboardResponse.Readers.builder()
+                .period(readersPeriod.toString())
+                .top(entries)
+                .myRank(readers.rank(userId))
+                .myCompletedBooks(readers.score(userId))
+                .totalReaders(readers.size())
+                .build();
+    }
+
+    /**
+     * 평점 높은 책 순위 (리뷰 수가 기준 이상인 책만)
+     */
+    public LeaderboardResponse.Books getTopRatedBooks(int limit) {
+        List<LeaderboardResponse.RatedBook> entries = new ArrayList<>();
+        for (Leaderboard.Entry entry : books.top(clamp(limit))) {
+            RatingTotals totals = bookRatings.get(entry.id());
+            entries.add(LeaderboardResponse.RatedBook.builder()
+                    .rank(books.rank(entry.id()))
+                    .book(UserBookResponse.BookInfo.from(bookService.findById(entry.id())))
+                    .averageRating((double) entry.score() / RATING_SCALE)
+                    .reviewCount(totals != null ? totals.reviewCount() : null)
+                    .build());
+        }
+
+        return LeaderboardResponse.Books.builder()
+                .minReviews(minReviews)
+                .top(entries)
+                .build();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReadingCompleted(ReadingCompletedEvent event) {
+        Long userId = event.userId();
+        YearMonth period = YearMonth.from(event.completedAt());
+        apply(READERS, () -> addCompletion(userId, period));
+        cacheInvalidationBus.publish(CACHE_NAME, "c:" + userId + ":" + period);
+    }
+
+    /**
+     * 완독 해제나 일괄 변경 등은 해당 사용자의 이번 달 완독 수를 인덱스 범위로 다시 셈 (다른 노드에는 센 값을 전파)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReadingCompletionsRecount(ReadingCompletionsRecountEvent event) {
+        Long userId = event.userId();
+        YearMonth period = YearMonth.now();
+        long completed = userBookRepository.countByUserIdAndStatusAndCompletedAtGreaterThanEqual(
+                userId, UserBook.ReadingStatus.COMPLETED, period.atDay(1).atStartOfDay());
+        apply(READERS, () -> setCompletions(userId, period, completed));
+        cacheInvalidationBus.publish(CACHE_NAME, "s:" + userId + ":" + period + ":" + completed);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewRatingChanged(ReviewRatingChangedEvent event) {
+        apply(BOOKS, () -> applyRating(event.bookId(), event.reviewDelta(), event.ratingDelta()));
+        cacheInvalidationBus.publish(CACHE_NAME,
+                "r:" + event.bookId() + ":" + event.reviewDelta() + ":" + event.ratingDelta());
+    }
+
+    /**
+     * 다른 노드에서 전파된 변경 반영
+     * - c:{userId}:{yyyy-MM}: 완독 1건
+     * - s:{userId}:{yyyy-MM}:{count}: 월간 완독 수 설정
+     * - r:{bookId}:{reviewDelta}:{ratingDelta}: 리뷰 수/평점 합 증감
+     */
+    private void onRemoteChange(String change) {
+        String[] parts = change.split(":");
+        try {
+            switch (parts[0]) {
+                case "c" -> {
+                    long userId = Long.parseLong(parts[1]);
+                    YearMonth period = YearMonth.parse(parts[2]);
+                    apply(READERS, () -> addCompletion(userId, period));
+                }
+                case "s" -> {
+                    long userId = Long.parseLong(parts[1]);
+                    YearMonth period = YearMonth.parse(parts[2]);
+                    long completed = Long.parseLong(parts[3]);
+                    apply(READERS, () -> setCompletions(userId, period, completed));
+                }
+                case "r" -> {
+                    long bookId = Long.parseLong(parts[1]);
+                    long reviewDelta = Long.parseLong(parts[2]);
+                    long ratingDelta = Long.parseLong(parts[3]);
+                    apply(BOOKS, () -> applyRating(bookId, reviewDelta, ratingDelta));
+                }
+                default -> log.warn("알 수 없는 순위표 변경입니다. change={}", change);
+            }
+        } catch (RuntimeException e) {
+            log.warn("순위표 변경을 해석하지 못했습니다. change={}", change, e);
+        }
+    }
+
+    /**
+     * 시작 시 스냅샷 복구 (스냅샷이 없거나 지난 달 것이면 원본 테이블에서 한 번 집계)
+     * 실패하면 빈 순위표로 시작하며, 어느 경우든 복구가 끝난 뒤 모아 둔 변경을 반영
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        try {
+            ShardContext.callOn(ShardContext.HOME_SHARD, () -> {
+                restoreReaders();
+                restoreBooks();
+                return null;
+            });
+        } catch (RuntimeException e) {
+            readers.clear();
+            books.clear();
+            bookRatings.clear();
+            log.error("순위표를 복구하지 못하여 빈 순위표로 시작합니다.", e);
+        } finally {
+            List<PendingChange> buffered;
+            synchronized (pending) {
+                buffered = new ArrayList<>(pending);
+                pending.clear();
+                restored = true;
+            }
+            buffered.forEach(change -> change.change().run());
+            dirty = dirty || !buffered.isEmpty();
+        }
+    }
+
+    /**
+     * 임대를 가진 노드만 스냅샷 저장 (모든 노드의 순위표가 같으므로 어느 노드가 저장해도 같은 결과)
+     */
+    @Scheduled(fixedDelayString = "${booklog.leaderboard.snapshot-interval-ms:60000}")
+    public void snapshot() {
+        if (!restored || !dirty) {
+            return;
+        }
+        try {
+            if (!acquireLease()) {
+                return;
+            }
+            dirty = false;
+            LocalDateTime now = LocalDateTime.now();
+            String period = readersPeriod.toString();
+            List<Object[]> readerArgs = new ArrayList<>();
+            for (Leaderboard.Entry entry : readers.entries()) {
+                readerArgs.add(new Object[]{READERS, entry.id(), period, entry.score(), null, null, now});
+            }
+            List<Object[]> bookArgs = new ArrayList<>();
+            bookRatings.forEach((bookId, totals) -> bookArgs.add(new Object[]{BOOKS, bookId, "",
+                    ratingScore(totals), totals.reviewCount(), totals.ratingSum(), now}));
+
+            ShardContext.callOn(ShardContext.HOME_SHARD, () -> transactionTemplate.execute(status -> {
+                replaceSnapshot(READERS, readerArgs);
+                replaceSnapshot(BOOKS, bookArgs);
+                return null;
+            }));
+        } catch (RuntimeException e) {
+            dirty = true;
+            log.warn("순위표 스냅샷 저장에 실패하여 다음 주기에 다시 시도합니다.", e);
+        }
+    }
+
+    /**
+     * 스냅샷 임대 획득/연장 (저장 주기의 3배 동안 유효, 보유 노드가 멈추면 만료 후 다른 노드가 넘겨받음)
+     */
+    private boolean acquireLease() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plus(Duration.ofMillis(snapshotIntervalMillis * 3));
+        Boolean acquired = ShardContext.callOn(ShardContext.HOME_SHARD, () -> transactionTemplate.execute(status -> {
+            jdbcTemplate.update(INSERT_LEASE, SNAPSHOT_LEASE, nodeId, expiresAt);
+            return jdbcTemplate.update(ACQUIRE_LEASE, nodeId, expiresAt, SNAPSHOT_LEASE, nodeId, now) > 0;
+        }));
+        return Boolean.TRUE.equals(acquired);
+    }
+
+    private void restoreReaders() {
+        YearMonth period = YearMonth.now();
+        List<Object[]> rows = jdbcTemplate.query(SELECT_SNAPSHOT, (rs, rowNum) -> new Object[]{
+                rs.getLong("member_id"), rs.getString("period"), rs.getLong("score")}, READERS);
+
+        if (!rows.isEmpty() && period.toString().equals(rows.get(0)[1])) {
+            rows.forEach(row -> readers.set((Long) row[0], (Long) row[2]));
+        } else {
+            // 이번 달 완독 기록만 집계 (이미 커밋되어 모아 둔 변경은 집계에 포함되므로 버림)
+            discardPending(READERS);
+            Object startOfMonth = period.atDay(1).atStartOfDay();
+            scatter(jdbc -> jdbc.query(SEED_READERS, (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)},
+                    startOfMonth)).forEach(row -> readers.set(row[0], row[1]));
+            dirty = true;
+        }
+        readersPeriod = period;
+        log.info("{} 순위표를 복구했습니다. ({}명)", READERS, readers.size());
+    }
+
+    private void restoreBooks() {
+        List<long[]> rows = jdbcTemplate.query(SELECT_SNAPSHOT, (rs, rowNum) -> new long[]{
+                rs.getLong("member_id"), rs.getLong("review_count"), rs.getLong("rating_sum")}, BOOKS);
+
+        if (rows.isEmpty()) {
+            // 처음 배포할 때만 실행 (샤드마다 같은 책의 리뷰가 흩어져 있으므로 합산)
+            discardPending(BOOKS);
+            rows = scatter(jdbc -> jdbc.query(SEED_BOOKS, (rs, rowNum) -> new long[]{
+                    rs.getLong(1), rs.getLong(2), rs.getLong(3)}));
+            dirty = true;
+        }
+        rows.forEach(row -> applyRating(row[0], row[1], row[2]));
+        log.info("{} 순위표를 복구했습니다. ({}권)", BOOKS, books.size());
+    }
+
+    /**
+     * 복구 전이면 모아 두고, 복구 후면 바로 반영
+     */
+    private void apply(String board, Runnable change) {
+        synchronized (pending) {
+            if (!restored) {
+                pending.add(new PendingChange(board, change));
+                return;
+            }
+        }
+        change.run();
+        dirty = true;
+    }
+
+    private void discardPending(String board) {
+        synchronized (pending) {
+            pending.removeIf(change -> change.board().equals(board));
+        }
+    }
+
+    private void addCompletion(long userId, YearMonth period) {
+        rollOverIfNeeded(period);
+        if (period.equals(readersPeriod)) {
+            readers.increment(userId, 1);
+        }
+    }
+
+    private void setCompletions(long userId, YearMonth period, long completed) {
+        rollOverIfNeeded(period);
+        if (period.equals(readersPeriod)) {
+            readers.set(userId, completed);
+        }
+    }
+
+    private void applyRating(Long bookId, long reviewDelta, long ratingDelta) {
+        bookRatings.compute(bookId, (id, totals) -> {
+            RatingTotals updated = (totals != null ? totals : RatingTotals.EMPTY).plus(reviewDelta, ratingDelta);
+            books.set(id, ratingScore(updated));
+            return updated.reviewCount() > 0 ? updated : null;
+        });
+    }
+
+    private void replaceSnapshot(String board, List<Object[]> args) {
+        jdbcTemplate.update(DELETE_SNAPSHOT, board);
+        if (!args.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SNAPSHOT, args);
+        }
+    }
+
+    /**
+     * 달이 바뀌면 월간 순위표 초기화
+     */
+    private synchronized void rollOverIfNeeded(YearMonth period) {
+        if (period.isAfter(readersPeriod)) {
+            readers.clear();
+            readersPeriod = period;
+            dirty = true;
+        }
+    }
+
+    private long ratingScore(RatingTotals totals) {
+        if (totals.reviewCount() < minReviews || totals.reviewCount() <= 0) {
+            return 0;
+        }
+        return Math.round((double) totals.ratingSum() * RATING_SCALE / totals.reviewCount());
+    }
+
+    private Map<Long, String> findUsernames(List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        // 사용자는 홈 샤드에 모두 있으므로 요청 샤드와 관계없이 홈 샤드에서 조회
+        ShardDataSources shards = shardDataSources.getIfAvailable();
+        JdbcTemplate home = shards != null ? shards.jdbcTemplate(ShardContext.HOME_SHARD) : jdbcTemplate;
+        Map<Long, String> usernames = new HashMap<>();
+        home.query(String.format(SELECT_USERNAMES, String.join(",", Collections.nCopies(userIds.size(), "?"))),
+                rs -> {
+                    usernames.put(rs.getLong("id"), rs.getString("username"));
+                }, userIds.toArray());
+        return usernames;
+    }
+
+    /**
+     * 모든 샤드에서 조회한 행을 합침 (샤딩을 쓰지 않으면 기본 데이터소스)
+     */
+    private <T> List<T> scatter(Function<JdbcTemplate, List<T>> query) {
+        ShardDataSources shards = shardDataSources.getIfAvailable();
+        if (shards == null) {
+            return query.apply(jdbcTemplate);
+        }
+        List<T> rows = new ArrayList<>();
+        shards.scatter(query).forEach(rows::addAll);
+        return rows;
+    }
+
+    private int clamp(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
+    private record PendingChange(String board, Runnable change) {
+    }
+
+    private record RatingTotals(long reviewCount, long ratingSum) {
+
+        static final RatingTotals EMPTY = new RatingTotals(0, 0);
+
+        RatingTotals plus(long reviewDelta, long ratingDelta) {
+            return new RatingTotals(reviewCount + reviewDelta, ratingSum + ratingDelta);
+        }
+    }
+}
@@ -65,8 +65,7 @@ public class ReviewController {
                 Sort.Direction.ASC : Sort.Direction.DESC;
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sort));
 
-        Page<Review> reviews = reviewService.getReviewsByGoogleBooksId(googleBooksId, pageable);
-        Page<ReviewResponse> response = reviews.map(ReviewResponse::from);
+        Page<ReviewResponse> response = reviewService.getReviewResponsesByGoogleBooksId(googleBooksId, pageable);
         
         return ResponseEntity.ok(response);
     }
@@ -0,0 +1,40 @@
+package com.example.booklog.domain.review.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookRatingStatsResponse {
+
+    private String googleBooksId;
+    private Long reviewCount;
+    private Double averageRating;
+    private Map<Integer, Long> distribution;   // 평점(1~5) -> 리뷰 수
+
+    // 1~5점 리뷰 수 배열(인덱스 0이 1점)에서 변환
+    public static BookRatingStatsResponse of(String googleBooksId, long[] distribution) {
+        Map<Integer, Long> byRating = new LinkedHashMap<>();
+        long reviewCount = 0;
+        long ratingSum = 0;
+        for (int i = 0; i < distribution.length; i++) {
+            byRating.put(i + 1, distribution[i]);
+            reviewCount += distribution[i];
+            ratingSum += (i + 1) * distribution[i];
+        }
+
+        return BookRatingStatsResponse.builder()
+                .googleBooksId(googleBooksId)
+                .reviewCount(reviewCount)
+                .averageRating(reviewCount == 0 ? 0.0 : (double) ratingSum / reviewCount)
+                .distribution(byRating)
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.booklog.domain.review.dto;
 
+import com.example.booklog.domain.book.entity.Book;
 import com.example.booklog.domain.review.entity.Review;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -59,10 +60,35 @@ public class ReviewResponse {
         private String isbn;
         private Double averageRating;
         private Integer reviewCount;
+
+        // 평점 통계를 별도로 집계한 경우 사용
+        public static BookInfo of(Book book, Double averageRating, Integer reviewCount) {
+            return BookInfo.builder()
+                    .id(book.getId())
+                    .googleBooksId(book.getGoogleBooksId())
+                    .title(book.getTitle())
+                    .authors(book.getAuthors())
+                    .publisher(book.getPublisher())
+                    .publishedDate(book.getPublishedDate())
+                    .description(book.getDescription())
+                    .pageCount(book.getPageCount())
+                    .thumbnailUrl(book.getThumbnailUrl())
+                    .isbn(book.getIsbn())
+                    .averageRating(averageRating)
+                    .reviewCount(reviewCount)
+                    .build();
+        }
     }
 
     // Entity에서 Response로 변환하는 정적 메서드
     public static ReviewResponse from(Review review) {
+        return from(review, BookInfo.of(review.getBook(),
+                review.getBook().getAverageRating(),
+                review.getBook().getReviewCount()));
+    }
+
+    // 책 평점 통계를 미리 조회한 경우 사용 (책의 전체 리뷰를 읽지 않음)
+    public static ReviewResponse from(Review review, BookInfo bookInfo) {
         return ReviewResponse.builder()
                 .id(review.getId())
                 .user(UserInfo.builder()
@@ -70,20 +96,7 @@ public class ReviewResponse {
                         .username(review.getUser().getUsername())
                         .email(review.getUser().getEmail())
                         .build())
-                .book(BookInfo.builder()
-                        .id(review.getBook().getId())
-                        .googleBooksId(review.getBook().getGoogleBooksId())
-                        .title(review.getBook().getTitle())
-                        .authors(review.getBook().getAuthors())
-                        .publisher(review.getBook().getPublisher())
-                        .publishedDate(review.getBook().getPublishedDate())
-                        .description(review.getBook().getDescription())
-                        .pageCount(review.getBook().getPageCount())
-                        .thumbnailUrl(review.getBook().getThumbnailUrl())
-                        .isbn(review.getBook().getIsbn())
-                        .averageRating(review.getBook().getAverageRating())
-                        .reviewCount(review.getBook().getReviewCount())
-                        .build())
+                .book(bookInfo)
                 .rating(review.getRating())
                 .oneLineReview(review.getOneLineReview())
                 .detailedReview(review.getDetailedReview())
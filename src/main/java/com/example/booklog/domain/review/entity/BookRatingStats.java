@@ -0,0 +1,53 @@
+package com.example.booklog.domain.review.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 책별 평점 분포 (1~5점 리뷰 수)
+ * 리뷰 작성/수정/삭제와 같은 트랜잭션에서 증감하며, 리뷰 수와 평균은 분포에서 계산
+ * 샤딩 환경에서는 리뷰가 저장된 샤드마다 해당 샤드의 분포를 보관
+ */
+@Entity
+@Table(name = "book_rating_stats")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BookRatingStats {
+
+    @Id
+    @Column(name = "book_id")
+    private Long bookId;
+
+    @Column(name = "rating1", nullable = false)
+    private Long rating1;
+
+    @Column(name = "rating2", nullable = false)
+    private Long rating2;
+
+    @Column(name = "rating3", nullable = false)
+    private Long rating3;
+
+    @Column(name = "rating4", nullable = false)
+    private Long rating4;
+
+    @Column(name = "rating5", nullable = false)
+    private Long rating5;
+
+    // 변경될 때마다 증가 (조건부 조회용)
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * 1~5점 리뷰 수 배열 (인덱스 0이 1점)
+     */
+    public long[] toDistribution() {
+        return new long[]{rating1, rating2, rating3, rating4, rating5};
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.booklog.domain.review.event;
+
+/**
+ * 책의 리뷰 수 또는 평점 합계가 바뀜 (작성 +1, 삭제 -1, 수정 시 평점 차이)
+ */
+public record ReviewRatingChangedEvent(Long bookId, long reviewDelta, long ratingDelta) {
+}
@@ -0,0 +1,11 @@
+package com.example.booklog.domain.review.repository;
+
+/**
+ * 리뷰 한 건의 책과 평점 (일괄 삭제 전 책별 평점 집계 차감용)
+ */
+public interface BookRating {
+
+    Long getBookId();
+
+    Integer getRating();
+}
@@ -0,0 +1,34 @@
+package com.example.booklog.domain.review.repository;
+
+import com.example.booklog.domain.review.entity.BookRatingStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface BookRatingStatsRepository extends JpaRepository<BookRatingStats, Long> {
+
+    @Modifying
+    @Query("UPDATE BookRatingStats s SET s.rating1 = s.rating1 + :delta1, s.rating2 = s.rating2 + :delta2, " +
+           "s.rating3 = s.rating3 + :delta3, s.rating4 = s.rating4 + :delta4, s.rating5 = s.rating5 + :delta5, " +
+           "s.version = s.version + 1, s.updatedAt = :now WHERE s.bookId = :bookId")
+    int applyDelta(Long bookId, long delta1, long delta2, long delta3, long delta4, long delta5, LocalDateTime now);
+
+    /**
+     * 행이 없을 때만 리뷰 테이블에서 집계하여 생성 (이미 있으면 0 반환, 기존 값은 덮어쓰지 않음)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO book_rating_stats (book_id, rating1, rating2, rating3, rating4, rating5, " +
+                   "version, updated_at) " +
+                   "SELECT :bookId, COALESCE(SUM(CASE WHEN rating = 1 THEN 1 ELSE 0 END), 0), " +
+                   "COALESCE(SUM(CASE WHEN rating = 2 THEN 1 ELSE 0 END), 0), " +
+                   "COALESCE(SUM(CASE WHEN rating = 3 THEN 1 ELSE 0 END), 0), " +
+                   "COALESCE(SUM(CASE WHEN rating = 4 THEN 1 ELSE 0 END), 0), " +
+                   "COALESCE(SUM(CASE WHEN rating = 5 THEN 1 ELSE 0 END), 0), 1, :now " +
+                   "FROM reviews WHERE book_id = :bookId",
+           nativeQuery = true)
+    int insertIfAbsent(Long bookId, LocalDateTime now);
+}
@@ -0,0 +1,11 @@
+package com.example.booklog.domain.review.repository;
+
+/**
+ * 책의 평점별 리뷰 수
+ */
+public interface RatingCount {
+
+    Integer getRating();
+
+    Long getReviewCount();
+}
@@ -0,0 +1,13 @@
+package com.example.booklog.domain.review.repository;
+
+/**
+ * 사용자별 리뷰 집계 결과
+ */
+public interface ReviewAggregate {
+
+    Long getReviewCount();
+
+    Double getAverageRating();
+
+    Long getRatingSum();
+}
@@ -8,6 +8,8 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -25,20 +27,27 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     boolean existsByUserIdAndBook_GoogleBooksId(Long userId, String googleBooksId);
     
     // 통계용 쿼리들
-    @Query("SELECT COUNT(r) FROM Review r WHERE r.user.id = :userId")
-    Long countByUserId(Long userId);
+    @Query("SELECT COUNT(r) AS reviewCount, AVG(r.rating) AS averageRating, " +
+           "COALESCE(SUM(r.rating), 0) AS ratingSum FROM Review r WHERE r.user.id = :userId")
+    ReviewAggregate aggregateByUserId(Long userId);
     
-    @Query("SELECT AVG(r.rating) FROM Review r WHERE r.user.id = :userId")
-    Double averageRatingByUserId(Long userId);
-    
-    @Query("SELECT AVG(r.rating) FROM Review r WHERE r.book.id = :bookId")
-    Double averageRatingByBookId(Long bookId);
-    
-    @Query("SELECT COUNT(r) FROM Review r WHERE r.book.id = :bookId")
-    Long countByBookId(Long bookId);
+    // 책별 평점 분포 재계산용 (book_rating_stats 행이 없을 때만 사용)
+    @Query("SELECT r.rating AS rating, COUNT(r) AS reviewCount FROM Review r WHERE r.book.id = :bookId GROUP BY r.rating")
+    List<RatingCount> countByBookIdGroupByRating(Long bookId);
     
     // UserBook 삭제 시 관련 리뷰 삭제를 위한 메서드들
     @Modifying
     @Query("DELETE FROM Review r WHERE r.user.id = :userId AND r.book.id = :bookId")
     void deleteByUserIdAndBookId(Long userId, Long bookId);
-} 
\ No newline at end of file
+    
+    // UserBook 일괄 삭제 전 삭제될 리뷰의 책별 평점 조회
+    @Query("SELECT r.book.id AS bookId, r.rating AS rating FROM Review r WHERE r.user.id = :userId AND r.book.id IN " +
+           "(SELECT ub.book.id FROM UserBook ub WHERE ub.user.id = :userId AND ub.id IN :userBookIds)")
+    List<BookRating> findBookRatingsByUserIdAndUserBookIds(Long userId, Collection<Long> userBookIds);
+    
+    // UserBook 일괄 삭제 시 해당 책들에 대한 본인 리뷰 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM Review r WHERE r.user.id = :userId AND r.book.id IN " +
+           "(SELECT ub.book.id FROM UserBook ub WHERE ub.user.id = :userId AND ub.id IN :userBookIds)")
+    int deleteByUserIdAndUserBookIds(Long userId, Collection<Long> userBookIds);
+}
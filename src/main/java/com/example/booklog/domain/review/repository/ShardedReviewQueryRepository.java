@@ -0,0 +1,137 @@
+package com.example.booklog.domain.review.repository;
+
+import com.example.booklog.common.datasource.ShardDataSources;
+import com.example.booklog.domain.book.entity.Book;
+import com.example.booklog.domain.review.dto.ReviewResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 샤딩 환경에서 책 기준 리뷰 조회
+ * 리뷰는 작성자 샤드에 저장되므로 모든 샤드에서 조회한 뒤 병합
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "booklog.sharding.enabled", havingValue = "true")
+public class ShardedReviewQueryRepository {
+
+    // 정렬 가능한 필드 -> 컬럼
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "createdAt", "r.created_at",
+            "updatedAt", "r.updated_at",
+            "rating", "r.rating");
+
+    private static final String SELECT_REVIEWS =
+            "SELECT r.id, r.rating, r.one_line_review, r.detailed_review, r.created_at, r.updated_at, " +
+            "u.id AS user_id, u.username, u.email " +
+            "FROM reviews r JOIN users u ON u.id = r.user_id " +
+            "WHERE r.book_id = ? ORDER BY %s %s, r.id %s LIMIT ?";
+
+    private static final String SELECT_RATING_STATS =
+            "SELECT rating1, rating2, rating3, rating4, rating5 FROM book_rating_stats WHERE book_id = ?";
+
+    private static final String COUNT_BY_RATING =
+            "SELECT rating, COUNT(*) FROM reviews WHERE book_id = ? GROUP BY rating";
+
+    private final ShardDataSources shardDataSources;
+
+    /**
+     * 각 샤드에서 (offset + size)개까지 정렬 조회 후 병합하여 요청한 페이지만 반환
+     */
+    public Page<ReviewResponse> findByBook(Book book, Pageable pageable) {
+        Sort.Order order = pageable.getSort().stream()
+                .filter(o -> SORT_COLUMNS.containsKey(o.getProperty()))
+                .findFirst()
+                .orElse(Sort.Order.desc("createdAt"));
+        String direction = order.isAscending() ? "ASC" : "DESC";
+        String sql = String.format(SELECT_REVIEWS, SORT_COLUMNS.get(order.getProperty()), direction, direction);
+        long limit = pageable.getOffset() + pageable.getPageSize();
+
+        long[] distribution = findRatingDistribution(book.getId());
+        long total = 0;
+        long ratingSum = 0;
+        for (int i = 0; i < distribution.length; i++) {
+            total += distribution[i];
+            ratingSum += (i + 1) * distribution[i];
+        }
+        ReviewResponse.BookInfo bookInfo = ReviewResponse.BookInfo.of(
+                book, total == 0 ? 0.0 : (double) ratingSum / total, (int) total);
+
+        List<ReviewResponse> merged = new ArrayList<>();
+        shardDataSources.scatter(jdbcTemplate -> jdbcTemplate.query(sql, rowMapper(bookInfo), book.getId(), limit))
+                .forEach(merged::addAll);
+        merged.sort(comparator(order));
+
+        List<ReviewResponse> content = merged.stream()
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .toList();
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /**
+     * 샤드별 평점 분포 행을 합산 (행이 없는 샤드는 리뷰 테이블에서 계산만 하고 저장하지 않음)
+     */
+    public long[] findRatingDistribution(Long bookId) {
+        long[] distribution = new long[5];
+        shardDataSources.scatter(jdbcTemplate -> {
+            List<long[]> rows = jdbcTemplate.query(SELECT_RATING_STATS, (rs, rowNum) -> new long[]{
+                    rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getLong(4), rs.getLong(5)}, bookId);
+            if (!rows.isEmpty()) {
+                return rows.get(0);
+            }
+
+            long[] counted = new long[5];
+            jdbcTemplate.query(COUNT_BY_RATING, rs -> {
+                counted[rs.getInt(1) - 1] = rs.getLong(2);
+            }, bookId);
+            return counted;
+        }).forEach(shard -> {
+            for (int i = 0; i < distribution.length; i++) {
+                distribution[i] += shard[i];
+            }
+        });
+        return distribution;
+    }
+
+    private RowMapper<ReviewResponse> rowMapper(ReviewResponse.BookInfo bookInfo) {
+        return (rs, rowNum) -> ReviewResponse.builder()
+                .id(rs.getLong("id"))
+                .user(ReviewResponse.UserInfo.builder()
+                        .id(rs.getLong("user_id"))
+                        .username(rs.getString("username"))
+                        .email(rs.getString("email"))
+                        .build())
+                .book(bookInfo)
+                .rating(rs.getInt("rating"))
+                .oneLineReview(rs.getString("one_line_review"))
+                .detailedReview(rs.getString("detailed_review"))
+                .createdAt(rs.getObject("created_at", LocalDateTime.class))
+                .updatedAt(rs.getObject("updated_at", LocalDateTime.class))
+                .build();
+    }
+
+    private Comparator<ReviewResponse> comparator(Sort.Order order) {
+        Comparator<ReviewResponse> comparator = switch (order.getProperty()) {
+            case "rating" -> Comparator.comparing(ReviewResponse::getRating);
+            case "updatedAt" -> Comparator.comparing(ReviewResponse::getUpdatedAt,
+                    Comparator.nullsFirst(Comparator.naturalOrder()));
+            default -> Comparator.comparing(ReviewResponse::getCreatedAt,
+                    Comparator.nullsFirst(Comparator.naturalOrder()));
+        };
+        comparator = comparator.thenComparing(ReviewResponse::getId);
+        return order.isAscending() ? comparator : comparator.reversed();
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.booklog.domain.review.service;
+
+import com.example.booklog.common.datasource.ShardContext;
+import com.example.booklog.common.datasource.ShardDataSources;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+/**
+ * book_rating_stats 도입 이전 리뷰의 분포 행을 시작 시 한 번 생성
+ * INSERT IGNORE라 이미 있는 행(쓰기 경로에서 증감 중인 행)은 건드리지 않으며, 샤딩 환경에서는 샤드마다 실행
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "booklog.rating-stats.backfill.enabled", havingValue = "true")
+public class BookRatingStatsBackfill {
+
+    private static final String BACKFILL =
+            "INSERT IGNORE INTO book_rating_stats (book_id, rating1, rating2, rating3, rating4, rating5, " +
+            "version, updated_at) " +
+            "SELECT book_id, SUM(CASE WHEN rating = 1 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN rating = 2 THEN 1 ELSE 0 END), SUM(CASE WHEN rating = 3 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN rating = 4 THEN 1 ELSE 0 END), SUM(CASE WHEN rating = 5 THEN 1 ELSE 0 END), 1, ? " +
+            "FROM reviews GROUP BY book_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectProvider<ShardDataSources> shardDataSources;
+
+    public BookRatingStatsBackfill(JdbcTemplate jdbcTemplate,
+                                   PlatformTransactionManager transactionManager,
+                                   ObjectProvider<ShardDataSources> shardDataSources) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.shardDataSources = shardDataSources;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        ShardDataSources shards = shardDataSources.getIfAvailable();
+        int shardCount = shards != null ? shards.shardCount() : 1;
+
+        for (int shard = 0; shard < shardCount; shard++) {
+            int target = shard;
+            try {
+                Integer created = ShardContext.callOn(shard, () -> transactionTemplate.execute(status ->
+                        jdbcTemplate.update(BACKFILL, LocalDateTime.now())));
+                if (created != null && created > 0) {
+                    log.info("평점 분포 행 {}건을 생성했습니다. (샤드 {})", created, target);
+                }
+            } catch (RuntimeException e) {
+                // 행이 없는 책은 조회 시 리뷰 테이블에서 계산되므로 시작은 계속
+                log.warn("평점 분포 행 생성에 실패했습니다. (샤드 {})", target, e);
+            }
+        }
+    }
+}
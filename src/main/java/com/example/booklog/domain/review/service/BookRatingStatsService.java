@@ -0,0 +1,64 @@
+package com.example.booklog.domain.review.service;
+
+import com.example.booklog.domain.review.repository.BookRatingStatsRepository;
+import com.example.booklog.domain.review.repository.RatingCount;
+import com.example.booklog.domain.review.repository.ReviewRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * book_rating_stats 유지 관리
+ * 리뷰 쓰기 경로에서 호출되어 같은 트랜잭션 안에서 평점별 리뷰 수를 증감 (값을 덮어쓰지 않고 항상 증감으로 반영)
+ * 행이 없으면 이번 변경이 반영된 리뷰 테이블에서 한 번 생성하고, 기존 리뷰는 시작 시 BookRatingStatsBackfill이 채움
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class BookRatingStatsService {
+
+    private final BookRatingStatsRepository bookRatingStatsRepository;
+    private final ReviewRepository reviewRepository;
+
+    /**
+     * 리뷰 작성(previousRating = null), 수정, 삭제(rating = null)
+     */
+    public void onReviewChanged(Long bookId, Integer previousRating, Integer rating) {
+        long[] delta = new long[5];
+        if (previousRating != null) {
+            delta[previousRating - 1]--;
+        }
+        if (rating != null) {
+            delta[rating - 1]++;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        if (applyDelta(bookId, delta, now) == 1) {
+            return;
+        }
+        // 행이 없으면 이번 변경까지 반영된 리뷰 테이블에서 생성하고,
+        // 그 사이 다른 트랜잭션이 먼저 만들었다면(생성 0건) 증감만 적용
+        if (bookRatingStatsRepository.insertIfAbsent(bookId, now) == 0) {
+            applyDelta(bookId, delta, now);
+        }
+    }
+
+    /**
+     * 분포 행이 없는 책의 평점 분포를 리뷰 테이블에서 계산 (조회 경로용, 저장하지 않음)
+     */
+    @Transactional(readOnly = true)
+    public long[] countFromReviews(Long bookId) {
+        long[] distribution = new long[5];
+        for (RatingCount count : reviewRepository.countByBookIdGroupByRating(bookId)) {
+            distribution[count.getRating() - 1] = count.getReviewCount();
+        }
+        return distribution;
+    }
+
+    private int applyDelta(Long bookId, long[] delta, LocalDateTime now) {
+        return bookRatingStatsRepository.applyDelta(bookId,
+                delta[0], delta[1], delta[2], delta[3], delta[4], now);
+    }
+}
@@ -1,15 +1,25 @@
 package com.example.booklog.domain.review.service;
 
+import com.example.booklog.common.web.ContentVersionService;
 import com.example.booklog.domain.book.entity.Book;
+import com.example.booklog.domain.review.dto.BookRatingStatsResponse;
+import com.example.booklog.domain.review.dto.ReviewResponse;
+import com.example.booklog.domain.review.entity.BookRatingStats;
 import com.example.booklog.domain.review.entity.Review;
+import com.example.booklog.domain.review.event.ReviewRatingChangedEvent;
 import com.example.booklog.domain.user.entity.User;
 import com.example.booklog.common.exception.CustomException;
 import com.example.booklog.common.exception.ErrorCode;
+import com.example.booklog.domain.review.repository.BookRatingStatsRepository;
 import com.example.booklog.domain.review.repository.ReviewRepository;
+import com.example.booklog.domain.review.repository.ShardedReviewQueryRepository;
+import com.example.booklog.domain.stats.service.UserStatsService;
 import com.example.booklog.domain.user.service.UserService;
 import com.example.booklog.domain.book.service.BookService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -24,6 +34,12 @@ public class ReviewService {
     private final ReviewRepository reviewRepository;
     private final UserService userService;
     private final BookService bookService;
+    private final ObjectProvider<ShardedReviewQueryRepository> shardedReviewQueryRepository;
+    private final UserStatsService userStatsService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BookRatingStatsService bookRatingStatsService;
+    private final BookRatingStatsRepository bookRatingStatsRepository;
+    private final ContentVersionService contentVersionService;
 
     /**
      * 리뷰 작성
@@ -32,7 +48,7 @@ public class ReviewService {
     public Review createReview(Long userId, String googleBooksId, Integer rating, 
                              String oneLineReview, String detailedReview) {
         
-        User user = userService.findById(userId);
+        User user = userService.findForWrite(userId);
         Book book = bookService.findByGoogleBooksId(googleBooksId);
 
         // 중복 리뷰 체크
@@ -52,7 +68,11 @@ public class ReviewService {
                 .detailedReview(detailedReview)
                 .build();
 
-        return reviewRepository.save(review);
+        Review savedReview = reviewRepository.save(review);
+        userStatsService.onReviewChanged(userId, 1, rating);
+        bookRatingStatsService.onReviewChanged(book.getId(), null, rating);
+        eventPublisher.publishEvent(new ReviewRatingChangedEvent(book.getId(), 1, rating));
+        return savedReview;
     }
 
     /**
@@ -65,12 +85,39 @@ public class ReviewService {
         return reviewRepository.findByBook_GoogleBooksId(googleBooksId, pageable);
     }
 
+    /**
+     * 특정 책의 리뷰 목록을 응답 형태로 조회
+     * 샤딩 환경에서는 모든 샤드의 리뷰를 병합
+     */
+    public Page<ReviewResponse> getReviewResponsesByGoogleBooksId(String googleBooksId, Pageable pageable) {
+        ShardedReviewQueryRepository shardedRepository = shardedReviewQueryRepository.getIfAvailable();
+        Book book = bookService.findByGoogleBooksId(googleBooksId);
+        if (shardedRepository != null) {
+            return shardedRepository.findByBook(book, pageable);
+        }
+
+        // 평균과 리뷰 수는 책의 전체 리뷰 대신 평점 분포 행에서 계산
+        BookRatingStatsResponse stats = BookRatingStatsResponse.of(googleBooksId, findRatingDistribution(book.getId()));
+        ReviewResponse.BookInfo bookInfo = ReviewResponse.BookInfo.of(
+                book, stats.getAverageRating(), stats.getReviewCount().intValue());
+        return reviewRepository.findByBook_GoogleBooksId(googleBooksId, pageable)
+                .map(review -> ReviewResponse.from(review, bookInfo));
+    }
+
+    /**
+     * 책 평점 통계 조회 (평점 분포 행 하나, 샤딩 환경에서는 샤드별 행 합산)
+     */
+    public BookRatingStatsResponse getBookRatingStats(String googleBooksId) {
+        Book book = bookService.findByGoogleBooksId(googleBooksId);
+        return BookRatingStatsResponse.of(googleBooksId, findRatingDistribution(book.getId()));
+    }
+
     /**
      * 특정 사용자의 리뷰 목록 조회
      */
     public Page<Review> getReviewsByUser(Long userId, Pageable pageable) {
         // 사용자 존재 여부 확인
-        userService.findById(userId);
+        userService.findCachedById(userId);
         
         return reviewRepository.findByUserId(userId, pageable);
     }
@@ -96,12 +143,23 @@ public class ReviewService {
         }
 
         // 리뷰 업데이트
+        int previousRating = review.getRating();
         review.updateReview(
                 rating != null ? rating : review.getRating(),
                 oneLineReview != null ? oneLineReview : review.getOneLineReview(),
                 detailedReview != null ? detailedReview : review.getDetailedReview()
         );
 
+        if (review.getRating() != previousRating) {
+            userStatsService.onReviewChanged(userId, 0, review.getRating() - previousRating);
+            bookRatingStatsService.onReviewChanged(review.getBook().getId(), previousRating, review.getRating());
+            eventPublisher.publishEvent(new ReviewRatingChangedEvent(
+                    review.getBook().getId(), 0, review.getRating() - previousRating));
+        } else {
+            // 본문만 바뀐 경우에는 이벤트가 없으므로 조건부 GET 버전만 직접 증가
+            contentVersionService.bumpUser(userId);
+            contentVersionService.bumpBook(review.getBook().getId());
+        }
         return review;
     }
 
@@ -119,6 +177,9 @@ public class ReviewService {
         }
 
         reviewRepository.delete(review);
+        userStatsService.onReviewChanged(userId, -1, -review.getRating());
+        bookRatingStatsService.onReviewChanged(review.getBook().getId(), review.getRating(), null);
+        eventPublisher.publishEvent(new ReviewRatingChangedEvent(review.getBook().getId(), -1, -review.getRating()));
     }
 
     /**
@@ -129,6 +190,17 @@ public class ReviewService {
                 .orElseThrow(() -> new CustomException(ErrorCode.REVIEW_NOT_FOUND));
     }
 
+    private long[] findRatingDistribution(Long bookId) {
+        ShardedReviewQueryRepository shardedRepository = shardedReviewQueryRepository.getIfAvailable();
+        if (shardedRepository != null) {
+            return shardedRepository.findRatingDistribution(bookId);
+        }
+        // 조회 경로에서는 쓰지 않음 (행이 없으면 리뷰 테이블에서 계산만)
+        return bookRatingStatsRepository.findById(bookId)
+                .map(BookRatingStats::toDistribution)
+                .orElseGet(() -> bookRatingStatsService.countFromReviews(bookId));
+    }
+
     /**
      * 평점 유효성 검사
      */
@@ -1,15 +1,29 @@
 package com.example.booklog.domain.stats.controller;
 
+import com.example.booklog.common.web.ConditionalGetInterceptor;
+import com.example.booklog.domain.stats.dto.ReadingActivityResponse;
+import com.example.booklog.domain.stats.dto.ReadingHistoryResponse;
 import com.example.booklog.domain.stats.dto.UserStatsResponse;
+import com.example.booklog.domain.stats.dto.YearlyReportResponse;
 import com.example.booklog.domain.user.service.CustomUserDetails;
+import com.example.booklog.domain.stats.service.ReadingActivityService;
+import com.example.booklog.domain.stats.service.ReadingHistoryService;
 import com.example.booklog.domain.stats.service.StatsService;
+import com.example.booklog.domain.stats.service.UserStatsCache;
+import com.example.booklog.domain.stats.service.YearlyReportService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/stats")
 @RequiredArgsConstructor
@@ -17,6 +31,10 @@ import org.springframework.web.bind.annotation.*;
 public class StatsController {
 
     private final StatsService statsService;
+    private final UserStatsCache userStatsCache;
+    private final ReadingHistoryService readingHistoryService;
+    private final ReadingActivityService readingActivityService;
+    private final YearlyReportService yearlyReportService;
 
     /**
      * 사용자 통계 정보 조회
@@ -24,9 +42,65 @@ public class StatsController {
     @GetMapping("/my")
     @Operation(summary = "내 통계 조회", description = "사용자의 독서 통계 정보를 조회합니다")
     public ResponseEntity<UserStatsResponse> getMyStats(
-            @AuthenticationPrincipal CustomUserDetails userDetails) {
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestAttribute(name = ConditionalGetInterceptor.USER_VERSION_ATTRIBUTE, required = false)
+            Long contentVersion) {
         
-        UserStatsResponse stats = statsService.getUserStats(userDetails.getUserId());
+        // 캐시 적중 시 추가 조회 없이 응답 (ETag의 버전보다 오래된 캐시는 다시 계산)
+        UserStatsResponse stats = userStatsCache.get(userDetails.getUserId(), contentVersion,
+                statsService::getUserStats);
         return ResponseEntity.ok(stats);
     }
-} 
\ No newline at end of file
+
+    /**
+     * 연간 독서 이력 조회 (일별/주별/월별)
+     */
+    @GetMapping("/my/history")
+    @Operation(summary = "연간 독서 이력 조회", description = "한 해 동안 읽은 페이지 수를 일별, 주별, 월별로 조회합니다")
+    public ResponseEntity<ReadingHistoryResponse> getMyReadingHistory(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Parameter(description = "연도 (기본값: 올해)") @RequestParam(required = false) Integer year) {
+
+        int targetYear = year != null ? year : Year.now().getValue();
+        return ResponseEntity.ok(readingHistoryService.getYearlyHistory(userDetails.getUserId(), targetYear));
+    }
+
+    /**
+     * 월별 독서 이력 조회
+     */
+    @GetMapping("/my/history/monthly")
+    @Operation(summary = "월별 독서 이력 조회", description = "기간 내 월별로 읽은 페이지 수를 조회합니다")
+    public ResponseEntity<List<ReadingHistoryResponse.Period>> getMyMonthlyReadingHistory(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Parameter(description = "시작 월 (yyyy-MM)") @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @Parameter(description = "종료 월 (yyyy-MM)") @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth to) {
+
+        return ResponseEntity.ok(readingHistoryService.getMonthlyHistory(userDetails.getUserId(), from, to));
+    }
+
+    /**
+     * 독서 활동 캘린더 조회 (히트맵, 연속 기록)
+     */
+    @GetMapping("/my/activity")
+    @Operation(summary = "독서 활동 캘린더 조회", description = "한 해 동안 읽은 날과 현재/최장 연속 기록을 조회합니다")
+    public ResponseEntity<ReadingActivityResponse> getMyReadingActivity(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Parameter(description = "연도 (기본값: 올해)") @RequestParam(required = false) Integer year) {
+
+        int targetYear = year != null ? year : Year.now().getValue();
+        return ResponseEntity.ok(readingActivityService.getActivity(userDetails.getUserId(), targetYear));
+    }
+
+    /**
+     * 연말 결산 조회
+     */
+    @GetMapping("/my/year-in-review")
+    @Operation(summary = "연말 결산 조회", description = "배치로 미리 계산된 한 해의 독서 결산을 조회합니다")
+    public ResponseEntity<YearlyReportResponse> getMyYearInReview(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Parameter(description = "연도 (기본값: 올해)") @RequestParam(required = false) Integer year) {
+
+        int targetYear = year != null ? year : Year.now().getValue();
+        return ResponseEntity.ok(yearlyReportService.getReport(userDetails.getUserId(), targetYear));
+    }
+}
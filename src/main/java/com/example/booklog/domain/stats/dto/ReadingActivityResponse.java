@@ -0,0 +1,22 @@
+package com.example.booklog.domain.stats.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReadingActivityResponse {
+
+    private Integer year;
+    private Integer activeDays;         // 읽은 날 수
+    private Integer currentStreak;      // 오늘(또는 어제)까지 연속으로 읽은 날 수
+    private Integer longestStreak;      // 해당 연도 최장 연속 기록
+    private List<LocalDate> activeDates; // 히트맵용 읽은 날 목록
+}
@@ -0,0 +1,34 @@
+package com.example.booklog.domain.stats.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReadingHistoryResponse {
+
+    private Integer year;
+    private Long totalPagesRead;    // 연간 읽은 페이지 수
+    private Integer readingDays;    // 한 페이지라도 읽은 날 수
+
+    private List<Period> daily;     // 읽은 날만 포함
+    private List<Period> weekly;    // 주 시작일(월요일) 기준
+    private List<Period> monthly;   // 월 시작일 기준
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Period {
+        private LocalDate start;
+        private Long pagesRead;
+        private Long progressUpdates;
+    }
+}
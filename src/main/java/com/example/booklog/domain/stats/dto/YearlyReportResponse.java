@@ -0,0 +1,57 @@
+package com.example.booklog.domain.stats.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class YearlyReportResponse {
+
+    private Integer year;
+    private Integer booksCompleted;
+    private Long pagesRead;
+    private Integer readingDays;
+    private Integer reviewsWritten;
+    private Double averageRating;       // 해당 연도에 작성한 리뷰의 평균 평점
+    private Highlights highlights;
+    private LocalDateTime generatedAt;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Highlights {
+        private List<AuthorCount> topAuthors;
+        private List<BookSummary> bestRatedBooks;   // 완독한 책 중 평점 높은 순
+        private BookSummary longestBook;             // 완독한 책 중 가장 긴 책
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AuthorCount {
+        private String author;
+        private Integer booksCompleted;
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BookSummary {
+        private String googleBooksId;
+        private String title;
+        private String authors;
+        private String thumbnailUrl;
+        private Integer pageCount;
+        private Integer rating;
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.booklog.domain.stats.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 사용자별 월별 읽은 페이지 합계 (month_start는 매월 1일)
+ */
+@Entity
+@Table(name = "monthly_reading_rollups")
+@IdClass(MonthlyReadingRollup.RollupId.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MonthlyReadingRollup {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "month_start")
+    private LocalDate monthStart;
+
+    @Column(name = "pages_read", nullable = false)
+    private Long pagesRead;
+
+    @Column(name = "progress_updates", nullable = false)
+    private Long progressUpdates;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class RollupId implements Serializable {
+        private Long userId;
+        private LocalDate monthStart;
+    }
+}
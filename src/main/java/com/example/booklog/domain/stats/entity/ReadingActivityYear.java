@@ -0,0 +1,94 @@
+package com.example.booklog.domain.stats.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 사용자별 연간 독서 활동 비트맵 (1월 1일부터 하루당 1비트)
+ * 부호 있는 BIGINT에 비트 연산 결과를 저장할 수 있도록 단어당 하위 63비트만 사용 (6 x 63 = 378 >= 366)
+ */
+@Entity
+@Table(name = "reading_activity_years")
+@IdClass(ReadingActivityYear.ActivityYearId.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReadingActivityYear {
+
+    public static final int BITS_PER_WORD = 63;
+    public static final int WORD_COUNT = 6;
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "activity_year")
+    private Integer activityYear;
+
+    @Column(name = "word0", nullable = false)
+    private long word0;
+
+    @Column(name = "word1", nullable = false)
+    private long word1;
+
+    @Column(name = "word2", nullable = false)
+    private long word2;
+
+    @Column(name = "word3", nullable = false)
+    private long word3;
+
+    @Column(name = "word4", nullable = false)
+    private long word4;
+
+    @Column(name = "word5", nullable = false)
+    private long word5;
+
+    /**
+     * 해당 날짜에 읽은 기록이 있는지 확인 (다른 연도의 날짜는 false)
+     */
+    public boolean isActive(LocalDate date) {
+        if (date.getYear() != activityYear) {
+            return false;
+        }
+        int index = date.getDayOfYear() - 1;
+        return (word(index / BITS_PER_WORD) & (1L << (index % BITS_PER_WORD))) != 0;
+    }
+
+    /**
+     * 활동한 날 수
+     */
+    public int countActiveDays() {
+        int count = 0;
+        for (int i = 0; i < WORD_COUNT; i++) {
+            count += Long.bitCount(word(i));
+        }
+        return count;
+    }
+
+    private long word(int index) {
+        return switch (index) {
+            case 0 -> word0;
+            case 1 -> word1;
+            case 2 -> word2;
+            case 3 -> word3;
+            case 4 -> word4;
+            default -> word5;
+        };
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class ActivityYearId implements Serializable {
+        private Long userId;
+        private Integer activityYear;
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.booklog.domain.stats.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 현재 페이지 변경 이력 (추가만 함)
+ * 일별/월별 집계는 기록 시점에 함께 누적하므로 조회에는 사용하지 않음
+ */
+@Entity
+@Table(name = "reading_progress_logs",
+        indexes = {
+                @Index(name = "idx_reading_progress_logs_user_logged", columnList = "user_id, logged_at"),
+                @Index(name = "idx_reading_progress_logs_user_book", columnList = "user_book_id, id")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReadingProgressLog {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "user_book_id", nullable = false)
+    private Long userBookId;
+
+    @Column(name = "from_page", nullable = false)
+    private Integer fromPage;
+
+    @Column(name = "to_page", nullable = false)
+    private Integer toPage;
+
+    // 앞으로 넘긴 페이지 수 (되돌린 경우 0)
+    @Column(name = "pages_read", nullable = false)
+    private Integer pagesRead;
+
+    @Column(name = "logged_at", nullable = false)
+    private LocalDateTime loggedAt;
+}
@@ -0,0 +1,97 @@
+package com.example.booklog.domain.stats.entity;
+
+import com.example.booklog.domain.userbook.entity.UserBook;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 통계 스냅샷
+ * 독서 기록/리뷰 변경 시 같은 트랜잭션에서 증감 반영하며, 보관된 완독 기록도 포함
+ */
+@Entity
+@Table(name = "user_stats")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserStats {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "want_to_read_books", nullable = false)
+    private Long wantToReadBooks;
+
+    @Column(name = "reading_books", nullable = false)
+    private Long readingBooks;
+
+    @Column(name = "completed_books", nullable = false)
+    private Long completedBooks;
+
+    @Column(name = "completed_pages", nullable = false)
+    private Long completedPages;
+
+    @Column(name = "review_count", nullable = false)
+    private Long reviewCount;
+
+    @Column(name = "rating_sum", nullable = false)
+    private Long ratingSum;
+
+    @Column(name = "last_completed_book_id")
+    private Long lastCompletedBookId;
+
+    @Column(name = "last_completed_at")
+    private LocalDateTime lastCompletedAt;
+
+    @Column(name = "currently_reading_book_id")
+    private Long currentlyReadingBookId;
+
+    // 읽는 중인 책(전체 페이지가 있는 책)의 진행률 합계(0.01% 단위)와 책 수 (평균 진행률 계산용)
+    @Column(name = "reading_progress_points", nullable = false)
+    private Long readingProgressPoints;
+
+    @Column(name = "reading_progress_books", nullable = false)
+    private Long readingProgressBooks;
+
+    // 변경될 때마다 증가 (캐시 검증용)
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public long getTotalBooks() {
+        return wantToReadBooks + readingBooks + completedBooks;
+    }
+
+    public double getAverageRating() {
+        return reviewCount > 0 ? (double) ratingSum / reviewCount : 0.0;
+    }
+
+    /**
+     * 독서 기록 하나가 진행률 합계에 더하는 값 (0.01% 단위, 소수점 이하 버림)
+     * 증감과 재계산이 같은 값을 쓰도록 UserBookRepository.aggregateByStatus와 같은 식으로 계산
+     */
+    public static long progressPoints(UserBook.ReadingStatus status, Integer currentPage, Integer pageCount) {
+        if (!countsTowardProgress(status, currentPage, pageCount)) {
+            return 0;
+        }
+        return Math.floorDiv(currentPage * 10000L, pageCount);
+    }
+
+    /**
+     * 독서 기록 하나가 진행률 책 수에 더하는 값
+     */
+    public static long progressBooks(UserBook.ReadingStatus status, Integer currentPage, Integer pageCount) {
+        return countsTowardProgress(status, currentPage, pageCount) ? 1 : 0;
+    }
+
+    private static boolean countsTowardProgress(UserBook.ReadingStatus status, Integer currentPage,
+                                                Integer pageCount) {
+        return status == UserBook.ReadingStatus.READING && currentPage != null
+                && pageCount != null && pageCount > 0;
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.booklog.domain.stats.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 연말 결산 (배치로 미리 계산, 목록형 하이라이트는 JSON으로 저장)
+ */
+@Entity
+@Table(name = "yearly_reports")
+@IdClass(YearlyReport.ReportId.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class YearlyReport {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "report_year")
+    private Integer reportYear;
+
+    @Column(name = "books_completed", nullable = false)
+    private int booksCompleted;
+
+    @Column(name = "pages_read", nullable = false)
+    private long pagesRead;
+
+    @Column(name = "reading_days", nullable = false)
+    private int readingDays;
+
+    @Column(name = "reviews_written", nullable = false)
+    private int reviewsWritten;
+
+    @Column(name = "average_rating")
+    private Double averageRating;
+
+    @Column(name = "highlights", nullable = false, columnDefinition = "TEXT")
+    private String highlights;
+
+    @Column(name = "generated_at", nullable = false)
+    private LocalDateTime generatedAt;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class ReportId implements Serializable {
+        private Long userId;
+        private Integer reportYear;
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.booklog.domain.stats.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자가 책을 완독함 (월간 완독 순위, 인기 도서 증분용)
+ */
+public record ReadingCompletedEvent(Long userId, Long bookId, LocalDateTime completedAt) {
+}
@@ -0,0 +1,7 @@
+package com.example.booklog.domain.stats.event;
+
+/**
+ * 완독 기록이 증분으로 표현할 수 없게 바뀜 (완독 해제, 삭제, 일괄 변경, 통계 재계산 시 순위 재집계용)
+ */
+public record ReadingCompletionsRecountEvent(Long userId) {
+}
@@ -0,0 +1,7 @@
+package com.example.booklog.domain.stats.event;
+
+/**
+ * 사용자의 독서 기록 또는 리뷰가 변경됨 (통계 캐시 무효화용)
+ */
+public record UserLibraryChangedEvent(Long userId) {
+}
@@ -0,0 +1,15 @@
+package com.example.booklog.domain.stats.repository;
+
+import com.example.booklog.domain.stats.entity.DailyReadingRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface DailyReadingRollupRepository extends JpaRepository<DailyReadingRollup, DailyReadingRollup.RollupId> {
+
+    // 기본 키 (user_id, read_date) 범위 조회
+    List<DailyReadingRollup> findByUserIdAndReadDateBetweenOrderByReadDate(Long userId, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,15 @@
+package com.example.booklog.domain.stats.repository;
+
+import com.example.booklog.domain.stats.entity.MonthlyReadingRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface MonthlyReadingRollupRepository extends JpaRepository<MonthlyReadingRollup, MonthlyReadingRollup.RollupId> {
+
+    // 기본 키 (user_id, month_start) 범위 조회
+    List<MonthlyReadingRollup> findByUserIdAndMonthStartBetweenOrderByMonthStart(Long userId, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,120 @@
+package com.example.booklog.domain.stats.repository;
+
+import com.example.booklog.domain.stats.entity.UserStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface UserStatsRepository extends JpaRepository<UserStats, Long> {
+
+    // 재계산 중 증감 반영이 끼어들지 않도록 행 잠금 (엔티티를 영속성 컨텍스트에 올리지 않음)
+    @Query(value = "SELECT user_id FROM user_stats WHERE user_id = :userId FOR UPDATE", nativeQuery = true)
+    Optional<Long> lockRow(Long userId);
+
+    @Modifying
+    @Query("UPDATE UserStats s SET s.wantToReadBooks = s.wantToReadBooks + :wantToRead, " +
+           "s.readingBooks = s.readingBooks + :reading, s.completedBooks = s.completedBooks + :completed, " +
+           "s.completedPages = s.completedPages + :pages, " +
+           "s.readingProgressPoints = s.readingProgressPoints + :progressPoints, " +
+           "s.readingProgressBooks = s.readingProgressBooks + :progressBooks, " +
+           "s.version = s.version + 1, s.updatedAt = :now " +
+           "WHERE s.userId = :userId")
+    int applyLibraryDelta(Long userId, long wantToRead, long reading, long completed, long pages,
+                          long progressPoints, long progressBooks, LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE UserStats s SET s.readingProgressPoints = s.readingProgressPoints + :progressPoints, " +
+           "s.readingProgressBooks = s.readingProgressBooks + :progressBooks, " +
+           "s.version = s.version + 1, s.updatedAt = :now WHERE s.userId = :userId")
+    int applyProgressDelta(Long userId, long progressPoints, long progressBooks, LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE UserStats s SET s.reviewCount = s.reviewCount + :reviews, s.ratingSum = s.ratingSum + :rating, " +
+           "s.version = s.version + 1, s.updatedAt = :now WHERE s.userId = :userId")
+    int applyReviewDelta(Long userId, long reviews, long rating, LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE UserStats s SET s.lastCompletedBookId = :bookId, s.lastCompletedAt = :completedAt, " +
+           "s.version = s.version + 1, s.updatedAt = :now " +
+           "WHERE s.userId = :userId AND (s.lastCompletedAt IS NULL OR s.lastCompletedAt <= :completedAt)")
+    int markLastCompleted(Long userId, Long bookId, LocalDateTime completedAt, LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE UserStats s SET s.currentlyReadingBookId = :bookId, s.version = s.version + 1, s.updatedAt = :now " +
+           "WHERE s.userId = :userId AND (s.currentlyReadingBookId IS NULL OR s.currentlyReadingBookId <> :bookId)")
+    int markCurrentlyReading(Long userId, Long bookId, LocalDateTime now);
+
+    // 읽는 중인 기록의 페이지가 바뀌면 현재 읽는 책으로 지정 (이미 같은 책이면 갱신하지 않음)
+    @Modifying
+    @Query(value = "UPDATE user_stats SET currently_reading_book_id = " +
+                   "(SELECT ub.book_id FROM user_books ub WHERE ub.id = :userBookId), " +
+                   "version = version + 1, updated_at = :now " +
+                   "WHERE user_id = :userId AND EXISTS (SELECT 1 FROM user_books ub " +
+                   "WHERE ub.id = :userBookId AND ub.user_id = :userId AND ub.status = 'READING' " +
+                   "AND (currently_reading_book_id IS NULL OR currently_reading_book_id <> ub.book_id))",
+           nativeQuery = true)
+    int markCurrentlyReadingByUserBook(Long userId, Long userBookId, LocalDateTime now);
+
+    // 마지막 페이지 도달로 완독된 기록을 최근 완독 책으로 지정
+    @Modifying
+    @Query(value = "UPDATE user_stats SET last_completed_book_id = " +
+                   "(SELECT ub.book_id FROM user_books ub WHERE ub.id = :userBookId), " +
+                   "last_completed_at = :completedAt, version = version + 1, updated_at = :completedAt " +
+                   "WHERE user_id = :userId AND (last_completed_at IS NULL OR last_completed_at <= :completedAt)",
+           nativeQuery = true)
+    int markLastCompletedByUserBook(Long userId, Long userBookId, LocalDateTime completedAt);
+
+    // 현재 읽는 책이 읽는 중 상태를 벗어난 경우 가장 최근에 갱신된 읽는 중인 책으로 교체
+    @Modifying
+    @Query(value = "UPDATE user_stats SET currently_reading_book_id = " +
+                   "(SELECT ub.book_id FROM user_books ub WHERE ub.user_id = :userId AND ub.status = 'READING' " +
+                   "ORDER BY ub.updated_at DESC LIMIT 1), " +
+                   "version = version + 1, updated_at = :now WHERE user_id = :userId",
+           nativeQuery = true)
+    int refreshCurrentlyReading(Long userId, LocalDateTime now);
+
+    @Modifying
+    @Query(value = "INSERT INTO user_stats (user_id, want_to_read_books, reading_books, completed_books, " +
+                   "completed_pages, review_count, rating_sum, last_completed_book_id, last_completed_at, " +
+                   "currently_reading_book_id, reading_progress_points, reading_progress_books, version, updated_at) " +
+                   "VALUES (:userId, :wantToRead, :reading, :completed, :pages, :reviews, :ratingSum, " +
+                   ":lastCompletedBookId, :lastCompletedAt, :currentlyReadingBookId, :progressPoints, " +
+                   ":progressBooks, 1, :now) " +
+                   "ON DUPLICATE KEY UPDATE want_to_read_books = VALUES(want_to_read_books), " +
+                   "reading_books = VALUES(reading_books), completed_books = VALUES(completed_books), " +
+                   "completed_pages = VALUES(completed_pages), review_count = VALUES(review_count), " +
+                   "rating_sum = VALUES(rating_sum), last_completed_book_id = VALUES(last_completed_book_id), " +
+                   "last_completed_at = VALUES(last_completed_at), " +
+                   "currently_reading_book_id = VALUES(currently_reading_book_id), " +
+                   "reading_progress_points = VALUES(reading_progress_points), " +
+                   "reading_progress_books = VALUES(reading_progress_books), " +
+                   "version = version + 1, updated_at = VALUES(updated_at)",
+           nativeQuery = true)
+    int upsert(Long userId, long wantToRead, long reading, long completed, long pages, long reviews, long ratingSum,
+               Long lastCompletedBookId, LocalDateTime lastCompletedAt, Long currentlyReadingBookId,
+               long progressPoints, long progressBooks, LocalDateTime now);
+
+    // 통계 응답용: 기본 키 조회 한 번으로 통계 행과 최근 완독/현재 읽는 책 정보를 함께 조회
+    @Query(value = "SELECT s.want_to_read_books AS wantToReadBooks, s.reading_books AS readingBooks, " +
+                   "s.completed_books AS completedBooks, s.completed_pages AS completedPages, " +
+                   "s.review_count AS reviewCount, s.rating_sum AS ratingSum, " +
+                   "s.reading_progress_points AS readingProgressPoints, " +
+                   "s.reading_progress_books AS readingProgressBooks, " +
+                   "lc.id AS lastCompletedBookId, lc.google_books_id AS lastCompletedGoogleBooksId, " +
+                   "lc.title AS lastCompletedTitle, lc.authors AS lastCompletedAuthors, " +
+                   "lc.thumbnail_url AS lastCompletedThumbnailUrl, lc.page_count AS lastCompletedPageCount, " +
+                   "cr.id AS currentlyReadingBookId, cr.google_books_id AS currentlyReadingGoogleBooksId, " +
+                   "cr.title AS currentlyReadingTitle, cr.authors AS currentlyReadingAuthors, " +
+                   "cr.thumbnail_url AS currentlyReadingThumbnailUrl, cr.page_count AS currentlyReadingPageCount " +
+                   "FROM user_stats s " +
+                   "LEFT JOIN books lc ON lc.id = s.last_completed_book_id " +
+                   "LEFT JOIN books cr ON cr.id = s.currently_reading_book_id " +
+                   "WHERE s.user_id = :userId",
+           nativeQuery = true)
+    Optional<UserStatsSummary> findSummaryByUserId(Long userId);
+}
@@ -0,0 +1,49 @@
+package com.example.booklog.domain.stats.repository;
+
+/**
+ * 통계 응답용 user_stats 행과 최근 완독/현재 읽는 책 정보
+ */
+public interface UserStatsSummary {
+
+    Long getWantToReadBooks();
+
+    Long getReadingBooks();
+
+    Long getCompletedBooks();
+
+    Long getCompletedPages();
+
+    Long getReviewCount();
+
+    Long getRatingSum();
+
+    Long getReadingProgressPoints();
+
+    Long getReadingProgressBooks();
+
+    // 최근 완독한 책 (없으면 모두 null)
+    Long getLastCompletedBookId();
+
+    String getLastCompletedGoogleBooksId();
+
+    String getLastCompletedTitle();
+
+    String getLastCompletedAuthors();
+
+    String getLastCompletedThumbnailUrl();
+
+    Integer getLastCompletedPageCount();
+
+    // 현재 읽는 중인 책 (없으면 모두 null)
+    Long getCurrentlyReadingBookId();
+
+    String getCurrentlyReadingGoogleBooksId();
+
+    String getCurrentlyReadingTitle();
+
+    String getCurrentlyReadingAuthors();
+
+    String getCurrentlyReadingThumbnailUrl();
+
+    Integer getCurrentlyReadingPageCount();
+}
@@ -0,0 +1,9 @@
+package com.example.booklog.domain.stats.repository;
+
+import com.example.booklog.domain.stats.entity.YearlyReport;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface YearlyReportRepository extends JpaRepository<YearlyReport, YearlyReport.ReportId> {
+}
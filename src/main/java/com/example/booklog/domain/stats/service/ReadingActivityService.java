@@ -0,0 +1,131 @@
+package com.example.booklog.domain.stats.service;
+
+import com.example.booklog.domain.stats.dto.ReadingActivityResponse;
+import com.example.booklog.domain.stats.entity.ReadingActivityYear;
+import com.example.booklog.domain.stats.repository.ReadingActivityYearRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * 독서 활동 캘린더 (연도별 비트맵)
+ * 읽은 날의 비트를 OR 연산 한 번으로 설정하고, 히트맵과 연속 기록은 연도별 한 행에서 계산
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ReadingActivityService {
+
+    // 새 비트만 담아 삽입하고, 이미 있으면 단어별 OR (0인 단어는 변화 없음)
+    private static final String MARK_ACTIVE =
+            "INSERT INTO reading_activity_years " +
+            "(user_id, activity_year, word0, word1, word2, word3, word4, word5) VALUES (?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE word0 = word0 | VALUES(word0), word1 = word1 | VALUES(word1), " +
+            "word2 = word2 | VALUES(word2), word3 = word3 | VALUES(word3), " +
+            "word4 = word4 | VALUES(word4), word5 = word5 | VALUES(word5)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReadingActivityYearRepository readingActivityYearRepository;
+
+    /**
+     * 읽은 날 표시 (사용자-연도별로 비트를 모아 한 행당 한 번만 갱신)
+     */
+    @Transactional
+    public void markActive(Collection<ActiveDay> days) {
+        Map<ActiveDay, long[]> bitsByYear = new TreeMap<>();
+        for (ActiveDay day : days) {
+            int index = day.date().getDayOfYear() - 1;
+            long[] words = bitsByYear.computeIfAbsent(
+                    new ActiveDay(day.userId(), LocalDate.of(day.date().getYear(), 1, 1)),
+                    key -> new long[ReadingActivityYear.WORD_COUNT]);
+            words[index / ReadingActivityYear.BITS_PER_WORD] |= 1L << (index % ReadingActivityYear.BITS_PER_WORD);
+        }
+        if (bitsByYear.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> args = new ArrayList<>(bitsByYear.size());
+        bitsByYear.forEach((key, words) -> args.add(new Object[]{key.userId(), key.date().getYear(),
+                words[0], words[1], words[2], words[3], words[4], words[5]}));
+        jdbcTemplate.batchUpdate(MARK_ACTIVE, args);
+    }
+
+    /**
+     * 연간 독서 활동 조회 (히트맵, 연속 기록)
+     */
+    public ReadingActivityResponse getActivity(Long userId, int year) {
+        Map<Integer, Optional<ReadingActivityYear>> years = new HashMap<>();
+        Optional<ReadingActivityYear> activity = findYear(years, userId, year);
+
+        List<LocalDate> activeDates = new ArrayList<>();
+        int longestStreak = 0;
+        int streak = 0;
+        for (LocalDate date = LocalDate.of(year, 1, 1); date.getYear() == year; date = date.plusDays(1)) {
+            if (activity.isPresent() && activity.get().isActive(date)) {
+                activeDates.add(date);
+                longestStreak = Math.max(longestStreak, ++streak);
+            } else {
+                streak = 0;
+            }
+        }
+
+        return ReadingActivityResponse.builder()
+                .year(year)
+                .activeDays(activeDates.size())
+                .currentStreak(currentStreak(years, userId))
+                .longestStreak(longestStreak)
+                .activeDates(activeDates)
+                .build();
+    }
+
+    /**
+     * 오늘까지 이어지는 연속 기록 (오늘 아직 읽지 않았다면 어제부터, 연초를 넘어가면 이전 연도 행 조회)
+     */
+    private int currentStreak(Map<Integer, Optional<ReadingActivityYear>> years, Long userId) {
+        LocalDate date = LocalDate.now();
+        if (!isActive(years, userId, date)) {
+            date = date.minusDays(1);
+        }
+
+        int streak = 0;
+        while (isActive(years, userId, date)) {
+            streak++;
+            date = date.minusDays(1);
+        }
+        return streak;
+    }
+
+    private boolean isActive(Map<Integer, Optional<ReadingActivityYear>> years, Long userId, LocalDate date) {
+        return findYear(years, userId, date.getYear())
+                .map(activity -> activity.isActive(date))
+                .orElse(false);
+    }
+
+    private Optional<ReadingActivityYear> findYear(Map<Integer, Optional<ReadingActivityYear>> years,
+                                                   Long userId, int year) {
+        return years.computeIfAbsent(year, key ->
+                readingActivityYearRepository.findById(new ReadingActivityYear.ActivityYearId(userId, key)));
+    }
+
+    /**
+     * 사용자가 읽은 날 하나
+     */
+    public record ActiveDay(Long userId, LocalDate date) implements Comparable<ActiveDay> {
+
+        @Override
+        public int compareTo(ActiveDay other) {
+            int byUser = userId.compareTo(other.userId);
+            return byUser != 0 ? byUser : date.compareTo(other.date);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.example.booklog.domain.stats.service;
+
+import com.example.booklog.common.exception.CustomException;
+import com.example.booklog.common.exception.ErrorCode;
+import com.example.booklog.domain.stats.dto.ReadingHistoryResponse;
+import com.example.booklog.domain.stats.entity.DailyReadingRollup;
+import com.example.booklog.domain.stats.repository.DailyReadingRollupRepository;
+import com.example.booklog.domain.stats.repository.MonthlyReadingRollupRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * 독서 진행 이력
+ * 페이지 변경마다 로그를 추가하고 일별/월별 집계와 활동 비트맵을 같은 트랜잭션에서 증분 갱신하여, 조회는 집계 테이블 범위 스캔만 사용
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ReadingHistoryService {
+
+    // 월별 조회 최대 범위
+    private static final int MAX_MONTHS = 120;
+
+    private static final String INSERT_LOG =
+            "INSERT INTO reading_progress_logs (user_id, user_book_id, from_page, to_page, pages_read, logged_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String UPSERT_DAILY =
+            "INSERT INTO daily_reading_rollups (user_id, read_date, pages_read, progress_updates) VALUES (?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE pages_read = pages_read + VALUES(pages_read), " +
+            "progress_updates = progress_updates + VALUES(progress_updates)";
+
+    private static final String UPSERT_MONTHLY =
+            "INSERT INTO monthly_reading_rollups (user_id, month_start, pages_read, progress_updates) VALUES (?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE pages_read = pages_read + VALUES(pages_read), " +
+            "progress_updates = progress_updates + VALUES(progress_updates)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DailyReadingRollupRepository dailyReadingRollupRepository;
+    private final MonthlyReadingRollupRepository monthlyReadingRollupRepository;
+    private final ReadingActivityService readingActivityService;
+
+    /**
+     * 현재 페이지 변경 기록
+     */
+    @Transactional
+    public void record(Long userId, Long userBookId, Integer fromPage, Integer toPage, LocalDateTime at) {
+        recordAll(List.of(new ProgressChange(userId, userBookId, fromPage, toPage, at)));
+    }
+
+    /**
+     * 현재 페이지 변경 일괄 기록 (로그 추가 + 일별/월별 집계 증분)
+     */
+    @Transactional
+    public void recordAll(List<ProgressChange> changes) {
+        List<Object[]> logArgs = new ArrayList<>(changes.size());
+        Map<RollupKey, long[]> daily = new TreeMap<>();
+        Map<RollupKey, long[]> monthly = new TreeMap<>();
+
+        for (ProgressChange change : changes) {
+            if (change.fromPage().equals(change.toPage())) {
+                continue;
+            }
+            int pagesRead = change.pagesRead();
+            logArgs.add(new Object[]{change.userId(), change.userBookId(), change.fromPage(), change.toPage(),
+                    pagesRead, change.at()});
+
+            // 되돌린 페이지는 이력에만 남기고 집계에는 반영하지 않음
+            if (pagesRead > 0) {
+                LocalDate day = change.at().toLocalDate();
+                accumulate(daily, new RollupKey(change.userId(), day), pagesRead);
+                accumulate(monthly, new RollupKey(change.userId(), day.withDayOfMonth(1)), pagesRead);
+            }
+        }
+
+        if (logArgs.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_LOG, logArgs);
+        // 키 순서대로 갱신하여 동시 기록 간 교착 방지
+        if (!daily.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_DAILY, toRollupArgs(daily));
+            jdbcTemplate.batchUpdate(UPSERT_MONTHLY, toRollupArgs(monthly));
+            readingActivityService.markActive(daily.keySet().stream()
+                    .map(key -> new ReadingActivityService.ActiveDay(key.userId(), key.start()))
+                    .toList());
+        }
+    }
+
+    /**
+     * 연간 독서 이력 조회 (일별 집계 한 번의 범위 스캔으로 주별/월별까지 계산)
+     */
+    public ReadingHistoryResponse getYearlyHistory(Long userId, int year) {
+        LocalDate from = LocalDate.of(year, 1, 1);
+        List<DailyReadingRollup> days = dailyReadingRollupRepository
+                .findByUserIdAndReadDateBetweenOrderByReadDate(userId, from, from.with(TemporalAdjusters.lastDayOfYear()));
+
+        List<ReadingHistoryResponse.Period> daily = new ArrayList<>(days.size());
+        long totalPages = 0;
+        for (DailyReadingRollup day : days) {
+            daily.add(toPeriod(day.getReadDate(), day.getPagesRead(), day.getProgressUpdates()));
+            totalPages += day.getPagesRead();
+        }
+
+        return ReadingHistoryResponse.builder()
+                .year(year)
+                .totalPagesRead(totalPages)
+                .readingDays(days.size())
+                .daily(daily)
+                .weekly(groupBy(daily, date -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))))
+                .monthly(groupBy(daily, date -> date.withDayOfMonth(1)))
+                .build();
+    }
+
+    /**
+     * 월별 독서 이력 조회 (여러 해에 걸친 기간은 월별 집계를 사용)
+     */
+    public List<ReadingHistoryResponse.Period> getMonthlyHistory(Long userId, YearMonth from, YearMonth to) {
+        if (from.isAfter(to) || from.plusMonths(MAX_MONTHS).isBefore(to)) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE,
+                    String.format("조회 기간은 최대 %d개월입니다.", MAX_MONTHS));
+        }
+
+        return monthlyReadingRollupRepository
+                .findByUserIdAndMonthStartBetweenOrderByMonthStart(userId, from.atDay(1), to.atDay(1)).stream()
+                .map(month -> toPeriod(month.getMonthStart(), month.getPagesRead(), month.getProgressUpdates()))
+                .toList();
+    }
+
+    private void accumulate(Map<RollupKey, long[]> rollups, RollupKey key, int pagesRead) {
+        long[] totals = rollups.computeIfAbsent(key, k -> new long[2]);
+        totals[0] += pagesRead;
+        totals[1]++;
+    }
+
+    private List<Object[]> toRollupArgs(Map<RollupKey, long[]> rollups) {
+        List<Object[]> args = new ArrayList<>(rollups.size());
+        rollups.forEach((key, totals) -> args.add(new Object[]{key.userId(), key.start(), totals[0], totals[1]}));
+        return args;
+    }
+
+    private List<ReadingHistoryResponse.Period> groupBy(List<ReadingHistoryResponse.Period> daily,
+                                                        Function<LocalDate, LocalDate> periodStart) {
+        // 일별 목록이 날짜순이므로 삽입 순서가 곧 기간 순서
+        Map<LocalDate, long[]> grouped = new LinkedHashMap<>();
+        for (ReadingHistoryResponse.Period day : daily) {
+            long[] totals = grouped.computeIfAbsent(periodStart.apply(day.getStart()), k -> new long[2]);
+            totals[0] += day.getPagesRead();
+            totals[1] += day.getProgressUpdates();
+        }
+
+        List<ReadingHistoryResponse.Period> periods = new ArrayList<>(grouped.size());
+        grouped.forEach((start, totals) -> periods.add(toPeriod(start, totals[0], totals[1])));
+        return periods;
+    }
+
+    private ReadingHistoryResponse.Period toPeriod(LocalDate start, Long pagesRead, Long progressUpdates) {
+        return ReadingHistoryResponse.Period.builder()
+                .start(start)
+                .pagesRead(pagesRead)
+                .progressUpdates(progressUpdates)
+                .build();
+    }
+
+    /**
+     * 현재 페이지 변경 한 건
+     */
+    public record ProgressChange(Long userId, Long userBookId, Integer fromPage, Integer toPage, LocalDateTime at) {
+
+        // 앞으로 넘긴 페이지 수 (되돌린 경우 0)
+        int pagesRead() {
+            return Math.max(toPage - fromPage, 0);
+        }
+    }
+
+    private record RollupKey(Long userId, LocalDate start) implements Comparable<RollupKey> {
+
+        @Override
+        public int compareTo(RollupKey other) {
+            int byUser = userId.compareTo(other.userId);
+            return byUser != 0 ? byUser : start.compareTo(other.start);
+        }
+    }
+}
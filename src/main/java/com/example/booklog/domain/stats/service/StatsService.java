@@ -1,136 +1,80 @@
 package com.example.booklog.domain.stats.service;
 
 import com.example.booklog.domain.stats.dto.UserStatsResponse;
+import com.example.booklog.domain.stats.repository.UserStatsRepository;
+import com.example.booklog.domain.stats.repository.UserStatsSummary;
 import com.example.booklog.domain.userbook.dto.UserBookResponse;
-import com.example.booklog.domain.userbook.entity.UserBook;
-import com.example.booklog.domain.review.repository.ReviewRepository;
-import com.example.booklog.domain.userbook.repository.UserBookRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 @Slf4j
 public class StatsService {
 
-    private final UserBookRepository userBookRepository;
-    private final ReviewRepository reviewRepository;
+    private final UserStatsRepository userStatsRepository;
 
     /**
      * 사용자 통계 정보 조회
+     * user_stats 기본 키 조회 한 번 (책 정보도 같은 구문에서 기본 키로 조인)
+     * 행이 없으면(아직 기록이 없거나 도입 이전 사용자) 빈 통계를 반환하고, 행은 첫 쓰기나 재계산 배치에서 생성
      */
     public UserStatsResponse getUserStats(Long userId) {
-        
-        // 기본 독서 통계
-        Long totalBooks = userBookRepository.countByUserId(userId);
-        Long readingBooks = userBookRepository.countByUserIdAndStatus(userId, UserBook.ReadingStatus.READING);
-        Long completedBooks = userBookRepository.countByUserIdAndStatus(userId, UserBook.ReadingStatus.COMPLETED);
-        Long wantToReadBooks = userBookRepository.countByUserIdAndStatus(userId, UserBook.ReadingStatus.WANT_TO_READ);
-        
-        // 리뷰 통계
-        Long totalReviews = reviewRepository.countByUserId(userId);
-        Double averageRating = reviewRepository.averageRatingByUserId(userId);
-        
-        // 읽기 진행 통계
-        Long totalPagesReadLong = userBookRepository.sumCompletedPagesByUserId(userId);
-        Integer totalPagesRead = totalPagesReadLong != null ? totalPagesReadLong.intValue() : 0;
-        
-        // 전체 읽기 진행률 계산 (읽는 중인 책들의 평균 진행률)
-        Double readingProgress = calculateOverallProgress(userId);
-        
-        // 최근 활동 정보
-        UserBookResponse.BookInfo lastCompletedBook = getLastCompletedBook(userId);
-        UserBookResponse.BookInfo currentlyReading = getCurrentlyReadingBook(userId);
+        return userStatsRepository.findSummaryByUserId(userId)
+                .map(this::toResponse)
+                .orElseGet(this::emptyStats);
+    }
 
+    private UserStatsResponse toResponse(UserStatsSummary stats) {
+        long reviewCount = stats.getReviewCount();
+        long progressBooks = stats.getReadingProgressBooks();
         return UserStatsResponse.builder()
-                .totalBooks(totalBooks)
-                .readingBooks(readingBooks)
-                .completedBooks(completedBooks)
-                .wantToReadBooks(wantToReadBooks)
-                .totalReviews(totalReviews)
-                .averageRating(averageRating != null ? averageRating : 0.0)
-                .totalPagesRead(totalPagesRead)
-                .readingProgress(readingProgress)
-                .lastCompletedBook(lastCompletedBook)
-                .currentlyReading(currentlyReading)
+                .totalBooks(stats.getWantToReadBooks() + stats.getReadingBooks() + stats.getCompletedBooks())
+                .readingBooks(stats.getReadingBooks())
+                .completedBooks(stats.getCompletedBooks())
+                .wantToReadBooks(stats.getWantToReadBooks())
+                .totalReviews(reviewCount)
+                .averageRating(reviewCount > 0 ? (double) stats.getRatingSum() / reviewCount : 0.0)
+                .totalPagesRead(stats.getCompletedPages().intValue())
+                .readingProgress(progressBooks > 0 ? stats.getReadingProgressPoints() / (progressBooks * 100.0) : 0.0)
+                .lastCompletedBook(toBookInfo(stats.getLastCompletedBookId(), stats.getLastCompletedGoogleBooksId(),
+                        stats.getLastCompletedTitle(), stats.getLastCompletedAuthors(),
+                        stats.getLastCompletedThumbnailUrl(), stats.getLastCompletedPageCount()))
+                .currentlyReading(toBookInfo(stats.getCurrentlyReadingBookId(),
+                        stats.getCurrentlyReadingGoogleBooksId(), stats.getCurrentlyReadingTitle(),
+                        stats.getCurrentlyReadingAuthors(), stats.getCurrentlyReadingThumbnailUrl(),
+                        stats.getCurrentlyReadingPageCount()))
                 .build();
     }
 
-    /**
-     * 전체 읽기 진행률 계산
-     */
-    private Double calculateOverallProgress(Long userId) {
-        // 읽는 중인 책들의 진행률을 계산
-        List<UserBook> readingBooks = userBookRepository.findByUserIdAndStatus(userId, UserBook.ReadingStatus.READING);
-        
-        if (readingBooks.isEmpty()) {
-            return 0.0;
-        }
-        
-        double totalProgress = 0.0;
-        int validBooks = 0;
-        
-        for (UserBook userBook : readingBooks) {
-            if (userBook.getBook().getPageCount() != null && userBook.getBook().getPageCount() > 0) {
-                double progress = (double) userBook.getCurrentPage() / userBook.getBook().getPageCount() * 100;
-                totalProgress += progress;
-                validBooks++;
-            }
-        }
-        
-        return validBooks > 0 ? totalProgress / validBooks : 0.0;
-    }
-
-    /**
-     * 최근 완독한 책 정보 조회
-     */
-    private UserBookResponse.BookInfo getLastCompletedBook(Long userId) {
-        // 최근 완독한 책 조회 (completedAt 기준으로 정렬)
-        List<UserBook> completedBooks = userBookRepository.findByUserIdAndStatusOrderByCompletedAtDesc(
-            userId, UserBook.ReadingStatus.COMPLETED
-        );
-        
-        if (completedBooks.isEmpty()) {
-            return null;
-        }
-        
-        UserBook lastCompleted = completedBooks.get(0);
-        return UserBookResponse.BookInfo.builder()
-                .id(lastCompleted.getBook().getId())
-                .googleBooksId(lastCompleted.getBook().getGoogleBooksId())
-                .title(lastCompleted.getBook().getTitle())
-                .authors(lastCompleted.getBook().getAuthors())
-                .thumbnailUrl(lastCompleted.getBook().getThumbnailUrl())
-                .pageCount(lastCompleted.getBook().getPageCount())
+    private UserStatsResponse emptyStats() {
+        return UserStatsResponse.builder()
+                .totalBooks(0L)
+                .readingBooks(0L)
+                .completedBooks(0L)
+                .wantToReadBooks(0L)
+                .totalReviews(0L)
+                .averageRating(0.0)
+                .totalPagesRead(0)
+                .readingProgress(0.0)
                 .build();
     }
 
-    /**
-     * 현재 읽고 있는 책 정보 조회 
-     */
-    private UserBookResponse.BookInfo getCurrentlyReadingBook(Long userId) {
-        // 현재 읽고 있는 책 중 가장 최근에 업데이트된 책 조회
-        List<UserBook> readingBooks = userBookRepository.findByUserIdAndStatusOrderByUpdatedAtDesc(
-            userId, UserBook.ReadingStatus.READING
-        );
-        
-        if (readingBooks.isEmpty()) {
+    private UserBookResponse.BookInfo toBookInfo(Long bookId, String googleBooksId, String title, String authors,
+                                                 String thumbnailUrl, Integer pageCount) {
+        if (bookId == null) {
             return null;
         }
-        
-        UserBook currentReading = readingBooks.get(0);
         return UserBookResponse.BookInfo.builder()
-                .id(currentReading.getBook().getId())
-                .googleBooksId(currentReading.getBook().getGoogleBooksId())
-                .title(currentReading.getBook().getTitle())
-                .authors(currentReading.getBook().getAuthors())
-                .thumbnailUrl(currentReading.getBook().getThumbnailUrl())
-                .pageCount(currentReading.getBook().getPageCount())
+                .id(bookId)
+                .googleBooksId(googleBooksId)
+                .title(title)
+                .authors(authors)
+                .thumbnailUrl(thumbnailUrl)
+                .pageCount(pageCount)
                 .build();
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,94 @@
+package com.example.booklog.domain.stats.service;
+
+import com.example.booklog.common.cache.CacheInvalidationBus;
+import com.example.booklog.domain.stats.dto.UserStatsResponse;
+import com.example.booklog.domain.stats.event.UserLibraryChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+/**
+ * 사용자별 통계 응답 캐시
+ * UserLibraryChangedEvent(커밋 이후)로 무효화하며, 다른 노드에는 CacheInvalidationBus로 전파
+ * 조건부 GET이 켜져 있으면 요청의 버전보다 오래된 값은 사용하지 않으므로 TTL에 의존하지 않음
+ * ttl-seconds를 양수로 주면 전파 유실에 대비한 쓰기 후 만료를 추가 (기본은 만료 없음)
+ */
+@Component
+public class UserStatsCache {
+
+    public static final String CACHE_NAME = "userStats";
+
+    private static final int GENERATION_STRIPES = 1024;
+    private static final long UNKNOWN_VERSION = -1;
+
+    private final Cache<Long, CachedStats> cache;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    // 계산 도중 무효화된 값을 캐시에 남기지 않도록 키 구간별 무효화 세대 기록
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public UserStatsCache(CacheInvalidationBus cacheInvalidationBus,
+                          MeterRegistry meterRegistry,
+                          @Value("${booklog.stats.cache.max-size:10000}") long maxSize,
+                          @Value("${booklog.stats.cache.ttl-seconds:0}") long ttlSeconds) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats();
+        if (ttlSeconds > 0) {
+            builder.expireAfterWrite(Duration.ofSeconds(ttlSeconds));
+        }
+        this.cache = builder.build();
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        cacheInvalidationBus.subscribe(CACHE_NAME, key -> evictLocally(Long.valueOf(key)));
+    }
+
+    /**
+     * 캐시에서 조회하고 없으면 loader로 계산하여 저장
+     * minVersion이 있으면 그보다 이전 버전에서 계산된 값은 사용하지 않음 (다른 노드의 무효화가 늦게 도착하는 경우 대비)
+     */
+    public UserStatsResponse get(Long userId, Long minVersion, Function<Long, UserStatsResponse> loader) {
+        CachedStats cached = cache.getIfPresent(userId);
+        if (cached != null && (minVersion == null || cached.version() >= minVersion)) {
+            return cached.response();
+        }
+
+        int stripe = stripe(userId);
+        long generation = generations.get(stripe);
+        UserStatsResponse loaded = loader.apply(userId);
+        // 버전은 본문보다 먼저 같은 노드에서 읽은 값이므로 계산 결과는 적어도 이 버전 (보수적으로 기록)
+        cache.put(userId, new CachedStats(minVersion != null ? minVersion : UNKNOWN_VERSION, loaded));
+
+        // 계산 중 무효화가 있었다면 이전 데이터일 수 있으므로 다시 제거
+        if (generations.get(stripe) != generation) {
+            cache.invalidate(userId);
+        }
+        return loaded;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserLibraryChanged(UserLibraryChangedEvent event) {
+        evictLocally(event.userId());
+        cacheInvalidationBus.publish(CACHE_NAME, String.valueOf(event.userId()));
+    }
+
+    private void evictLocally(Long userId) {
+        generations.incrementAndGet(stripe(userId));
+        cache.invalidate(userId);
+    }
+
+    private int stripe(Long userId) {
+        return Math.floorMod(Long.hashCode(userId), GENERATION_STRIPES);
+    }
+
+    private record CachedStats(long version, UserStatsResponse response) {
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.booklog.domain.stats.service;
+
+import com.example.booklog.common.datasource.ShardContext;
+import com.example.booklog.common.datasource.ShardDataSources;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * user_stats 정합성 복구 배치
+ * 증감 반영이 누락된 경우(행 생성 전 변경, 장애 등)를 주기적으로 원본 테이블 기준으로 덮어씀
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "booklog.stats.rebuild.enabled", havingValue = "true")
+public class UserStatsRebuildJob {
+
+    private static final String SELECT_USER_IDS = "SELECT id FROM users WHERE id > ? ORDER BY id LIMIT ?";
+
+    private final UserStatsService userStatsService;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectProvider<ShardDataSources> shardDataSources;
+
+    @Value("${booklog.stats.rebuild.page-size:500}")
+    private int pageSize;
+
+    /**
+     * 모든 사용자의 통계 재계산 (사용자마다 별도 트랜잭션, 샤딩 환경에서는 소유 샤드에서만)
+     */
+    @Scheduled(cron = "${booklog.stats.rebuild.cron:0 0 5 * * *}")
+    public void rebuildAll() {
+        ShardDataSources shards = shardDataSources.getIfAvailable();
+        int shardCount = shards != null ? shards.shardCount() : 1;
+
+        for (int shard = 0; shard < shardCount; shard++) {
+            int currentShard = shard;
+            int rebuilt = ShardContext.callOn(shard, () -> rebuildShard(shards, currentShard));
+            log.info("사용자 통계 {}건을 재계산했습니다. (샤드 {})", rebuilt, shard);
+        }
+    }
+
+    private int rebuildShard(ShardDataSources shards, int shard) {
+        int rebuilt = 0;
+        long lastUserId = 0;
+        while (true) {
+            List<Long> userIds = jdbcTemplate.queryForList(SELECT_USER_IDS, Long.class, lastUserId, pageSize);
+            for (Long userId : userIds) {
+                // 홈 샤드에는 모든 사용자가 있으므로 소유 샤드가 아니면 건너뜀
+                if (shards != null && shards.shardFor(userId) != shard) {
+                    continue;
+                }
+                try {
+                    userStatsService.rebuildInNewTransaction(userId);
+                    rebuilt++;
+                } catch (RuntimeException e) {
+                    log.warn("사용자 {}의 통계 재계산에 실패했습니다.", userId, e);
+                }
+            }
+            if (userIds.size() < pageSize) {
+                return rebuilt;
+            }
+            lastUserId = userIds.get(userIds.size() - 1);
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package com.example.booklog.domain.stats.service;
+
+import com.example.booklog.domain.review.repository.ReviewAggregate;
+import com.example.booklog.domain.review.repository.ReviewRepository;
+import com.example.booklog.domain.stats.entity.UserStats;
+import com.example.booklog.domain.stats.event.ReadingCompletedEvent;
+import com.example.booklog.domain.stats.event.ReadingCompletionsRecountEvent;
+import com.example.booklog.domain.stats.event.UserLibraryChangedEvent;
+import com.example.booklog.domain.stats.repository.UserStatsRepository;
+import com.example.booklog.domain.userbook.entity.UserBook;
+import com.example.booklog.domain.userbook.repository.ReadingHighlight;
+import com.example.booklog.domain.userbook.repository.UserBookRepository;
+import com.example.booklog.domain.userbook.repository.UserBookStatusAggregate;
+import com.example.booklog.common.exception.CustomException;
+import com.example.booklog.common.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * user_stats 유지 관리
+ * 쓰기 경로에서 호출되어 같은 트랜잭션 안에서 증감을 반영하고, 드물거나 계산이 복잡한 변경은 사용자 단위로 재계산
+ * 행이 아직 없는 사용자는 증감 대신 그 쓰기에서 재계산으로 생성 (조회 경로는 쓰지 않음)
+ * 변경마다 UserLibraryChangedEvent를 발행하여 커밋 후 통계 캐시를 무효화하고, 완독 관련 변경은 순위표에도 전달
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class UserStatsService {
+
+    private final UserStatsRepository userStatsRepository;
+    private final UserBookRepository userBookRepository;
+    private final ReviewRepository reviewRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 서재에 책 추가
+     */
+    public void onUserBookAdded(UserBook userBook) {
+        onUserBookChanged(userBook, null, null, null);
+    }
+
+    /**
+     * 엔티티 경로로 독서 기록이 변경된 경우 (변경 전 상태/페이지/완독일 전달)
+     */
+    public void onUserBookChanged(UserBook userBook, UserBook.ReadingStatus previousStatus,
+                                  Integer previousPage, LocalDateTime previousCompletedAt) {
+        Long userId = userBook.getUser().getId();
+        Long bookId = userBook.getBook().getId();
+        UserBook.ReadingStatus status = userBook.getStatus();
+        Integer pageCount = userBook.getBook().getPageCount();
+        LocalDateTime now = LocalDateTime.now();
+        publishChanged(userId);
+
+        // 재계산보다 먼저 발행하여 재계산의 완독 수 다시 세기가 이 완독까지 덮어쓰도록 함
+        if (status == UserBook.ReadingStatus.COMPLETED && previousStatus != UserBook.ReadingStatus.COMPLETED
+                && userBook.getCompletedAt() != null) {
+            eventPublisher.publishEvent(new ReadingCompletedEvent(userId, bookId, userBook.getCompletedAt()));
+        }
+
+        // 완독 해제는 최근 완독 책을 다시 찾아야 하므로 재계산
+        if (previousStatus == UserBook.ReadingStatus.COMPLETED && status != UserBook.ReadingStatus.COMPLETED) {
+            rebuild(userId);
+            return;
+        }
+
+        long pages = completedPages(status, userBook.getCurrentPage())
+                - completedPages(previousStatus, previousPage);
+        long progressPoints = UserStats.progressPoints(status, userBook.getCurrentPage(), pageCount)
+                - UserStats.progressPoints(previousStatus, previousPage, pageCount);
+        long progressBooks = UserStats.progressBooks(status, userBook.getCurrentPage(), pageCount)
+                - UserStats.progressBooks(previousStatus, previousPage, pageCount);
+        if (previousStatus != status || pages != 0 || progressPoints != 0 || progressBooks != 0) {
+            int updated = userStatsRepository.applyLibraryDelta(userId,
+                    statusDelta(UserBook.ReadingStatus.WANT_TO_READ, previousStatus, status),
+                    statusDelta(UserBook.ReadingStatus.READING, previousStatus, status),
+                    statusDelta(UserBook.ReadingStatus.COMPLETED, previousStatus, status),
+                    pages, progressPoints, progressBooks, now);
+            if (updated == 0) {
+                rebuild(userId);
+                return;
+            }
+        }
+
+        if (status == UserBook.ReadingStatus.COMPLETED && userBook.getCompletedAt() != null
+                && !userBook.getCompletedAt().equals(previousCompletedAt)) {
+            userStatsRepository.markLastCompleted(userId, bookId, userBook.getCompletedAt(), now);
+        }
+
+        if (status == UserBook.ReadingStatus.READING) {
+            if (previousStatus != UserBook.ReadingStatus.READING
+                    || !Objects.equals(previousPage, userBook.getCurrentPage())) {
+                userStatsRepository.markCurrentlyReading(userId, bookId, now);
+            }
+        } else if (previousStatus == UserBook.ReadingStatus.READING) {
+            userStatsRepository.refreshCurrentlyReading(userId, now);
+        }
+    }
+
+    /**
+     * 조건부 UPDATE로 현재 페이지만 바뀐 경우 (상태는 그대로, 변경 전 페이지와 전체 페이지 전달)
+     */
+    public void onProgressUpdated(Long userId, Long userBookId, UserBook.ReadingStatus status,
+                                  Integer previousPage, Integer currentPage, Integer pageCount) {
+        LocalDateTime now = LocalDateTime.now();
+        publishChanged(userId);
+        int updated = userStatsRepository.applyProgressDelta(userId,
+                UserStats.progressPoints(status, currentPage, pageCount)
+                        - UserStats.progressPoints(status, previousPage, pageCount),
+                UserStats.progressBooks(status, currentPage, pageCount)
+                        - UserStats.progressBooks(status, previousPage, pageCount),
+                now);
+        if (updated == 0) {
+            rebuild(userId);
+            return;
+        }
+        userStatsRepository.markCurrentlyReadingByUserBook(userId, userBookId, now);
+    }
+
+    /**
+     * 조건부 UPDATE로 마지막 페이지에 도달해 완독된 경우
+     */
+    public void onCompletedOnLastPage(Long userId, Long userBookId, UserBook.ReadingStatus previousStatus,
+                                      Integer previousPage, Integer currentPage, LocalDateTime completedAt) {
+        publishChanged(userId);
+        eventPublisher.publishEvent(new ReadingCompletedEvent(
+                userId, userBookRepository.findBookIdById(userBookId), completedAt));
+
+        // 마지막 페이지 = 전체 페이지이므로 읽는 중이었다면 이전 진행률만큼 합계에서 제외
+        int updated = userStatsRepository.applyLibraryDelta(userId,
+                statusDelta(UserBook.ReadingStatus.WANT_TO_READ, previousStatus, UserBook.ReadingStatus.COMPLETED),
+                statusDelta(UserBook.ReadingStatus.READING, previousStatus, UserBook.ReadingStatus.COMPLETED),
+                1, currentPage,
+                -UserStats.progressPoints(previousStatus, previousPage, currentPage),
+                -UserStats.progressBooks(previousStatus, previousPage, currentPage),
+                completedAt);
+        if (updated == 0) {
+            rebuild(userId);
+            return;
+        }
+        userStatsRepository.markLastCompletedByUserBook(userId, userBookId, completedAt);
+        if (previousStatus == UserBook.ReadingStatus.READING) {
+            userStatsRepository.refreshCurrentlyReading(userId, completedAt);
+        }
+    }
+
+    /**
+     * 리뷰 작성/수정/삭제 (개수 증감, 평점 합계 증감)
+     */
+    public void onReviewChanged(Long userId, long reviewDelta, long ratingDelta) {
+        publishChanged(userId);
+        if (userStatsRepository.applyReviewDelta(userId, reviewDelta, ratingDelta, LocalDateTime.now()) == 0) {
+            rebuild(userId);
+        }
+    }
+
+    /**
+     * 원본 테이블에서 다시 계산하여 덮어씀 (일괄 변경, 삭제, 정합성 복구용)
+     */
+    public void rebuild(Long userId) {
+        userStatsRepository.lockRow(userId);
+
+        Map<UserBook.ReadingStatus, UserBookStatusAggregate> byStatus = new EnumMap<>(UserBook.ReadingStatus.class);
+        for (UserBookStatusAggregate aggregate : userBookRepository.aggregateByStatus(userId)) {
+            byStatus.put(aggregate.getStatus(), aggregate);
+        }
+        Map<String, ReadingHighlight> highlights = new HashMap<>();
+        for (ReadingHighlight highlight : userBookRepository.findReadingHighlights(userId)) {
+            highlights.put(highlight.getKind(), highlight);
+        }
+        ReviewAggregate reviews = reviewRepository.aggregateByUserId(userId);
+
+        ReadingHighlight archive = highlights.get(ReadingHighlight.ARCHIVE);
+        ReadingHighlight lastCompleted = latestCompleted(highlights.get(ReadingHighlight.LAST_COMPLETED), archive);
+        ReadingHighlight currentlyReading = highlights.get(ReadingHighlight.CURRENTLY_READING);
+        UserBookStatusAggregate completed = byStatus.get(UserBook.ReadingStatus.COMPLETED);
+        UserBookStatusAggregate reading = byStatus.get(UserBook.ReadingStatus.READING);
+
+        userStatsRepository.upsert(userId,
+                countOf(byStatus.get(UserBook.ReadingStatus.WANT_TO_READ)),
+                countOf(byStatus.get(UserBook.ReadingStatus.READING)),
+                countOf(completed) + (archive != null ? archive.getArchivedBooks() : 0L),
+                (completed != null && completed.getPageSum() != null ? completed.getPageSum() : 0L)
+                        + (archive != null ? archive.getArchivedPages() : 0L),
+                reviews.getReviewCount(),
+                reviews.getRatingSum() != null ? reviews.getRatingSum() : 0L,
+                lastCompleted != null ? lastCompleted.getBookId() : null,
+                lastCompleted != null ? lastCompleted.getEventAt() : null,
+                currentlyReading != null ? currentlyReading.getBookId() : null,
+                reading != null && reading.getProgressPoints() != null ? reading.getProgressPoints() : 0L,
+                reading != null && reading.getProgressBooks() != null ? reading.getProgressBooks() : 0L,
+                LocalDateTime.now());
+        eventPublisher.publishEvent(new ReadingCompletionsRecountEvent(userId));
+        publishChanged(userId);
+    }
+
+    /**
+     * 사용자마다 별도 트랜잭션으로 재계산 후 결과 반환 (정합성 복구 배치용)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public UserStats rebuildInNewTransaction(Long userId) {
+        rebuild(userId);
+        return userStatsRepository.findById(userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+    }
+
+    /**
+     * 커밋 이후 통계 캐시 무효화
+     */
+    private void publishChanged(Long userId) {
+        eventPublisher.publishEvent(new UserLibraryChangedEvent(userId));
+    }
+
+    private long statusDelta(UserBook.ReadingStatus target, UserBook.ReadingStatus previous,
+                             UserBook.ReadingStatus current) {
+        return (current == target ? 1 : 0) - (previous == target ? 1 : 0);
+    }
+
+    private long completedPages(UserBook.ReadingStatus status, Integer currentPage) {
+        return status == UserBook.ReadingStatus.COMPLETED && currentPage != null ? currentPage : 0;
+    }
+
+    private long countOf(UserBookStatusAggregate aggregate) {
+        return aggregate != null ? aggregate.getBookCount() : 0L;
+    }
+
+    /**
+     * 서재와 보관 기록 중 더 최근에 완독한 쪽 선택
+     */
+    private ReadingHighlight latestCompleted(ReadingHighlight hot, ReadingHighlight archive) {
+        if (archive == null || archive.getBookId() == null || archive.getEventAt() == null) {
+            return hot;
+        }
+        if (hot == null || hot.getEventAt() == null || archive.getEventAt().isAfter(hot.getEventAt())) {
+            return archive;
+        }
+        return hot;
+    }
+}
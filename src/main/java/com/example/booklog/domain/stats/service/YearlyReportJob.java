@@ -0,0 +1,122 @@
+package com.example.booklog.domain.stats.service;
+
+import com.example.booklog.common.datasource.ShardContext;
+import com.example.booklog.common.datasource.ShardDataSources;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 연말 결산 생성 배치
+ * 사용자를 id 순으로 페이지 단위로 읽고, 한 페이지 안에서는 고정 크기 스레드 풀로 동시에 생성 (동시 커넥션 수 = concurrency)
+ * 12월에는 매일 올해 결산을 갱신하고, 1월 1일에 지난해 결산을 한 번 더 생성하여 확정
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "booklog.yearly-report.enabled", havingValue = "true")
+public class YearlyReportJob {
+
+    private static final String SELECT_USER_IDS = "SELECT id FROM users WHERE id > ? ORDER BY id LIMIT ?";
+
+    private final YearlyReportService yearlyReportService;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectProvider<ShardDataSources> shardDataSources;
+
+    @Value("${booklog.yearly-report.page-size:500}")
+    private int pageSize;
+
+    @Value("${booklog.yearly-report.concurrency:4}")
+    private int concurrency;
+
+    @Scheduled(cron = "${booklog.yearly-report.cron:0 0 2 * 12 *}")
+    public void generateCurrentYear() {
+        generateAll(Year.now().getValue());
+    }
+
+    @Scheduled(cron = "${booklog.yearly-report.final-cron:0 0 4 1 1 *}")
+    public void generatePreviousYear() {
+        generateAll(Year.now().getValue() - 1);
+    }
+
+    /**
+     * 모든 사용자의 결산 생성 (샤딩 환경에서는 소유 샤드에서만)
+     */
+    public void generateAll(int year) {
+        ShardDataSources shards = shardDataSources.getIfAvailable();
+        int shardCount = shards != null ? shards.shardCount() : 1;
+
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        try {
+            for (int shard = 0; shard < shardCount; shard++) {
+                int generated = generateShard(executor, shards, shard, year);
+                log.info("{}년 결산 {}건을 생성했습니다. (샤드 {})", year, generated, shard);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("{}년 결산 생성이 중단되었습니다.", year);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int generateShard(ExecutorService executor, ShardDataSources shards, int shard, int year)
+            throws InterruptedException {
+        AtomicInteger generated = new AtomicInteger();
+        long lastUserId = 0;
+        while (true) {
+            long afterUserId = lastUserId;
+            List<Long> userIds = ShardContext.callOn(shard, () ->
+                    jdbcTemplate.queryForList(SELECT_USER_IDS, Long.class, afterUserId, pageSize));
+
+            List<Callable<Void>> tasks = new ArrayList<>(userIds.size());
+            for (Long userId : userIds) {
+                // 홈 샤드에는 모든 사용자가 있으므로 소유 샤드가 아니면 건너뜀
+                if (shards != null && shards.shardFor(userId) != shard) {
+                    continue;
+                }
+                tasks.add(() -> {
+                    try {
+                        ShardContext.callOn(shard, () -> {
+                            yearlyReportService.generateInNewTransaction(userId, year);
+                            return null;
+                        });
+                        generated.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        log.warn("사용자 {}의 {}년 결산 생성에 실패했습니다.", userId, year, e);
+                    }
+                    return null;
+                });
+            }
+
+            // 페이지 단위로 모두 끝날 때까지 기다려 대기 작업 수를 페이지 크기 이하로 유지
+            for (Future<Void> future : executor.invokeAll(tasks)) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    log.warn("{}년 결산 생성 작업이 실패했습니다.", year, e.getCause());
+                }
+            }
+
+            if (userIds.size() < pageSize) {
+                return generated.get();
+            }
+            lastUserId = userIds.get(userIds.size() - 1);
+        }
+    }
+}
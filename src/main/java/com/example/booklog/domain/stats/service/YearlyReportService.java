@@ -0,0 +1,185 @@
+package com.example.booklog.domain.stats.service;
+
+import com.example.booklog.common.exception.CustomException;
+import com.example.booklog.common.exception.ErrorCode;
+import com.example.booklog.domain.stats.dto.YearlyReportResponse;
+import com.example.booklog.domain.stats.entity.ReadingActivityYear;
+import com.example.booklog.domain.stats.entity.YearlyReport;
+import com.example.booklog.domain.stats.repository.ReadingActivityYearRepository;
+import com.example.booklog.domain.stats.repository.YearlyReportRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 연말 결산
+ * 배치에서 사용자마다 원본 테이블을 한 번씩 읽어 yearly_reports에 저장하고, 조회는 행 하나만 읽음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class YearlyReportService {
+
+    private static final int TOP_AUTHORS = 3;
+    private static final int BEST_RATED_BOOKS = 3;
+
+    // 보관된 완독 기록도 해당 연도에 완독한 책이므로 함께 조회
+    private static final String SELECT_COMPLETED_BOOKS =
+            "SELECT b.google_books_id, b.title, b.authors, b.thumbnail_url, b.page_count, r.rating, ub.completed_at " +
+            "FROM user_books ub JOIN books b ON b.id = ub.book_id " +
+            "LEFT JOIN reviews r ON r.user_id = ub.user_id AND r.book_id = ub.book_id " +
+            "WHERE ub.user_id = ? AND ub.status = 'COMPLETED' AND ub.completed_at >= ? AND ub.completed_at < ? " +
+            "UNION ALL " +
+            "SELECT b.google_books_id, b.title, b.authors, b.thumbnail_url, b.page_count, r.rating, ua.completed_at " +
+            "FROM user_books_archive ua JOIN books b ON b.id = ua.book_id " +
+            "LEFT JOIN reviews r ON r.user_id = ua.user_id AND r.book_id = ua.book_id " +
+            "WHERE ua.user_id = ? AND ua.status = 'COMPLETED' AND ua.completed_at >= ? AND ua.completed_at < ? " +
+            "ORDER BY completed_at";
+
+    private static final String SELECT_PAGES_READ =
+            "SELECT COALESCE(SUM(pages_read), 0) FROM monthly_reading_rollups " +
+            "WHERE user_id = ? AND month_start >= ? AND month_start < ?";
+
+    private static final String SELECT_REVIEWS =
+            "SELECT COUNT(*) AS review_count, AVG(rating) AS average_rating FROM reviews " +
+            "WHERE user_id = ? AND created_at >= ? AND created_at < ?";
+
+    private static final String UPSERT_REPORT =
+            "INSERT INTO yearly_reports (user_id, report_year, books_completed, pages_read, reading_days, " +
+            "reviews_written, average_rating, highlights, generated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE books_completed = VALUES(books_completed), pages_read = VALUES(pages_read), " +
+            "reading_days = VALUES(reading_days), reviews_written = VALUES(reviews_written), " +
+            "average_rating = VALUES(average_rating), highlights = VALUES(highlights), " +
+            "generated_at = VALUES(generated_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final YearlyReportRepository yearlyReportRepository;
+    private final ReadingActivityYearRepository readingActivityYearRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 연말 결산 조회 (배치로 생성된 행 하나)
+     */
+    public YearlyReportResponse getReport(Long userId, int year) {
+        YearlyReport report = yearlyReportRepository.findById(new YearlyReport.ReportId(userId, year))
+                .orElseThrow(() -> new CustomException(ErrorCode.ENTITY_NOT_FOUND));
+
+        try {
+            return YearlyReportResponse.builder()
+                    .year(report.getReportYear())
+                    .booksCompleted(report.getBooksCompleted())
+                    .pagesRead(report.getPagesRead())
+                    .readingDays(report.getReadingDays())
+                    .reviewsWritten(report.getReviewsWritten())
+                    .averageRating(report.getAverageRating())
+                    .highlights(objectMapper.readValue(report.getHighlights(), YearlyReportResponse.Highlights.class))
+                    .generatedAt(report.getGeneratedAt())
+                    .build();
+        } catch (JsonProcessingException e) {
+            log.error("사용자 {}의 {}년 결산을 읽을 수 없습니다.", userId, year, e);
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 연말 결산 생성 (사용자의 소유 샤드에서 호출)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void generateInNewTransaction(Long userId, int year) {
+        LocalDateTime from = LocalDate.of(year, 1, 1).atStartOfDay();
+        LocalDateTime to = from.plusYears(1);
+
+        List<YearlyReportResponse.BookSummary> books = jdbcTemplate.query(SELECT_COMPLETED_BOOKS,
+                (rs, rowNum) -> YearlyReportResponse.BookSummary.builder()
+                        .googleBooksId(rs.getString("google_books_id"))
+                        .title(rs.getString("title"))
+                        .authors(rs.getString("authors"))
+                        .thumbnailUrl(rs.getString("thumbnail_url"))
+                        .pageCount(rs.getObject("page_count", Integer.class))
+                        .rating(rs.getObject("rating", Integer.class))
+                        .build(),
+                userId, from, to, userId, from, to);
+
+        Long pagesRead = jdbcTemplate.queryForObject(SELECT_PAGES_READ, Long.class,
+                userId, from.toLocalDate(), to.toLocalDate());
+
+        ReviewSummary reviews = jdbcTemplate.queryForObject(SELECT_REVIEWS,
+                (rs, rowNum) -> new ReviewSummary(rs.getInt("review_count"),
+                        rs.getObject("average_rating", Double.class)),
+                userId, from, to);
+
+        int readingDays = readingActivityYearRepository.findById(new ReadingActivityYear.ActivityYearId(userId, year))
+                .map(ReadingActivityYear::countActiveDays)
+                .orElse(0);
+
+        String highlights;
+        try {
+            highlights = objectMapper.writeValueAsString(highlights(books));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("연말 결산을 직렬화할 수 없습니다.", e);
+        }
+
+        jdbcTemplate.update(UPSERT_REPORT, userId, year, books.size(), pagesRead != null ? pagesRead : 0L,
+                readingDays, reviews.count(), reviews.averageRating(), highlights, LocalDateTime.now());
+    }
+
+    private YearlyReportResponse.Highlights highlights(List<YearlyReportResponse.BookSummary> books) {
+        // 저자는 쉼표로 구분되어 저장됨
+        Map<String, Integer> authorCounts = new HashMap<>();
+        for (YearlyReportResponse.BookSummary book : books) {
+            if (book.getAuthors() == null) {
+                continue;
+            }
+            for (String author : book.getAuthors().split(",")) {
+                String name = author.trim();
+                if (!name.isEmpty()) {
+                    authorCounts.merge(name, 1, Integer::sum);
+                }
+            }
+        }
+
+        List<YearlyReportResponse.AuthorCount> topAuthors = authorCounts.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(TOP_AUTHORS)
+                .map(entry -> YearlyReportResponse.AuthorCount.builder()
+                        .author(entry.getKey())
+                        .booksCompleted(entry.getValue())
+                        .build())
+                .toList();
+
+        // 같은 평점이면 먼저 완독한 책 우선 (정렬 안정성)
+        List<YearlyReportResponse.BookSummary> bestRated = books.stream()
+                .filter(book -> book.getRating() != null)
+                .sorted(Comparator.comparing(YearlyReportResponse.BookSummary::getRating).reversed())
+                .limit(BEST_RATED_BOOKS)
+                .toList();
+
+        YearlyReportResponse.BookSummary longest = books.stream()
+                .filter(book -> book.getPageCount() != null)
+                .max(Comparator.comparing(YearlyReportResponse.BookSummary::getPageCount))
+                .orElse(null);
+
+        return YearlyReportResponse.Highlights.builder()
+                .topAuthors(topAuthors)
+                .bestRatedBooks(bestRated)
+                .longestBook(longest)
+                .build();
+    }
+
+    private record ReviewSummary(int count, Double averageRating) {
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.booklog.domain.trending.controller;
+
+import com.example.booklog.domain.trending.dto.TrendingBookResponse;
+import com.example.booklog.domain.trending.service.TrendingService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/books/trending")
+@RequiredArgsConstructor
+@Tag(name = "Trending", description = "인기 도서 API")
+public class TrendingController {
+
+    private final TrendingService trendingService;
+
+    /**
+     * 인기 도서 조회
+     */
+    @GetMapping
+    @Operation(summary = "인기 도서 조회", description = "최근 서재 추가, 완독, 리뷰가 많은 책을 조회합니다")
+    public ResponseEntity<List<TrendingBookResponse>> getTrendingBooks(
+            @Parameter(description = "조회할 책 수") @RequestParam(defaultValue = "10") int limit) {
+
+        return ResponseEntity.ok(trendingService.getTrendingBooks(limit));
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.booklog.domain.trending.dto;
+
+import com.example.booklog.domain.userbook.dto.UserBookResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrendingBookResponse {
+
+    private Integer rank;
+    private UserBookResponse.BookInfo book;
+    private Double score;   // 감쇠된 최근 활동 점수 (서재 추가 1, 완독 2, 리뷰 3)
+}
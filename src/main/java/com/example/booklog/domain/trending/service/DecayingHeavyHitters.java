@@ -0,0 +1,110 @@
+package com.example.booklog.domain.trending.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 지수 감쇠 가중치를 쓰는 Space-Saving 상위 빈도 추정
+ * 최대 capacity개 항목만 추적하고, 가득 차면 가장 작은 카운터를 새 항목에 넘겨줌 (오차는 넘겨받은 값 이하)
+ * 감쇠는 기준 시각(landmark) 대비 가중치를 키우는 forward decay로 처리하여 기존 카운터를 매번 갱신하지 않음
+ * 시각은 버킷 단위로 내림하여 같은 버킷 안의 이벤트는 같은 가중치를 가짐
+ */
+public class DecayingHeavyHitters {
+
+    // 가중치가 exp(50)을 넘으면 기준 시각을 옮겨 전체 카운터를 다시 정규화 (double 오버플로 방지)
+    private static final double MAX_EXPONENT = 50;
+
+    private static final Comparator<Counter> ORDER = Comparator.comparingDouble(Counter::count)
+            .thenComparingLong(Counter::id);
+
+    private final int capacity;
+    private final double decayPerBucket;
+    private final long bucketMillis;
+    private final Map<Long, Counter> counters = new HashMap<>();
+    private final TreeSet<Counter> byCount = new TreeSet<>(ORDER);
+    private long landmarkBucket;
+
+    // capacity: 추적할 최대 항목 수, halfLifeMillis: 가중치가 절반이 되는 시간, bucketMillis: 감쇠 계산 시각 단위
+    public DecayingHeavyHitters(int capacity, long halfLifeMillis, long bucketMillis, long nowMillis) {
+        this.capacity = capacity;
+        this.bucketMillis = bucketMillis;
+        this.decayPerBucket = Math.log(2) * bucketMillis / halfLifeMillis;
+        this.landmarkBucket = nowMillis / bucketMillis;
+    }
+
+    /**
+     * 이벤트 반영
+     */
+    public synchronized void add(long id, double weight, long nowMillis) {
+        long bucket = nowMillis / bucketMillis;
+        if ((bucket - landmarkBucket) * decayPerBucket > MAX_EXPONENT) {
+            rescale(bucket);
+        }
+        double boosted = weight * Math.exp((bucket - landmarkBucket) * decayPerBucket);
+
+        Counter counter = counters.get(id);
+        if (counter != null) {
+            byCount.remove(counter);
+            put(new Counter(id, counter.count() + boosted, counter.error()));
+        } else if (counters.size() < capacity) {
+            put(new Counter(id, boosted, 0));
+        } else {
+            // 가장 작은 카운터를 내보내고 그 값을 오차로 물려받음
+            Counter evicted = byCount.pollFirst();
+            counters.remove(evicted.id());
+            put(new Counter(id, evicted.count() + boosted, evicted.count()));
+        }
+    }
+
+    /**
+     * 현재 시각 기준 감쇠된 점수 상위 K개
+     */
+    public synchronized List<Scored> top(int limit, long nowMillis) {
+        double decay = Math.exp(-(nowMillis / bucketMillis - landmarkBucket) * decayPerBucket);
+        List<Scored> top = new ArrayList<>(Math.min(limit, counters.size()));
+        Iterator<Counter> iterator = byCount.descendingIterator();
+        while (iterator.hasNext() && top.size() < limit) {
+            Counter counter = iterator.next();
+            top.add(new Scored(counter.id(), counter.count() * decay, (counter.count() - counter.error()) * decay));
+        }
+        return top;
+    }
+
+    public synchronized int size() {
+        return counters.size();
+    }
+
+    private void put(Counter counter) {
+        counters.put(counter.id(), counter);
+        byCount.add(counter);
+    }
+
+    /**
+     * 기준 시각을 옮기고 모든 카운터를 같은 비율로 축소 (순서는 유지)
+     */
+    private void rescale(long bucket) {
+        double factor = Math.exp(-(bucket - landmarkBucket) * decayPerBucket);
+        List<Counter> rescaled = new ArrayList<>(counters.size());
+        for (Counter counter : counters.values()) {
+            rescaled.add(new Counter(counter.id(), counter.count() * factor, counter.error() * factor));
+        }
+        counters.clear();
+        byCount.clear();
+        rescaled.forEach(this::put);
+        landmarkBucket = bucket;
+    }
+
+    private record Counter(long id, double count, double error) {
+    }
+
+    /**
+     * 감쇠된 점수 (score는 상한 추정치, guaranteed는 하한)
+     */
+    public record Scored(long id, double score, double guaranteed) {
+    }
+}
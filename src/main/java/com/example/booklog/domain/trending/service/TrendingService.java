@@ -0,0 +1,112 @@
+package com.example.booklog.domain.trending.service;
+
+import com.example.booklog.domain.book.entity.Book;
+import com.example.booklog.domain.book.service.BookService;
+import com.example.booklog.domain.review.event.ReviewRatingChangedEvent;
+import com.example.booklog.domain.stats.event.ReadingCompletedEvent;
+import com.example.booklog.domain.trending.dto.TrendingBookResponse;
+import com.example.booklog.domain.userbook.dto.UserBookResponse;
+import com.example.booklog.domain.userbook.event.UserBookAddedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 인기 도서 (최근 서재 추가, 완독, 리뷰 작성 기준)
+ * 커밋된 이벤트를 감쇠 카운터에 반영하고, 주기적으로 상위 K권을 책 정보와 함께 미리 만들어 두어 조회 시 DB를 사용하지 않음
+ * 노드별 메모리에만 유지하며 재시작 시 비어 있는 상태에서 다시 쌓임
+ */
+@Slf4j
+@Service
+public class TrendingService {
+
+    private static final double ADDED_WEIGHT = 1;
+    private static final double COMPLETED_WEIGHT = 2;
+    private static final double REVIEWED_WEIGHT = 3;
+
+    private final DecayingHeavyHitters counters;
+    private final BookService bookService;
+    private final int maxSize;
+
+    private volatile List<TrendingBookResponse> trending = List.of();
+
+    public TrendingService(BookService bookService,
+                           @Value("${booklog.trending.capacity:1000}") int capacity,
+                           @Value("${booklog.trending.half-life-minutes:360}") long halfLifeMinutes,
+                           @Value("${booklog.trending.bucket-seconds:60}") long bucketSeconds,
+                           @Value("${booklog.trending.max-size:50}") int maxSize) {
+        this.bookService = bookService;
+        this.maxSize = maxSize;
+        this.counters = new DecayingHeavyHitters(capacity, halfLifeMinutes * 60_000, bucketSeconds * 1000,
+                System.currentTimeMillis());
+    }
+
+    /**
+     * 인기 도서 상위 K권 (미리 계산된 목록)
+     */
+    public List<TrendingBookResponse> getTrendingBooks(int limit) {
+        List<TrendingBookResponse> snapshot = trending;
+        return snapshot.subList(0, Math.max(0, Math.min(limit, snapshot.size())));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserBookAdded(UserBookAddedEvent event) {
+        counters.add(event.bookId(), ADDED_WEIGHT, System.currentTimeMillis());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReadingCompleted(ReadingCompletedEvent event) {
+        if (event.bookId() != null) {
+            counters.add(event.bookId(), COMPLETED_WEIGHT, System.currentTimeMillis());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewRatingChanged(ReviewRatingChangedEvent event) {
+        // 새 리뷰만 반영 (수정, 삭제 제외)
+        if (event.reviewDelta() > 0) {
+            counters.add(event.bookId(), REVIEWED_WEIGHT * event.reviewDelta(), System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * 상위 K권을 책 정보와 함께 다시 만듦 (책은 2차 캐시에서 일괄 조회)
+     */
+    @Scheduled(fixedDelayString = "${booklog.trending.refresh-interval-ms:10000}")
+    public void refresh() {
+        List<DecayingHeavyHitters.Scored> top = counters.top(maxSize, System.currentTimeMillis());
+        if (top.isEmpty() && trending.isEmpty()) {
+            return;
+        }
+
+        try {
+            Map<Long, Book> books = bookService.findAllByIds(top.stream().map(DecayingHeavyHitters.Scored::id).toList())
+                    .stream()
+                    .collect(Collectors.toMap(Book::getId, Function.identity()));
+
+            List<TrendingBookResponse> refreshed = new ArrayList<>(top.size());
+            for (DecayingHeavyHitters.Scored scored : top) {
+                Book book = books.get(scored.id());
+                if (book == null) {
+                    continue;
+                }
+                refreshed.add(TrendingBookResponse.builder()
+                        .rank(refreshed.size() + 1)
+                        .book(UserBookResponse.BookInfo.from(book))
+                        .score(Math.round(scored.score() * 100) / 100.0)
+                        .build());
+            }
+            trending = List.copyOf(refreshed);
+        } catch (RuntimeException e) {
+            log.warn("인기 도서 목록 갱신에 실패하여 이전 목록을 유지합니다.", e);
+        }
+    }
+}
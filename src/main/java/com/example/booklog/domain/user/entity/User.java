@@ -6,6 +6,10 @@ import com.example.booklog.domain.userbook.entity.UserBook;import lombok.AllArgs
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -21,6 +25,8 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
+@NaturalIdCache(region = "user-natural-id")
 public class User {
 
     @Id
@@ -30,6 +36,7 @@ public class User {
     @Column(unique = true, nullable = false, length = 50)
     private String username;
 
+    @NaturalId
     @Column(unique = true, nullable = false, length = 100)
     private String email;
 
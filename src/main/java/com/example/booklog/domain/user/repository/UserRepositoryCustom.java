@@ -0,0 +1,13 @@
+package com.example.booklog.domain.user.repository;
+
+import com.example.booklog.domain.user.entity.User;
+
+import java.util.Optional;
+
+public interface UserRepositoryCustom {
+
+    /**
+     * 이메일(natural id)로 사용자 조회 - 2차 캐시 우선
+     */
+    Optional<User> findByNaturalId(String email);
+}
@@ -0,0 +1,26 @@
+package com.example.booklog.domain.user.repository;
+
+import com.example.booklog.domain.user.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * natural id 캐시 -> 엔티티 캐시 -> DB 순으로 조회
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<User> findByNaturalId(String email) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(email);
+    }
+}
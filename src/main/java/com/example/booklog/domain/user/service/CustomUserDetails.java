@@ -2,7 +2,6 @@ package com.example.booklog.domain.user.service;
 
 import com.example.booklog.domain.user.entity.User;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -10,34 +9,45 @@ import org.springframework.security.core.userdetails.UserDetails;
 import java.util.Collection;
 import java.util.Collections;
 
-@RequiredArgsConstructor
+/**
+ * 인증 주체
+ * DB에서 읽은 사용자로 만들거나, 검증된 JWT 클레임만으로 만들 수 있음 (클레임으로 만든 경우 비밀번호 없음)
+ */
 @Getter
 public class CustomUserDetails implements UserDetails {
 
-    private final User user;
+    private final Long userId;
+    private final String email;
+    private final String displayName;   // 실제 사용자명
+    private final String password;
 
-    @Override
-    public Collection<? extends GrantedAuthority> getAuthorities() {
-        // 기본적으로 USER 권한 부여
-        return Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"));
+    public CustomUserDetails(User user) {
+        this(user.getId(), user.getEmail(), user.getUsername(), user.getPassword());
     }
 
-    @Override
-    public String getPassword() {
-        return user.getPassword();
+    private CustomUserDetails(Long userId, String email, String displayName, String password) {
+        this.userId = userId;
+        this.email = email;
+        this.displayName = displayName;
+        this.password = password;
     }
 
-    @Override
-    public String getUsername() {
-        return user.getEmail(); // 이메일을 username으로 사용
+    /**
+     * 검증된 JWT 클레임으로 생성 (DB 조회 없음)
+     */
+    public static CustomUserDetails fromClaims(Long userId, String email, String username) {
+        return new CustomUserDetails(userId, email, username, null);
     }
 
-    public String getDisplayName() {
-        return user.getUsername(); // 실제 사용자명
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        // 기본적으로 USER 권한 부여
+        return Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"));
     }
 
-    public Long getUserId() {
-        return user.getId();
+    @Override
+    public String getUsername() {
+        return email; // 이메일을 username으로 사용
     }
 
     @Override
@@ -0,0 +1,58 @@
+package com.example.booklog.domain.user.service;
+
+import com.example.booklog.common.exception.CustomException;
+import com.example.booklog.common.exception.ErrorCode;
+import com.example.booklog.domain.user.entity.User;
+import com.example.booklog.domain.user.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 사용자 엔티티 로컬 캐시 (인증 주체만으로 부족하여 엔티티가 필요한 조회용)
+ * 크기 제한과 짧은 TTL로만 만료하며, 반환값은 준영속 상태이므로 읽기 전용으로만 사용
+ */
+@Component
+@ConditionalOnProperty(name = "booklog.security.user-cache.enabled", havingValue = "true")
+public class UserCache {
+
+    public static final String CACHE_NAME = "users";
+
+    private final Cache<Long, User> cache;
+    private final UserRepository userRepository;
+
+    public UserCache(UserRepository userRepository,
+                     MeterRegistry meterRegistry,
+                     @Value("${booklog.security.user-cache.max-size:10000}") long maxSize,
+                     @Value("${booklog.security.user-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.userRepository = userRepository;
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public User get(Long userId) {
+        User cached = cache.getIfPresent(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        cache.put(userId, user);
+        return user;
+    }
+
+    public void evict(Long userId) {
+        cache.invalidate(userId);
+    }
+}
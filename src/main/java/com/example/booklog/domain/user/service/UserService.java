@@ -1,11 +1,13 @@
 package com.example.booklog.domain.user.service;
 
+import com.example.booklog.common.datasource.ReferenceDataReplicator;
 import com.example.booklog.domain.user.entity.User;
 import com.example.booklog.common.exception.CustomException;
 import com.example.booklog.common.exception.ErrorCode;
 import com.example.booklog.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,6 +18,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final ObjectProvider<ReferenceDataReplicator> referenceDataReplicator;
+    private final ObjectProvider<UserCache> userCache;
 
     /**
      * ID로 사용자 조회
@@ -25,11 +29,29 @@ public class UserService {
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
     }
 
+    /**
+     * 쓰기 경로에서 사용자 조회
+     * 샤딩 환경에서는 소유 샤드에 사용자 행이 없으면(가입 직후 복제 실패 등) 먼저 홈 샤드에서 복사
+     * 복사는 별도 커넥션에서 커밋되므로 트랜잭션의 첫 조회로 호출해야 함
+     */
+    public User findForWrite(Long userId) {
+        referenceDataReplicator.ifAvailable(replicator -> replicator.ensureUserOnShard(userId));
+        return findById(userId);
+    }
+
+    /**
+     * ID로 사용자 조회 (읽기 전용, 사용자 캐시가 켜져 있으면 캐시 사용)
+     */
+    public User findCachedById(Long userId) {
+        UserCache cache = userCache.getIfAvailable();
+        return cache != null ? cache.get(userId) : findById(userId);
+    }
+
     /**
      * 이메일로 사용자 조회
      */
     public User findByEmail(String email) {
-        return userRepository.findByEmail(email)
+        return userRepository.findByNaturalId(email)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
     }
 
@@ -64,6 +86,10 @@ public class UserService {
      */
     @Transactional
     public User saveUser(User user) {
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+
+        // 샤딩 환경에서는 커밋 후 사용자 소유 샤드에도 복제
+        referenceDataReplicator.ifAvailable(replicator -> replicator.replicateUserAfterCommit(savedUser));
+        return savedUser;
     }
 } 
\ No newline at end of file
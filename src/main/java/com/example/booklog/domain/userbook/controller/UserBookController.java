@@ -1,11 +1,17 @@
 package com.example.booklog.domain.userbook.controller;
 
+import com.example.booklog.domain.userbook.dto.ReadingProgressRequest;
+import com.example.booklog.domain.userbook.dto.ReadingProgressResponse;
+import com.example.booklog.domain.userbook.dto.UserBookBulkDeleteRequest;
+import com.example.booklog.domain.userbook.dto.UserBookBulkResponse;
+import com.example.booklog.domain.userbook.dto.UserBookBulkStatusRequest;
 import com.example.booklog.domain.userbook.dto.UserBookRequest;
 import com.example.booklog.domain.userbook.dto.UserBookUpdateRequest;
 import com.example.booklog.domain.book.dto.BookSearchResponse;
 import com.example.booklog.domain.userbook.dto.UserBookResponse;
 import com.example.booklog.domain.userbook.entity.UserBook;
 import com.example.booklog.domain.user.service.CustomUserDetails;
+import com.example.booklog.domain.userbook.service.ReadingProgressService;
 import com.example.booklog.domain.userbook.service.UserBookService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -30,6 +36,7 @@ import java.time.LocalDate;
 public class UserBookController {
 
     private final UserBookService userBookService;
+    private final ReadingProgressService readingProgressService;
 
     /**
      * 내 서재에 책 추가
@@ -90,6 +97,22 @@ public class UserBookController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 보관된 완독 기록 조회
+     */
+    @GetMapping("/archive")
+    @Operation(summary = "보관된 완독 기록 조회", description = "오래되어 보관 처리된 완독 기록을 조회합니다")
+    public ResponseEntity<Page<UserBookResponse>> getArchivedUserBooks(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Parameter(description = "페이지 번호") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size) {
+
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "completedAt"));
+        Page<UserBookResponse> response = userBookService.getArchivedUserBooks(userDetails.getUserId(), pageable)
+                .map(UserBookResponse::from);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 내 서재 책 상세 조회
      */
@@ -124,6 +147,25 @@ public class UserBookController {
         return ResponseEntity.ok(UserBookResponse.from(userBook));
     }
 
+    /**
+     * 현재 페이지만 빠르게 업데이트 (전자책 리더 등 잦은 진행률 동기화용)
+     */
+    @PutMapping("/{userBookId}/progress")
+    @Operation(summary = "독서 진행률 업데이트", description = "현재 페이지를 갱신하고, 마지막 페이지에 도달하면 완독 처리합니다")
+    public ResponseEntity<ReadingProgressResponse> updateReadingProgress(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Long userBookId,
+            @Valid @RequestBody ReadingProgressRequest request) {
+
+        ReadingProgressResponse response = readingProgressService.updateReadingProgress(
+                userDetails.getUserId(),
+                userBookId,
+                request.getCurrentPage()
+        );
+
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 서재에서 책 제거
      */
@@ -137,6 +179,47 @@ public class UserBookController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * 독서 상태 일괄 변경
+     */
+    @PutMapping("/bulk/status")
+    @Operation(summary = "독서 상태 일괄 변경", description = "선택한 여러 책의 독서 상태를 한 번에 변경합니다")
+    public ResponseEntity<UserBookBulkResponse> updateStatusInBulk(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Valid @RequestBody UserBookBulkStatusRequest request) {
+
+        int affected = userBookService.updateStatusInBulk(
+                userDetails.getUserId(),
+                request.getUserBookIds(),
+                request.getStatus()
+        );
+
+        return ResponseEntity.ok(UserBookBulkResponse.builder()
+                .requested(request.getUserBookIds().size())
+                .affected(affected)
+                .build());
+    }
+
+    /**
+     * 서재에서 책 일괄 제거
+     */
+    @PostMapping("/bulk/delete")
+    @Operation(summary = "서재에서 책 일괄 제거", description = "선택한 여러 책과 관련 리뷰를 한 번에 제거합니다")
+    public ResponseEntity<UserBookBulkResponse> removeBooksFromLibraryInBulk(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Valid @RequestBody UserBookBulkDeleteRequest request) {
+
+        int affected = userBookService.removeBooksFromLibraryInBulk(
+                userDetails.getUserId(),
+                request.getUserBookIds()
+        );
+
+        return ResponseEntity.ok(UserBookBulkResponse.builder()
+                .requested(request.getUserBookIds().size())
+                .affected(affected)
+                .build());
+    }
+
     /**
      * 출간일 파싱 (String -> LocalDate)
      */
@@ -0,0 +1,19 @@
+package com.example.booklog.domain.userbook.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReadingProgressRequest {
+
+    @NotNull(message = "현재 페이지는 필수입니다")
+    @Min(value = 0, message = "현재 페이지는 0 이상이어야 합니다")
+    private Integer currentPage;
+}
@@ -0,0 +1,49 @@
+package com.example.booklog.domain.userbook.dto;
+
+import com.example.booklog.domain.userbook.entity.UserBook;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReadingProgressResponse {
+
+    private Long userBookId;
+    private Integer currentPage;
+    private Boolean completed;          // 이번 업데이트 후 완독 상태 여부
+    private LocalDateTime completedAt;  // 완독 시각 (완독인 경우에만)
+
+    public static ReadingProgressResponse inProgress(Long userBookId, Integer currentPage) {
+        return ReadingProgressResponse.builder()
+                .userBookId(userBookId)
+                .currentPage(currentPage)
+                .completed(false)
+                .build();
+    }
+
+    public static ReadingProgressResponse completed(Long userBookId, Integer currentPage, LocalDateTime completedAt) {
+        return ReadingProgressResponse.builder()
+                .userBookId(userBookId)
+                .currentPage(currentPage)
+                .completed(true)
+                .completedAt(completedAt)
+                .build();
+    }
+
+    // Entity에서 Response로 변환하는 정적 메서드
+    public static ReadingProgressResponse from(UserBook userBook) {
+        boolean completed = userBook.getStatus() == UserBook.ReadingStatus.COMPLETED;
+        return ReadingProgressResponse.builder()
+                .userBookId(userBook.getId())
+                .currentPage(userBook.getCurrentPage())
+                .completed(completed)
+                .completedAt(completed ? userBook.getCompletedAt() : null)
+                .build();
+    }
+}
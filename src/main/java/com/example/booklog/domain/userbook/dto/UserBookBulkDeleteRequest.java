@@ -0,0 +1,21 @@
+package com.example.booklog.domain.userbook.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserBookBulkDeleteRequest {
+
+    @NotEmpty(message = "삭제할 독서 기록을 선택해주세요")
+    @Size(max = 100, message = "한 번에 최대 100개까지 삭제할 수 있습니다")
+    private List<Long> userBookIds;
+}
@@ -0,0 +1,16 @@
+package com.example.booklog.domain.userbook.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserBookBulkResponse {
+
+    private Integer requested;  // 요청한 독서 기록 수
+    private Integer affected;   // 실제로 반영된 독서 기록 수 (본인 소유만 반영)
+}
@@ -0,0 +1,26 @@
+package com.example.booklog.domain.userbook.dto;
+
+import com.example.booklog.domain.userbook.entity.UserBook;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserBookBulkStatusRequest {
+
+    @NotEmpty(message = "변경할 독서 기록을 선택해주세요")
+    @Size(max = 100, message = "한 번에 최대 100개까지 변경할 수 있습니다")
+    private List<Long> userBookIds;
+
+    @NotNull(message = "읽기 상태는 필수입니다")
+    private UserBook.ReadingStatus status;
+}
@@ -1,6 +1,8 @@
 package com.example.booklog.domain.userbook.dto;
 
+import com.example.booklog.domain.book.entity.Book;
 import com.example.booklog.domain.userbook.entity.UserBook;
+import com.example.booklog.domain.userbook.entity.UserBookArchive;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -51,6 +53,23 @@ public class UserBookResponse {
         private String isbn;
         private Double averageRating;
         private Integer reviewCount;
+
+        public static BookInfo from(Book book) {
+            return BookInfo.builder()
+                    .id(book.getId())
+                    .googleBooksId(book.getGoogleBooksId())
+                    .title(book.getTitle())
+                    .authors(book.getAuthors())
+                    .publisher(book.getPublisher())
+                    .publishedDate(book.getPublishedDate())
+                    .description(book.getDescription())
+                    .pageCount(book.getPageCount())
+                    .thumbnailUrl(book.getThumbnailUrl())
+                    .isbn(book.getIsbn())
+                    .averageRating(book.getAverageRating())
+                    .reviewCount(book.getReviewCount())
+                    .build();
+        }
     }
 
     // Entity에서 Response로 변환하는 정적 메서드
@@ -59,20 +78,7 @@ public class UserBookResponse {
                 .id(userBook.getId())
                 .userId(userBook.getUser().getId())
                 .username(userBook.getUser().getUsername())
-                .book(BookInfo.builder()
-                        .id(userBook.getBook().getId())
-                        .googleBooksId(userBook.getBook().getGoogleBooksId())
-                        .title(userBook.getBook().getTitle())
-                        .authors(userBook.getBook().getAuthors())
-                        .publisher(userBook.getBook().getPublisher())
-                        .publishedDate(userBook.getBook().getPublishedDate())
-                        .description(userBook.getBook().getDescription())
-                        .pageCount(userBook.getBook().getPageCount())
-                        .thumbnailUrl(userBook.getBook().getThumbnailUrl())
-                        .isbn(userBook.getBook().getIsbn())
-                        .averageRating(userBook.getBook().getAverageRating())
-                        .reviewCount(userBook.getBook().getReviewCount())
-                        .build())
+                .book(BookInfo.from(userBook.getBook()))
                 .status(userBook.getStatus())
                 .currentPage(userBook.getCurrentPage())
                 .memo(userBook.getMemo())
@@ -83,4 +89,26 @@ public class UserBookResponse {
                 .updatedAt(userBook.getUpdatedAt())
                 .build();
     }
-} 
\ No newline at end of file
+
+    // 보관된 완독 기록 변환 (진행률은 완독 기준으로 계산)
+    public static UserBookResponse from(UserBookArchive archive) {
+        Integer pageCount = archive.getBook().getPageCount();
+        double progress = pageCount == null || pageCount == 0 ? 0.0
+                : Math.round((double) archive.getCurrentPage() / pageCount * 100 * 100.0) / 100.0;
+
+        return UserBookResponse.builder()
+                .id(archive.getId())
+                .userId(archive.getUser().getId())
+                .username(archive.getUser().getUsername())
+                .book(BookInfo.from(archive.getBook()))
+                .status(archive.getStatus())
+                .currentPage(archive.getCurrentPage())
+                .memo(archive.getMemo())
+                .progress(progress)
+                .startedAt(archive.getStartedAt())
+                .completedAt(archive.getCompletedAt())
+                .createdAt(archive.getCreatedAt())
+                .updatedAt(archive.getUpdatedAt())
+                .build();
+    }
+}
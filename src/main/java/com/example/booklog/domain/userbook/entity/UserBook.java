@@ -15,7 +15,11 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "user_books", 
-        uniqueConstraints = @UniqueConstraint(name = "unique_user_book", columnNames = {"user_id", "book_id"}))
+        uniqueConstraints = @UniqueConstraint(name = "unique_user_book", columnNames = {"user_id", "book_id"}),
+        indexes = {
+                @Index(name = "idx_user_books_user_status_completed", columnList = "user_id, status, completed_at"),
+                @Index(name = "idx_user_books_user_status_updated", columnList = "user_id, status, updated_at")
+        })
 @Getter
 @Builder
 @NoArgsConstructor
@@ -0,0 +1,59 @@
+package com.example.booklog.domain.userbook.entity;
+
+import com.example.booklog.domain.book.entity.Book;
+import com.example.booklog.domain.user.entity.User;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 오래된 완독 기록 보관 테이블
+ * UserBookArchiver가 user_books에서 옮겨 오며, ID는 원래 user_books.id를 유지
+ */
+@Entity
+@Table(name = "user_books_archive",
+        uniqueConstraints = @UniqueConstraint(name = "unique_user_book_archive", columnNames = {"user_id", "book_id"}),
+        indexes = @Index(name = "idx_user_books_archive_user_completed", columnList = "user_id, completed_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserBookArchive {
+
+    @Id
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "book_id", nullable = false)
+    private Book book;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private UserBook.ReadingStatus status;
+
+    @Column(name = "current_page")
+    private Integer currentPage;
+
+    @Column(columnDefinition = "TEXT")
+    private String memo;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
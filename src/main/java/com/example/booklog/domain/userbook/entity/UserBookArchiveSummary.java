@@ -0,0 +1,40 @@
+package com.example.booklog.domain.userbook.entity;
+
+import com.example.booklog.domain.book.entity.Book;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 보관된 완독 기록 합계
+ * 통계가 보관 테이블을 훑지 않도록 보관 시점에 누적
+ */
+@Entity
+@Table(name = "user_book_archive_summaries")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserBookArchiveSummary {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "archived_books", nullable = false)
+    private Long archivedBooks;
+
+    @Column(name = "archived_pages", nullable = false)
+    private Long archivedPages;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "last_completed_book_id")
+    private Book lastCompletedBook;
+
+    @Column(name = "last_completed_at")
+    private LocalDateTime lastCompletedAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,7 @@
+package com.example.booklog.domain.userbook.event;
+
+/**
+ * 사용자가 서재에 책을 추가함 (인기 도서 집계용)
+ */
+public record UserBookAddedEvent(Long userId, Long bookId) {
+}
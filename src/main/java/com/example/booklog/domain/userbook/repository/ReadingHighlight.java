@@ -0,0 +1,33 @@
+package com.example.booklog.domain.userbook.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 통계 화면의 최근 완독/현재 읽는 중/보관 합계 한 줄
+ */
+public interface ReadingHighlight {
+
+    String LAST_COMPLETED = "LAST_COMPLETED";
+    String CURRENTLY_READING = "CURRENTLY_READING";
+    String ARCHIVE = "ARCHIVE";
+
+    String getKind();
+
+    Long getBookId();
+
+    String getGoogleBooksId();
+
+    String getTitle();
+
+    String getAuthors();
+
+    String getThumbnailUrl();
+
+    Integer getPageCount();
+
+    LocalDateTime getEventAt();
+
+    Long getArchivedBooks();
+
+    Long getArchivedPages();
+}
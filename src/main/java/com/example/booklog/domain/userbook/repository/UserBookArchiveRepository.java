@@ -0,0 +1,35 @@
+package com.example.booklog.domain.userbook.repository;
+
+import com.example.booklog.domain.userbook.entity.UserBookArchive;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface UserBookArchiveRepository extends JpaRepository<UserBookArchive, Long> {
+
+    Page<UserBookArchive> findByUserId(Long userId, Pageable pageable);
+
+    boolean existsByUserIdAndBookId(Long userId, Long bookId);
+
+    // 보관 기록 복원용 (동시 복원이 같은 행을 두 번 옮기지 않도록 행 잠금)
+    @Query(value = "SELECT * FROM user_books_archive WHERE id = :id FOR UPDATE", nativeQuery = true)
+    Optional<UserBookArchive> findByIdForUpdate(Long id);
+
+    // 복원 후 보관 합계의 마지막 완독 기록 재계산용 (user_id, completed_at 인덱스 사용)
+    Optional<UserBookArchive> findFirstByUserIdAndIdNotOrderByCompletedAtDesc(Long userId, Long id);
+
+    // 보관 기록을 같은 ID로 user_books에 다시 복사
+    @Modifying
+    @Query(value = "INSERT INTO user_books (id, user_id, book_id, status, current_page, memo, " +
+                   "started_at, completed_at, created_at, updated_at) " +
+                   "SELECT id, user_id, book_id, status, current_page, memo, " +
+                   "started_at, completed_at, created_at, updated_at FROM user_books_archive WHERE id = :id",
+           nativeQuery = true)
+    int copyToUserBooks(Long id);
+}
@@ -0,0 +1,22 @@
+package com.example.booklog.domain.userbook.repository;
+
+import com.example.booklog.domain.book.entity.Book;
+import com.example.booklog.domain.userbook.entity.UserBookArchiveSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface UserBookArchiveSummaryRepository extends JpaRepository<UserBookArchiveSummary, Long> {
+
+    // 보관 기록 하나를 복원할 때 합계에서 차감하고 마지막 완독 기록을 남은 보관 기록 기준으로 교체
+    @Modifying
+    @Query("UPDATE UserBookArchiveSummary s SET s.archivedBooks = s.archivedBooks - 1, " +
+           "s.archivedPages = s.archivedPages - :pages, s.lastCompletedBook = :lastCompletedBook, " +
+           "s.lastCompletedAt = :lastCompletedAt, s.updatedAt = :now WHERE s.userId = :userId")
+    int subtractRestored(Long userId, long pages, Book lastCompletedBook, LocalDateTime lastCompletedAt,
+                         LocalDateTime now);
+}
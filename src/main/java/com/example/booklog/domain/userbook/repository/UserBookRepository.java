@@ -5,14 +5,17 @@ import com.example.booklog.domain.userbook.entity.UserBook.ReadingStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface UserBookRepository extends JpaRepository<UserBook, Long> {
+public interface UserBookRepository extends JpaRepository<UserBook, Long>, UserBookRepositoryCustom {
     
     Optional<UserBook> findByUserIdAndBookId(Long userId, Long bookId);
     
@@ -24,19 +27,62 @@ public interface UserBookRepository extends JpaRepository<UserBook, Long> {
     
     boolean existsByUserIdAndBookId(Long userId, Long bookId);
     
-    // 통계용 쿼리들
-    @Query("SELECT COUNT(ub) FROM UserBook ub WHERE ub.user.id = :userId")
-    Long countByUserId(Long userId);
+    // 통계용: 상태별 권수, 페이지 합계, 진행률 합계를 한 번에 집계 (진행률은 UserStats.progressPoints와 같은 식)
+    @Query("SELECT ub.status AS status, COUNT(ub) AS bookCount, SUM(ub.currentPage) AS pageSum, " +
+           "SUM(CASE WHEN b.pageCount > 0 THEN FLOOR(ub.currentPage * 10000.0 / b.pageCount) END) AS progressPoints, " +
+           "COUNT(CASE WHEN b.pageCount > 0 THEN ub.currentPage END) AS progressBooks " +
+           "FROM UserBook ub JOIN ub.book b WHERE ub.user.id = :userId GROUP BY ub.status")
+    List<UserBookStatusAggregate> aggregateByStatus(Long userId);
     
-    @Query("SELECT COUNT(ub) FROM UserBook ub WHERE ub.user.id = :userId AND ub.status = :status")
-    Long countByUserIdAndStatus(Long userId, ReadingStatus status);
+    // 통계용: 최근 완독한 책, 현재 읽는 중인 책, 보관 합계를 한 번에 조회 (각각 최대 1행)
+    @Query(value = "(SELECT 'LAST_COMPLETED' AS kind, b.id AS bookId, b.google_books_id AS googleBooksId, " +
+                   "b.title AS title, b.authors AS authors, b.thumbnail_url AS thumbnailUrl, " +
+                   "b.page_count AS pageCount, ub.completed_at AS eventAt, " +
+                   "0 AS archivedBooks, 0 AS archivedPages " +
+                   "FROM user_books ub JOIN books b ON b.id = ub.book_id " +
+                   "WHERE ub.user_id = :userId AND ub.status = 'COMPLETED' " +
+                   "ORDER BY ub.completed_at DESC LIMIT 1) " +
+                   "UNION ALL " +
+                   "(SELECT 'CURRENTLY_READING', b.id, b.google_books_id, b.title, b.authors, " +
+                   "b.thumbnail_url, b.page_count, ub.updated_at, 0, 0 " +
+                   "FROM user_books ub JOIN books b ON b.id = ub.book_id " +
+                   "WHERE ub.user_id = :userId AND ub.status = 'READING' " +
+                   "ORDER BY ub.updated_at DESC LIMIT 1) " +
+                   "UNION ALL " +
+                   "(SELECT 'ARCHIVE', b.id, b.google_books_id, b.title, b.authors, " +
+                   "b.thumbnail_url, b.page_count, s.last_completed_at, s.archived_books, s.archived_pages " +
+                   "FROM user_book_archive_summaries s LEFT JOIN books b ON b.id = s.last_completed_book_id " +
+                   "WHERE s.user_id = :userId)",
+           nativeQuery = true)
+    List<ReadingHighlight> findReadingHighlights(Long userId);
     
-    @Query("SELECT SUM(ub.currentPage) FROM UserBook ub WHERE ub.user.id = :userId AND ub.status = 'COMPLETED'")
-    Long sumCompletedPagesByUserId(Long userId);
+    @Query("SELECT ub.book.id FROM UserBook ub WHERE ub.id = :userBookId")
+    Long findBookIdById(Long userBookId);
     
-    // 최근 완독한 책 조회 (완독일 기준 내림차순)
-    List<UserBook> findByUserIdAndStatusOrderByCompletedAtDesc(Long userId, ReadingStatus status);
+    // 기간 내 완독 수 (user_id, status, completed_at 인덱스 범위)
+    long countByUserIdAndStatusAndCompletedAtGreaterThanEqual(Long userId, ReadingStatus status, LocalDateTime from);
     
-    // 현재 읽는 중인 책 조회 (업데이트일 기준 내림차순)  
-    List<UserBook> findByUserIdAndStatusOrderByUpdatedAtDesc(Long userId, ReadingStatus status);
-} 
\ No newline at end of file
+    // 일괄 상태 변경 (본인 소유 기록만)
+    @Modifying
+    @Query("UPDATE UserBook ub SET ub.status = :status, ub.updatedAt = :now " +
+           "WHERE ub.user.id = :userId AND ub.id IN :userBookIds")
+    int bulkUpdateStatus(Long userId, Collection<Long> userBookIds, ReadingStatus status, LocalDateTime now);
+    
+    // 일괄 READING 전환 시 시작일이 없는 기록만 시작일 설정
+    @Modifying
+    @Query("UPDATE UserBook ub SET ub.startedAt = :now " +
+           "WHERE ub.user.id = :userId AND ub.id IN :userBookIds AND ub.startedAt IS NULL")
+    int bulkMarkStarted(Long userId, Collection<Long> userBookIds, LocalDateTime now);
+    
+    // 일괄 COMPLETED 전환 시 완독일 설정 및 현재 페이지를 전체 페이지로 설정
+    @Modifying
+    @Query("UPDATE UserBook ub SET ub.completedAt = :now, " +
+           "ub.currentPage = COALESCE((SELECT b.pageCount FROM Book b WHERE b.id = ub.book.id), ub.currentPage) " +
+           "WHERE ub.user.id = :userId AND ub.id IN :userBookIds")
+    int bulkMarkCompleted(Long userId, Collection<Long> userBookIds, LocalDateTime now);
+    
+    // 일괄 삭제 (본인 소유 기록만)
+    @Modifying
+    @Query("DELETE FROM UserBook ub WHERE ub.user.id = :userId AND ub.id IN :userBookIds")
+    int bulkDelete(Long userId, Collection<Long> userBookIds);
+}
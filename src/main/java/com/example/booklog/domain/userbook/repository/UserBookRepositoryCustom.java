@@ -0,0 +1,21 @@
+package com.example.booklog.domain.userbook.repository;
+
+import com.example.booklog.domain.userbook.entity.UserBook.ReadingStatus;
+
+import java.time.LocalDateTime;
+
+public interface UserBookRepositoryCustom {
+
+    /**
+     * 현재 페이지를 조건부 UPDATE 한 번으로 반영 (완독 전이고 마지막 페이지를 넘지 않는 경우만)
+     * 마지막 페이지에 도달하면 같은 구문에서 상태와 완독일까지 함께 설정
+     * 반영되지 않았으면(존재하지 않음, 권한 없음, 이미 완독, 페이지 초과) null 반환
+     */
+    ProgressUpdate updateProgress(Long userId, Long userBookId, int currentPage, LocalDateTime now);
+
+    /**
+     * 반영 전 페이지/상태, 책의 전체 페이지와 완독 여부 (통계 증감과 진행 이력 기록용)
+     */
+    record ProgressUpdate(int previousPage, ReadingStatus previousStatus, Integer pageCount, boolean completed) {
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.booklog.domain.userbook.repository;
+
+import com.example.booklog.domain.userbook.entity.UserBook.ReadingStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+@RequiredArgsConstructor
+public class UserBookRepositoryCustomImpl implements UserBookRepositoryCustom {
+
+    // MySQL: 책의 전체 페이지와 조인한 UPDATE 한 번으로 반영하고, 반영 전 값은 같은 구문에서 세션 변수에 보관
+    // (다중 테이블 UPDATE는 대입 순서가 보장되지 않으므로 각 값은 자기 컬럼의 대입식 안에서만 보관)
+    private static final String UPDATE_PROGRESS_MYSQL =
+            "UPDATE user_books ub JOIN books b ON b.id = ub.book_id " +
+            "SET ub.status = CASE WHEN (@booklog_prev_status := ub.status) IS NOT NULL " +
+            "AND (@booklog_page_count := b.page_count) = ? THEN 'COMPLETED' ELSE ub.status END, " +
+            "ub.completed_at = CASE WHEN b.page_count = ? THEN ? ELSE ub.completed_at END, " +
+            "ub.current_page = CASE WHEN (@booklog_prev_page := COALESCE(ub.current_page, 0)) IS NOT NULL " +
+            "THEN ? END, " +
+            "ub.updated_at = ? " +
+            "WHERE ub.id = ? AND ub.user_id = ? AND ub.status <> 'COMPLETED' " +
+            "AND (b.page_count IS NULL OR b.page_count >= ?)";
+
+    private static final String SELECT_PROGRESS_VARIABLES =
+            "SELECT @booklog_prev_page, @booklog_prev_status, @booklog_page_count";
+
+    // 그 외(H2 MySQL 모드 등): 행 잠금 후 계산한 값으로 UPDATE
+    private static final String SELECT_PROGRESS_FOR_UPDATE =
+            "SELECT COALESCE(ub.current_page, 0) AS current_page, ub.status, b.page_count " +
+            "FROM user_books ub JOIN books b ON b.id = ub.book_id " +
+            "WHERE ub.id = ? AND ub.user_id = ? FOR UPDATE";
+
+    private static final String UPDATE_PROGRESS_GENERIC =
+            "UPDATE user_books SET current_page = ?, status = ?, completed_at = COALESCE(?, completed_at), " +
+            "updated_at = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Boolean mysql;
+
+    @Override
+    @Transactional
+    public ProgressUpdate updateProgress(Long userId, Long userBookId, int currentPage, LocalDateTime now) {
+        return isMySql()
+                ? updateProgressMySql(userId, userBookId, currentPage, now)
+                : updateProgressGeneric(userId, userBookId, currentPage, now);
+    }
+
+    private ProgressUpdate updateProgressMySql(Long userId, Long userBookId, int currentPage, LocalDateTime now) {
+        int updated = jdbcTemplate.update(UPDATE_PROGRESS_MYSQL,
+                currentPage, currentPage, now, currentPage, now, userBookId, userId, currentPage);
+        if (updated != 1) {
+            // 변수는 일치하는 행이 있을 때만 대입되므로 이전 구문의 값이 남아 있을 수 있음
+            return null;
+        }
+
+        // 테이블이 아닌 같은 커넥션의 세션 변수만 읽음
+        return jdbcTemplate.queryForObject(SELECT_PROGRESS_VARIABLES, (rs, rowNum) -> {
+            int pageCount = rs.getInt(3);
+            Integer knownPageCount = rs.wasNull() ? null : pageCount;
+            return new ProgressUpdate(rs.getInt(1), ReadingStatus.valueOf(rs.getString(2)), knownPageCount,
+                    Objects.equals(knownPageCount, currentPage));
+        });
+    }
+
+    private ProgressUpdate updateProgressGeneric(Long userId, Long userBookId, int currentPage, LocalDateTime now) {
+        List<ProgressUpdate> rows = jdbcTemplate.query(SELECT_PROGRESS_FOR_UPDATE, (rs, rowNum) -> {
+            ReadingStatus status = ReadingStatus.valueOf(rs.getString("status"));
+            Integer pageCount = rs.getObject("page_count", Integer.class);
+            if (status == ReadingStatus.COMPLETED || (pageCount != null && pageCount < currentPage)) {
+                return null;
+            }
+            return new ProgressUpdate(rs.getInt("current_page"), status, pageCount,
+                    Objects.equals(pageCount, currentPage));
+        }, userBookId, userId);
+        if (rows.isEmpty() || rows.get(0) == null) {
+            return null;
+        }
+
+        ProgressUpdate update = rows.get(0);
+        jdbcTemplate.update(UPDATE_PROGRESS_GENERIC, currentPage,
+                (update.completed() ? ReadingStatus.COMPLETED : update.previousStatus()).name(),
+                update.completed() ? now : null, now, userBookId);
+        return update;
+    }
+
+    private boolean isMySql() {
+        if (mysql == null) {
+            String productName = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            mysql = productName != null && productName.toLowerCase().contains("mysql");
+        }
+        return mysql;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.booklog.domain.userbook.repository;
+
+import com.example.booklog.domain.userbook.entity.UserBook;
+
+/**
+ * 상태별 독서 기록 집계 결과
+ */
+public interface UserBookStatusAggregate {
+
+    UserBook.ReadingStatus getStatus();
+
+    Long getBookCount();
+
+    Long getPageSum();
+
+    // 전체 페이지가 있는 책들의 진행률 합계 (0.01% 단위, 책마다 소수점 이하 버림)
+    Long getProgressPoints();
+
+    // 진행률 합계에 포함된 책 수
+    Long getProgressBooks();
+}
@@ -0,0 +1,40 @@
+package com.example.booklog.domain.userbook.service;
+
+import com.example.booklog.domain.userbook.dto.ReadingProgressResponse;
+import com.example.booklog.domain.userbook.entity.UserBook;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+/**
+ * 현재 페이지 동기화 진입점
+ * 쓰기 지연 버퍼가 켜져 있으면 트랜잭션 없이 버퍼에 기록하고, 그 외에는 UserBookService의 동기 경로 사용
+ */
+@Service
+@RequiredArgsConstructor
+public class ReadingProgressService {
+
+    private final UserBookService userBookService;
+    private final ObjectProvider<ReadingProgressWriteBuffer> readingProgressWriteBuffer;
+
+    /**
+     * 현재 페이지 업데이트
+     */
+    public ReadingProgressResponse updateReadingProgress(Long userId, Long userBookId, Integer currentPage) {
+        ReadingProgressWriteBuffer buffer = readingProgressWriteBuffer.getIfAvailable();
+        if (buffer == null) {
+            return userBookService.updateReadingProgress(userId, userBookId, currentPage);
+        }
+
+        if (currentPage != null && currentPage >= 0 && buffer.offer(userId, userBookId, currentPage)) {
+            return ReadingProgressResponse.inProgress(userBookId, currentPage);
+        }
+
+        // 처음 보는 기록이거나 완독에 도달하는 경우: 엔티티 경로로 검증 후 이후 요청부터 버퍼링
+        UserBook userBook = userBookService.updateUserBook(userId, userBookId, null, currentPage, null);
+        if (userBook.getStatus() != UserBook.ReadingStatus.COMPLETED) {
+            buffer.track(userId, userBookId, userBook.getBook().getPageCount());
+        }
+        return ReadingProgressResponse.from(userBook);
+    }
+}
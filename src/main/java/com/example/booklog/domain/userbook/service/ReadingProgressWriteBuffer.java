@@ -0,0 +1,289 @@
+package com.example.booklog.domain.userbook.service;
+
+import com.example.booklog.common.datasource.ShardContext;
+import com.example.booklog.common.datasource.ShardDataSources;
+import com.example.booklog.domain.stats.entity.UserStats;
+import com.example.booklog.domain.stats.event.UserLibraryChangedEvent;
+import com.example.booklog.domain.stats.service.ReadingHistoryService;
+import com.example.booklog.domain.userbook.entity.UserBook;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 현재 페이지 쓰기 지연 버퍼
+ * 독서 기록별 마지막 페이지만 메모리에 보관하고 주기적으로 JDBC 배치로 반영 (유실 범위는 최대 flush 주기)
+ * 한 번 동기 경로로 소유자와 전체 페이지가 확인된 기록만 버퍼링하며, 완독 등 상태 변경은 항상 동기 처리
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "booklog.progress.write-behind.enabled", havingValue = "true")
+public class ReadingProgressWriteBuffer {
+
+    // 버퍼링 이후 동기 경로로 갱신된 기록(updated_at이 더 최근)은 덮어쓰지 않음
+    private static final String FLUSH_PROGRESS =
+            "UPDATE user_books SET current_page = ?, updated_at = ? " +
+            "WHERE id = ? AND user_id = ? AND status <> 'COMPLETED' AND updated_at <= ?";
+
+    // user_stats의 현재 읽는 책 갱신 (UserStatsRepository.markCurrentlyReadingByUserBook과 같은 조건)
+    private static final String FLUSH_CURRENTLY_READING =
+            "UPDATE user_stats SET currently_reading_book_id = " +
+            "(SELECT ub.book_id FROM user_books ub WHERE ub.id = ?), version = version + 1, updated_at = ? " +
+            "WHERE user_id = ? AND EXISTS (SELECT 1 FROM user_books ub WHERE ub.id = ? AND ub.user_id = ? " +
+            "AND ub.status = 'READING' " +
+            "AND (currently_reading_book_id IS NULL OR currently_reading_book_id <> ub.book_id))";
+
+    // user_stats의 진행률 합계 증감 (UserStatsRepository.applyProgressDelta와 같은 갱신)
+    private static final String FLUSH_PROGRESS_DELTA =
+            "UPDATE user_stats SET reading_progress_points = reading_progress_points + ?, " +
+            "reading_progress_books = reading_progress_books + ?, version = version + 1, updated_at = ? " +
+            "WHERE user_id = ?";
+
+    // 진행 이력과 진행률 증감의 기준이 되는 이전 값 (FLUSH_PROGRESS와 같은 조건, 동기 경로와 겹치지 않도록 행 잠금)
+    private static final String SELECT_PREVIOUS_PAGES =
+            "SELECT id, user_id, status, current_page, updated_at FROM user_books " +
+            "WHERE id IN (%s) AND status <> 'COMPLETED' FOR UPDATE";
+
+    private final Map<Long, Target> targets = new ConcurrentHashMap<>();
+    private final Map<Long, PendingProgress> pending = new ConcurrentHashMap<>();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectProvider<ShardDataSources> shardDataSources;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReadingHistoryService readingHistoryService;
+
+    @Value("${booklog.progress.write-behind.max-pending:100000}")
+    private int maxPending;
+
+    @Value("${booklog.progress.write-behind.max-tracked:200000}")
+    private int maxTracked;
+
+    @Value("${booklog.progress.write-behind.batch-size:500}")
+    private int batchSize;
+
+    public ReadingProgressWriteBuffer(JdbcTemplate jdbcTemplate,
+                                      PlatformTransactionManager transactionManager,
+                                      ObjectProvider<ShardDataSources> shardDataSources,
+                                      MeterRegistry meterRegistry,
+                                      ApplicationEventPublisher eventPublisher,
+                                      ReadingHistoryService readingHistoryService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.shardDataSources = shardDataSources;
+        this.eventPublisher = eventPublisher;
+        this.readingHistoryService = readingHistoryService;
+        Gauge.builder("booklog.progress.buffer.pending", pending, Map::size)
+                .description("반영 대기 중인 현재 페이지 업데이트 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 버퍼에 현재 페이지 기록
+     * 추적 중이 아니거나 마지막 페이지에 도달하는 등 동기 처리가 필요하면 false
+     */
+    public boolean offer(Long userId, Long userBookId, Integer currentPage) {
+        Target target = targets.get(userBookId);
+        if (target == null || !target.userId().equals(userId)) {
+            return false;
+        }
+        if (target.pageCount() != null && currentPage >= target.pageCount()) {
+            return false;
+        }
+        if (pending.size() >= maxPending && !pending.containsKey(userBookId)) {
+            return false;
+        }
+        pending.put(userBookId, new PendingProgress(userId, currentPage, target.pageCount(), LocalDateTime.now()));
+        return true;
+    }
+
+    /**
+     * 동기 경로에서 확인된 기록을 버퍼링 대상으로 등록
+     */
+    public void track(Long userId, Long userBookId, Integer pageCount) {
+        if (targets.size() >= maxTracked) {
+            targets.clear();
+        }
+        targets.put(userBookId, new Target(userId, pageCount));
+    }
+
+    /**
+     * 동기 경로에서 기록이 변경되면 대기 중인 값과 추적 정보를 버림
+     */
+    public void forget(Long userBookId) {
+        targets.remove(userBookId);
+        pending.remove(userBookId);
+    }
+
+    @Scheduled(fixedDelayString = "${booklog.progress.write-behind.flush-interval-ms:3000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        // 샤드별로 모아서 반영 (샤딩을 쓰지 않으면 모두 홈 샤드)
+        ShardDataSources shards = shardDataSources.getIfAvailable();
+        Map<Integer, List<Map.Entry<Long, PendingProgress>>> byShard = new TreeMap<>();
+        for (Map.Entry<Long, PendingProgress> entry : pending.entrySet()) {
+            // 꺼내는 사이 더 새로운 값이 들어왔다면 다음 주기에 반영
+            if (pending.remove(entry.getKey(), entry.getValue())) {
+                int shard = shards != null ? shards.shardFor(entry.getValue().userId()) : ShardContext.HOME_SHARD;
+                byShard.computeIfAbsent(shard, key -> new ArrayList<>()).add(entry);
+            }
+        }
+
+        byShard.forEach((shard, entries) -> {
+            for (int from = 0; from < entries.size(); from += batchSize) {
+                List<Map.Entry<Long, PendingProgress>> chunk =
+                        entries.subList(from, Math.min(from + batchSize, entries.size()));
+                try {
+                    ShardContext.callOn(shard, () -> transactionTemplate.execute(status -> {
+                        Map<Long, StoredProgress> stored = lockStored(chunk);
+                        jdbcTemplate.batchUpdate(FLUSH_PROGRESS, toArgs(chunk));
+                        jdbcTemplate.batchUpdate(FLUSH_CURRENTLY_READING, toStatsArgs(chunk));
+                        List<Object[]> progressDeltas = toProgressDeltaArgs(chunk, stored);
+                        if (!progressDeltas.isEmpty()) {
+                            jdbcTemplate.batchUpdate(FLUSH_PROGRESS_DELTA, progressDeltas);
+                        }
+                        readingHistoryService.recordAll(toHistory(chunk, stored));
+                        // 트랜잭션 안에서 발행하여 버전 카운터가 같은 샤드에 함께 커밋되도록 함 (캐시 무효화는 커밋 후)
+                        chunk.stream()
+                                .map(entry -> entry.getValue().userId())
+                                .distinct()
+                                .forEach(userId -> eventPublisher.publishEvent(new UserLibraryChangedEvent(userId)));
+                        return null;
+                    }));
+                } catch (RuntimeException e) {
+                    log.warn("현재 페이지 {}건 반영에 실패하여 다음 주기에 다시 시도합니다.", chunk.size(), e);
+                    chunk.forEach(entry -> pending.putIfAbsent(entry.getKey(), entry.getValue()));
+                }
+            }
+        });
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        if (!pending.isEmpty()) {
+            log.warn("종료 시 현재 페이지 {}건을 반영하지 못했습니다.", pending.size());
+        }
+    }
+
+    private List<Object[]> toArgs(List<Map.Entry<Long, PendingProgress>> entries) {
+        List<Object[]> args = new ArrayList<>(entries.size());
+        for (Map.Entry<Long, PendingProgress> entry : entries) {
+            PendingProgress progress = entry.getValue();
+            args.add(new Object[]{progress.currentPage(), progress.bufferedAt(),
+                    entry.getKey(), progress.userId(), progress.bufferedAt()});
+        }
+        return args;
+    }
+
+    /**
+     * 반영될 기록의 이전 상태와 페이지 잠금 조회
+     */
+    private Map<Long, StoredProgress> lockStored(List<Map.Entry<Long, PendingProgress>> entries) {
+        String sql = String.format(SELECT_PREVIOUS_PAGES, String.join(",", Collections.nCopies(entries.size(), "?")));
+        Map<Long, StoredProgress> stored = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            Timestamp updatedAt = rs.getTimestamp("updated_at");
+            stored.put(rs.getLong("id"), new StoredProgress(rs.getLong("user_id"),
+                    UserBook.ReadingStatus.valueOf(rs.getString("status")), rs.getInt("current_page"),
+                    updatedAt != null ? updatedAt.toLocalDateTime() : null));
+        }, entries.stream().map(Map.Entry::getKey).toArray());
+        return stored;
+    }
+
+    /**
+     * FLUSH_PROGRESS로 실제 반영되는 기록만 진행 이력으로 변환
+     */
+    private List<ReadingHistoryService.ProgressChange> toHistory(List<Map.Entry<Long, PendingProgress>> entries,
+                                                                 Map<Long, StoredProgress> stored) {
+        List<ReadingHistoryService.ProgressChange> changes = new ArrayList<>(entries.size());
+        for (Map.Entry<Long, PendingProgress> entry : entries) {
+            PendingProgress progress = entry.getValue();
+            StoredProgress previous = stored.get(entry.getKey());
+            if (!isApplied(progress, previous)) {
+                continue;
+            }
+            changes.add(new ReadingHistoryService.ProgressChange(progress.userId(), entry.getKey(),
+                    previous.currentPage(), progress.currentPage(), progress.bufferedAt()));
+        }
+        return changes;
+    }
+
+    /**
+     * 실제 반영되는 기록의 진행률 증감을 사용자별로 합산
+     */
+    private List<Object[]> toProgressDeltaArgs(List<Map.Entry<Long, PendingProgress>> entries,
+                                               Map<Long, StoredProgress> stored) {
+        Map<Long, long[]> deltas = new TreeMap<>();
+        for (Map.Entry<Long, PendingProgress> entry : entries) {
+            PendingProgress progress = entry.getValue();
+            StoredProgress previous = stored.get(entry.getKey());
+            if (!isApplied(progress, previous)) {
+                continue;
+            }
+            long[] delta = deltas.computeIfAbsent(progress.userId(), key -> new long[2]);
+            delta[0] += UserStats.progressPoints(previous.status(), progress.currentPage(), progress.pageCount())
+                    - UserStats.progressPoints(previous.status(), previous.currentPage(), progress.pageCount());
+            delta[1] += UserStats.progressBooks(previous.status(), progress.currentPage(), progress.pageCount())
+                    - UserStats.progressBooks(previous.status(), previous.currentPage(), progress.pageCount());
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((userId, delta) -> {
+            if (delta[0] != 0 || delta[1] != 0) {
+                args.add(new Object[]{delta[0], delta[1], now, userId});
+            }
+        });
+        return args;
+    }
+
+    // FLUSH_PROGRESS와 같은 조건 (소유자 일치, 버퍼링 이후 동기 경로로 갱신되지 않음)
+    private boolean isApplied(PendingProgress progress, StoredProgress previous) {
+        return previous != null && previous.userId().equals(progress.userId())
+                && previous.updatedAt() != null && !previous.updatedAt().isAfter(progress.bufferedAt());
+    }
+
+    private List<Object[]> toStatsArgs(List<Map.Entry<Long, PendingProgress>> entries) {
+        List<Object[]> args = new ArrayList<>(entries.size());
+        for (Map.Entry<Long, PendingProgress> entry : entries) {
+            PendingProgress progress = entry.getValue();
+            args.add(new Object[]{entry.getKey(), progress.bufferedAt(),
+                    progress.userId(), entry.getKey(), progress.userId()});
+        }
+        return args;
+    }
+
+    private record Target(Long userId, Integer pageCount) {
+    }
+
+    private record StoredProgress(Long userId, UserBook.ReadingStatus status, Integer currentPage,
+                                  LocalDateTime updatedAt) {
+    }
+
+    private record PendingProgress(Long userId, Integer currentPage, Integer pageCount, LocalDateTime bufferedAt) {
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.booklog.domain.userbook.service;
+
+import com.example.booklog.common.datasource.ShardContext;
+import com.example.booklog.common.datasource.ShardDataSources;
+import com.example.booklog.common.web.ContentVersionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 오래된 완독 기록을 user_books_archive로 옮기는 배치
+ * 한 배치(선택 -> 복사 -> 합계 누적 -> 삭제)를 하나의 트랜잭션으로 처리
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "booklog.archive.enabled", havingValue = "true")
+public class UserBookArchiver {
+
+    private static final String SELECT_CANDIDATES =
+            "SELECT id, user_id, book_id, current_page, completed_at FROM user_books " +
+            "WHERE status = 'COMPLETED' AND completed_at < ? ORDER BY id LIMIT ? FOR UPDATE";
+
+    private static final String COPY_TO_ARCHIVE =
+            "INSERT INTO user_books_archive (id, user_id, book_id, status, current_page, memo, " +
+            "started_at, completed_at, created_at, updated_at, archived_at) " +
+            "SELECT id, user_id, book_id, status, current_page, memo, " +
+            "started_at, completed_at, created_at, updated_at, ? FROM user_books WHERE id IN (%s)";
+
+    // last_completed_book_id를 last_completed_at보다 먼저 갱신해야 기존 값과 비교됨
+    private static final String ACCUMULATE_SUMMARY =
+            "INSERT INTO user_book_archive_summaries (user_id, archived_books, archived_pages, " +
+            "last_completed_book_id, last_completed_at, updated_at) VALUES (?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "archived_books = archived_books + VALUES(archived_books), " +
+            "archived_pages = archived_pages + VALUES(archived_pages), " +
+            "last_completed_book_id = CASE WHEN last_completed_at IS NULL " +
+            "OR VALUES(last_completed_at) > last_completed_at " +
+            "THEN VALUES(last_completed_book_id) ELSE last_completed_book_id END, " +
+            "last_completed_at = GREATEST(COALESCE(last_completed_at, VALUES(last_completed_at)), " +
+            "VALUES(last_completed_at)), " +
+            "updated_at = VALUES(updated_at)";
+
+    private static final String DELETE_ARCHIVED = "DELETE FROM user_books WHERE id IN (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectProvider<ShardDataSources> shardDataSources;
+    private final ContentVersionService contentVersionService;
+
+    @Value("${booklog.archive.retention-days:365}")
+    private long retentionDays;
+
+    @Value("${booklog.archive.batch-size:500}")
+    private int batchSize;
+
+    @Value("${booklog.archive.max-batches-per-run:200}")
+    private int maxBatchesPerRun;
+
+    public UserBookArchiver(JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager,
+                            ObjectProvider<ShardDataSources> shardDataSources,
+                            ContentVersionService contentVersionService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.shardDataSources = shardDataSources;
+        this.contentVersionService = contentVersionService;
+    }
+
+    /**
+     * 보관 기간이 지난 완독 기록 이동 (샤딩 환경에서는 샤드마다 실행)
+     */
+    @Scheduled(cron = "${booklog.archive.cron:0 30 4 * * *}")
+    public void archiveCompletedRecords() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        ShardDataSources shards = shardDataSources.getIfAvailable();
+        int shardCount = shards != null ? shards.shardCount() : 1;
+
+        for (int shard = 0; shard < shardCount; shard++) {
+            int archived = ShardContext.callOn(shard, () -> archiveBefore(cutoff));
+            if (archived > 0) {
+                log.info("완독 기록 {}건을 보관했습니다. (샤드 {}, 기준 {})", archived, shard, cutoff);
+            }
+        }
+    }
+
+    /**
+     * cutoff 이전에 완독한 기록을 배치 단위로 이동하고 이동한 건수 반환
+     */
+    public int archiveBefore(LocalDateTime cutoff) {
+        int total = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            Integer moved = transactionTemplate.execute(status -> archiveBatch(cutoff));
+            total += moved;
+            if (moved < batchSize) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    private int archiveBatch(LocalDateTime cutoff) {
+        List<Candidate> candidates = jdbcTemplate.query(SELECT_CANDIDATES,
+                (rs, rowNum) -> new Candidate(
+                        rs.getLong("id"),
+                        rs.getLong("user_id"),
+                        rs.getLong("book_id"),
+                        rs.getInt("current_page"),
+                        rs.getObject("completed_at", LocalDateTime.class)),
+                cutoff, batchSize);
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+
+        List<Object> ids = new ArrayList<>(candidates.size());
+        candidates.forEach(candidate -> ids.add(candidate.id()));
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Object> copyArgs = new ArrayList<>(ids.size() + 1);
+        copyArgs.add(now);
+        copyArgs.addAll(ids);
+        jdbcTemplate.update(String.format(COPY_TO_ARCHIVE, placeholders), copyArgs.toArray());
+
+        Map<Long, Totals> totalsByUser = summarize(candidates);
+        List<Object[]> summaryArgs = new ArrayList<>();
+        for (Totals totals : totalsByUser.values()) {
+            summaryArgs.add(new Object[]{totals.userId, totals.books, totals.pages,
+                    totals.lastCompletedBookId, totals.lastCompletedAt, now});
+        }
+        jdbcTemplate.batchUpdate(ACCUMULATE_SUMMARY, summaryArgs);
+        // 서재 목록과 보관함이 바뀌므로 조건부 GET 버전도 증가
+        contentVersionService.bumpUsers(totalsByUser.keySet());
+
+        jdbcTemplate.update(String.format(DELETE_ARCHIVED, placeholders), ids.toArray());
+        return candidates.size();
+    }
+
+    private Map<Long, Totals> summarize(List<Candidate> candidates) {
+        Map<Long, Totals> totalsByUser = new LinkedHashMap<>();
+        for (Candidate candidate : candidates) {
+            Totals totals = totalsByUser.computeIfAbsent(candidate.userId(), Totals::new);
+            totals.books++;
+            totals.pages += candidate.currentPage();
+            if (totals.lastCompletedAt == null || candidate.completedAt().isAfter(totals.lastCompletedAt)) {
+                totals.lastCompletedAt = candidate.completedAt();
+                totals.lastCompletedBookId = candidate.bookId();
+            }
+        }
+        return totalsByUser;
+    }
+
+    private record Candidate(Long id, Long userId, Long bookId, int currentPage, LocalDateTime completedAt) {
+    }
+
+    private static class Totals {
+        private final Long userId;
+        private long books;
+        private long pages;
+        private Long lastCompletedBookId;
+        private LocalDateTime lastCompletedAt;
+
+        private Totals(Long userId) {
+            this.userId = userId;
+        }
+    }
+}
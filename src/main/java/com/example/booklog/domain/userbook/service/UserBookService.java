@@ -2,31 +2,56 @@ package com.example.booklog.domain.userbook.service;
 
 import com.example.booklog.domain.book.dto.BookSearchResponse;
 import com.example.booklog.domain.book.entity.Book;
+import com.example.booklog.domain.stats.service.ReadingHistoryService;
+import com.example.booklog.domain.stats.service.UserStatsService;
 import com.example.booklog.domain.user.entity.User;
+import com.example.booklog.domain.userbook.dto.ReadingProgressResponse;
 import com.example.booklog.domain.userbook.entity.UserBook;
+import com.example.booklog.domain.userbook.entity.UserBookArchive;
+import com.example.booklog.domain.userbook.event.UserBookAddedEvent;
 import com.example.booklog.common.exception.CustomException;
 import com.example.booklog.common.exception.ErrorCode;
+import com.example.booklog.domain.userbook.repository.UserBookArchiveRepository;
+import com.example.booklog.domain.userbook.repository.UserBookArchiveSummaryRepository;
 import com.example.booklog.domain.userbook.repository.UserBookRepository;
 import com.example.booklog.domain.book.service.BookService;
 import com.example.booklog.domain.user.service.UserService;
+import com.example.booklog.domain.review.entity.Review;
+import com.example.booklog.domain.review.event.ReviewRatingChangedEvent;
+import com.example.booklog.domain.review.repository.BookRating;
 import com.example.booklog.domain.review.repository.ReviewRepository;
+import com.example.booklog.domain.review.service.BookRatingStatsService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 @Slf4j
 public class UserBookService {
 
+    // 마지막 페이지 도달 시 완독 처리 가능한 이전 상태 (자주 발생하는 순서)
     private final UserBookRepository userBookRepository;
+    private final UserBookArchiveRepository userBookArchiveRepository;
+    private final UserBookArchiveSummaryRepository userBookArchiveSummaryRepository;
     private final BookService bookService;
     private final UserService userService;
     private final ReviewRepository reviewRepository;
+    private final ObjectProvider<ReadingProgressWriteBuffer> readingProgressWriteBuffer;
+    private final UserStatsService userStatsService;
+    private final ReadingHistoryService readingHistoryService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BookRatingStatsService bookRatingStatsService;
 
     /**
      * 사용자의 서재에 책 추가
@@ -35,11 +60,13 @@ public class UserBookService {
     public UserBook addBookToLibrary(Long userId, String googleBooksId, UserBook.ReadingStatus status, 
                                    Integer currentPage, String memo, BookSearchResponse.BookSummary bookSummary) {
         
-        User user = userService.findById(userId);
+        // 사용자 행 확보가 트랜잭션의 첫 조회여야 하므로 책보다 먼저 조회
+        User user = userService.findForWrite(userId);
         Book book = bookService.findOrCreateBook(bookSummary);
 
         // 중복 체크
-        if (userBookRepository.existsByUserIdAndBookId(userId, book.getId())) {
+        if (userBookRepository.existsByUserIdAndBookId(userId, book.getId())
+                || userBookArchiveRepository.existsByUserIdAndBookId(userId, book.getId())) {
             throw new CustomException(ErrorCode.DUPLICATE_USER_BOOK);
         }
 
@@ -55,7 +82,10 @@ public class UserBookService {
         // 상태에 따른 추가 처리
         userBook.updateStatus(status);
 
-        return userBookRepository.save(userBook);
+        UserBook savedUserBook = userBookRepository.save(userBook);
+        userStatsService.onUserBookAdded(savedUserBook);
+        eventPublisher.publishEvent(new UserBookAddedEvent(userId, book.getId()));
+        return savedUserBook;
     }
 
     /**
@@ -68,6 +98,13 @@ public class UserBookService {
         return userBookRepository.findByUserId(userId, pageable);
     }
 
+    /**
+     * 보관된 완독 기록 목록 조회
+     */
+    public Page<UserBookArchive> getArchivedUserBooks(Long userId, Pageable pageable) {
+        return userBookArchiveRepository.findByUserId(userId, pageable);
+    }
+
     /**
      * 독서 상태 업데이트
      */
@@ -75,14 +112,26 @@ public class UserBookService {
     public UserBook updateUserBook(Long userId, Long userBookId, UserBook.ReadingStatus status, 
                                  Integer currentPage, String memo) {
         
-        UserBook userBook = userBookRepository.findById(userBookId)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_BOOK_NOT_FOUND));
+        // 보관된 기록이면 user_books로 복원한 뒤 수정
+        boolean restored = false;
+        UserBook userBook = userBookRepository.findById(userBookId).orElse(null);
+        if (userBook == null) {
+            userBook = restoreFromArchive(userId, userBookId);
+            restored = true;
+        }
 
         // 소유자 확인
         if (!userBook.getUser().getId().equals(userId)) {
             throw new CustomException(ErrorCode.ACCESS_DENIED);
         }
 
+        // 동기 변경이 우선하므로 쓰기 지연 버퍼에 남은 값은 버림
+        forgetBufferedProgress(List.of(userBookId));
+
+        UserBook.ReadingStatus previousStatus = userBook.getStatus();
+        Integer previousPage = userBook.getCurrentPage();
+        LocalDateTime previousCompletedAt = userBook.getCompletedAt();
+
         // 현재 페이지 유효성 검사
         if (currentPage != null) {
             validateCurrentPage(currentPage, userBook.getBook().getPageCount());
@@ -99,16 +148,53 @@ public class UserBookService {
             userBook.updateMemo(memo);
         }
 
+        if (restored) {
+            // 보관 합계에서 빠진 기록이 다시 user_books에 들어왔으므로 증감 대신 다시 계산
+            userStatsService.rebuild(userId);
+        } else {
+            userStatsService.onUserBookChanged(userBook, previousStatus, previousPage, previousCompletedAt);
+        }
+        readingHistoryService.record(userId, userBookId, previousPage, userBook.getCurrentPage(), LocalDateTime.now());
         return userBook;
     }
 
+    /**
+     * 현재 페이지 빠른 업데이트 (사전 조회 없이 조건부 UPDATE 한 번으로 검증과 반영, 완독 처리를 함께 수행)
+     */
+    @Transactional
+    public ReadingProgressResponse updateReadingProgress(Long userId, Long userBookId, Integer currentPage) {
+        validateCurrentPage(currentPage, null);
+        LocalDateTime now = LocalDateTime.now();
+
+        UserBookRepository.ProgressUpdate update =
+                userBookRepository.updateProgress(userId, userBookId, currentPage, now);
+        if (update == null) {
+            // 이미 완독한 책, 존재하지 않는 기록, 권한 없음, 페이지 초과 등은 기존 경로에서 검증 및 처리
+            return ReadingProgressResponse.from(updateUserBook(userId, userBookId, null, currentPage, null));
+        }
+
+        readingHistoryService.record(userId, userBookId, update.previousPage(), currentPage, now);
+        if (update.completed()) {
+            // 마지막 페이지 도달: 같은 UPDATE에서 완독 처리됨
+            userStatsService.onCompletedOnLastPage(
+                    userId, userBookId, update.previousStatus(), update.previousPage(), currentPage, now);
+            return ReadingProgressResponse.completed(userBookId, currentPage, now);
+        }
+
+        // 대부분의 요청: 읽는 도중의 페이지 동기화
+        userStatsService.onProgressUpdated(userId, userBookId, update.previousStatus(),
+                update.previousPage(), currentPage, update.pageCount());
+        return ReadingProgressResponse.inProgress(userBookId, currentPage);
+    }
+
     /**
      * 서재에서 책 제거
      */
     @Transactional
     public void removeBookFromLibrary(Long userId, Long userBookId) {
+        // 보관된 기록이면 user_books로 복원한 뒤 같은 경로로 삭제 (통계는 아래에서 다시 계산)
         UserBook userBook = userBookRepository.findById(userBookId)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_BOOK_NOT_FOUND));
+                .orElseGet(() -> restoreFromArchive(userId, userBookId));
 
         // 소유자 확인
         if (!userBook.getUser().getId().equals(userId)) {
@@ -116,17 +202,65 @@ public class UserBookService {
         }
 
         // 연관된 리뷰가 있는지 확인하고 삭제
-        boolean hasReview = reviewRepository.existsByUserIdAndBookId(userId, userBook.getBook().getId());
-        if (hasReview) {
+        Optional<Review> review = reviewRepository.findByUserIdAndBookId(userId, userBook.getBook().getId());
+        if (review.isPresent()) {
             log.info("사용자 {}의 책 {} 관련 리뷰를 삭제합니다.", userId, userBook.getBook().getId());
             reviewRepository.deleteByUserIdAndBookId(userId, userBook.getBook().getId());
+            bookRatingStatsService.onReviewChanged(userBook.getBook().getId(), review.get().getRating(), null);
+            eventPublisher.publishEvent(new ReviewRatingChangedEvent(
+                    userBook.getBook().getId(), -1, -review.get().getRating()));
         }
 
         // UserBook 삭제
+        forgetBufferedProgress(List.of(userBookId));
         userBookRepository.delete(userBook);
+        userStatsService.rebuild(userId);
         log.info("사용자 {}의 서재에서 책 {}을(를) 제거했습니다.", userId, userBook.getBook().getTitle());
     }
 
+    /**
+     * 독서 상태 일괄 변경 (집합 단위 UPDATE)
+     */
+    @Transactional
+    public int updateStatusInBulk(Long userId, List<Long> userBookIds, UserBook.ReadingStatus status) {
+        LocalDateTime now = LocalDateTime.now();
+
+        forgetBufferedProgress(userBookIds);
+        int updated = userBookRepository.bulkUpdateStatus(userId, userBookIds, status, now);
+
+        // 상태별 부가 처리 (UserBook.updateStatus와 동일한 규칙)
+        if (status == UserBook.ReadingStatus.READING) {
+            userBookRepository.bulkMarkStarted(userId, userBookIds, now);
+        } else if (status == UserBook.ReadingStatus.COMPLETED) {
+            userBookRepository.bulkMarkCompleted(userId, userBookIds, now);
+        }
+
+        userStatsService.rebuild(userId);
+        log.info("사용자 {}의 독서 기록 {}건을 {} 상태로 변경했습니다.", userId, updated, status);
+        return updated;
+    }
+
+    /**
+     * 서재에서 책 일괄 제거 (관련 리뷰 포함, 집합 단위 DELETE)
+     */
+    @Transactional
+    public int removeBooksFromLibraryInBulk(Long userId, List<Long> userBookIds) {
+        forgetBufferedProgress(userBookIds);
+
+        // 리뷰 삭제 조건이 user_books를 참조하므로 리뷰를 먼저 삭제 (책별 평점 집계 차감을 위해 평점을 먼저 조회)
+        List<BookRating> deletedRatings = reviewRepository.findBookRatingsByUserIdAndUserBookIds(userId, userBookIds);
+        int deletedReviews = reviewRepository.deleteByUserIdAndUserBookIds(userId, userBookIds);
+        for (BookRating rating : deletedRatings) {
+            bookRatingStatsService.onReviewChanged(rating.getBookId(), rating.getRating(), null);
+            eventPublisher.publishEvent(new ReviewRatingChangedEvent(rating.getBookId(), -1, -rating.getRating()));
+        }
+        int deleted = userBookRepository.bulkDelete(userId, userBookIds);
+        userStatsService.rebuild(userId);
+
+        log.info("사용자 {}의 서재에서 책 {}권(리뷰 {}건)을 제거했습니다.", userId, deleted, deletedReviews);
+        return deleted;
+    }
+
     /**
      * 사용자의 특정 책 독서 기록 조회
      */
@@ -142,6 +276,41 @@ public class UserBookService {
         return userBook;
     }
 
+    /**
+     * 보관된 완독 기록을 같은 ID로 user_books에 되돌리고 보관 합계에서 차감 (수정/삭제 전 호출)
+     */
+    private UserBook restoreFromArchive(Long userId, Long userBookId) {
+        UserBookArchive archive = userBookArchiveRepository.findByIdForUpdate(userBookId)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_BOOK_NOT_FOUND));
+
+        // 소유자 확인
+        if (!archive.getUser().getId().equals(userId)) {
+            throw new CustomException(ErrorCode.ACCESS_DENIED);
+        }
+
+        userBookArchiveRepository.copyToUserBooks(userBookId);
+
+        Optional<UserBookArchive> latest =
+                userBookArchiveRepository.findFirstByUserIdAndIdNotOrderByCompletedAtDesc(userId, userBookId);
+        userBookArchiveSummaryRepository.subtractRestored(userId,
+                archive.getCurrentPage() != null ? archive.getCurrentPage() : 0,
+                latest.map(UserBookArchive::getBook).orElse(null),
+                latest.map(UserBookArchive::getCompletedAt).orElse(null),
+                LocalDateTime.now());
+        userBookArchiveRepository.delete(archive);
+
+        log.info("사용자 {}의 보관된 독서 기록 {}을(를) 복원했습니다.", userId, userBookId);
+        return userBookRepository.findById(userBookId)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_BOOK_NOT_FOUND));
+    }
+
+    /**
+     * 쓰기 지연 버퍼 사용 시 해당 기록의 대기 중인 페이지 제거
+     */
+    private void forgetBufferedProgress(List<Long> userBookIds) {
+        readingProgressWriteBuffer.ifAvailable(buffer -> userBookIds.forEach(buffer::forget));
+    }
+
     /**
      * 현재 페이지 유효성 검사
      */
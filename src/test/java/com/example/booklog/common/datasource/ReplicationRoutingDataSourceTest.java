@@ -0,0 +1,144 @@
+package com.example.booklog.common.datasource;
+
+import com.example.booklog.domain.user.entity.User;
+import com.example.booklog.domain.user.service.CustomUserDetails;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicationRoutingDataSourceTest {
+
+    private ReplicaLagMonitor replicaLagMonitor;
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = h2("routing_primary", "primary");
+        DataSource replica = h2("routing_replica", "replica");
+
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(60_000);
+        replicaLagMonitor = new ReplicaLagMonitor(Map.of("replica-0", replica), "", 5, tracker);
+
+        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(replicaLagMonitor, tracker);
+        routingDataSource.setTargetDataSources(Map.<Object, Object>of(
+                ReplicationRoutingDataSource.PRIMARY, primary,
+                "replica-0", replica));
+        routingDataSource.setDefaultTargetDataSource(primary);
+        routingDataSource.afterPropertiesSet();
+
+        dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        SecurityContextHolder.clearContext();
+        ReplicaAffinity.end();
+    }
+
+    @Test
+    void writeTransactionGoesToPrimary() throws SQLException {
+        replicaLagMonitor.checkReplicas();
+        beginTransaction(false);
+
+        assertThat(currentNode()).isEqualTo("primary");
+    }
+
+    @Test
+    void readOnlyTransactionGoesToHealthyReplica() throws SQLException {
+        replicaLagMonitor.checkReplicas();
+        beginTransaction(true);
+
+        assertThat(currentNode()).isEqualTo("replica");
+    }
+
+    @Test
+    void readOnlyTransactionFallsBackToPrimaryWithoutHealthyReplica() throws SQLException {
+        beginTransaction(true);
+
+        assertThat(currentNode()).isEqualTo("primary");
+    }
+
+    @Test
+    void readAfterOwnWriteStaysOnPrimary() throws SQLException {
+        replicaLagMonitor.checkReplicas();
+
+        authenticate(1L);
+        beginTransaction(false);
+        assertThat(currentNode()).isEqualTo("primary");
+
+        beginTransaction(true);
+        assertThat(currentNode()).isEqualTo("primary");
+
+        // 다른 사용자의 읽기는 replica로
+        authenticate(2L);
+        assertThat(currentNode()).isEqualTo("replica");
+    }
+
+    @Test
+    void readsInAffinityScopeStayOnFirstSelectedNode() throws SQLException {
+        beginTransaction(true);
+        ReplicaAffinity.begin();
+        try {
+            // 복제본 확인 전이므로 primary가 선택되어 고정됨
+            assertThat(currentNode()).isEqualTo("primary");
+
+            replicaLagMonitor.checkReplicas();
+            assertThat(currentNode()).isEqualTo("primary");
+        } finally {
+            ReplicaAffinity.end();
+        }
+
+        assertThat(currentNode()).isEqualTo("replica");
+    }
+
+    private DataSource h2(String name, String node) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20))");
+        jdbcTemplate.update("DELETE FROM node");
+        jdbcTemplate.update("INSERT INTO node (name) VALUES (?)", node);
+        return dataSource;
+    }
+
+    private void beginTransaction(boolean readOnly) {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+
+    private void authenticate(Long userId) {
+        CustomUserDetails userDetails = new CustomUserDetails(User.builder()
+                .id(userId)
+                .email("user" + userId + "@booklog.com")
+                .username("user" + userId)
+                .password("password")
+                .build());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+    }
+
+    private String currentNode() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT name FROM node")) {
+            rs.next();
+            return rs.getString(1);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.booklog.common.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ShardRoutingDataSourceTest {
+
+    private static final int SHARD_COUNT = 3;
+
+    private ShardDataSources shardDataSources;
+    private JdbcTemplate routedJdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        List<DataSource> shards = IntStream.range(0, SHARD_COUNT)
+                .mapToObj(shard -> h2("shard_" + shard, shard))
+                .toList();
+        shardDataSources = new ShardDataSources(shards, new ShardKeyResolver(SHARD_COUNT));
+
+        Map<Object, Object> targets = new HashMap<>();
+        for (int shard = 0; shard < SHARD_COUNT; shard++) {
+            targets.put(shard, shards.get(shard));
+        }
+        ShardRoutingDataSource routingDataSource = new ShardRoutingDataSource();
+        routingDataSource.setTargetDataSources(targets);
+        routingDataSource.setDefaultTargetDataSource(shards.get(ShardContext.HOME_SHARD));
+        routingDataSource.afterPropertiesSet();
+        routedJdbcTemplate = new JdbcTemplate(routingDataSource);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        ShardContext.clear();
+        shardDataSources.close();
+    }
+
+    @Test
+    void unboundContextGoesToHomeShard() {
+        assertThat(currentShard()).isEqualTo(ShardContext.HOME_SHARD);
+    }
+
+    @Test
+    void boundContextGoesToUserShard() {
+        int shard = shardDataSources.shardFor(42L);
+        ShardContext.bind(shard);
+
+        assertThat(currentShard()).isEqualTo(shard);
+    }
+
+    @Test
+    void callOnRestoresPreviousShard() {
+        ShardContext.bind(1);
+
+        int inner = ShardContext.callOn(2, this::currentShard);
+
+        assertThat(inner).isEqualTo(2);
+        assertThat(currentShard()).isEqualTo(1);
+    }
+
+    @Test
+    void sequentialUserIdsSpreadAcrossShards() {
+        int[] counts = new int[SHARD_COUNT];
+        for (long userId = 1; userId <= 3000; userId++) {
+            counts[shardDataSources.shardFor(userId)]++;
+        }
+
+        for (int count : counts) {
+            assertThat(count).isBetween(900, 1100);
+        }
+        assertThat(shardDataSources.shardFor(7L)).isEqualTo(shardDataSources.shardFor(7L));
+    }
+
+    @Test
+    void scatterQueriesEveryShardInOrder() {
+        List<Integer> shards = shardDataSources.scatter(
+                jdbcTemplate -> jdbcTemplate.queryForObject("SELECT shard FROM node", Integer.class));
+
+        assertThat(shards).containsExactly(0, 1, 2);
+    }
+
+    private int currentShard() {
+        return routedJdbcTemplate.queryForObject("SELECT shard FROM node", Integer.class);
+    }
+
+    private DataSource h2(String name, int shard) {
+        DriverManagerDataSource dataSource =
+                new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS node (shard INT)");
+        jdbcTemplate.execute("DELETE FROM node");
+        jdbcTemplate.update("INSERT INTO node (shard) VALUES (?)", shard);
+        return dataSource;
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.booklog.common.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    private static final int INSERTIONS = 10_000;
+    private static final double FALSE_POSITIVE_RATE = 0.001;
+
+    @Test
+    void insertedValuesAreAlwaysFound() {
+        BloomFilter filter = new BloomFilter(INSERTIONS, FALSE_POSITIVE_RATE);
+        List<String> values = uuids(INSERTIONS);
+        values.forEach(filter::put);
+
+        assertThat(values).allMatch(filter::mightContain);
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTarget() {
+        BloomFilter filter = new BloomFilter(INSERTIONS, FALSE_POSITIVE_RATE);
+        uuids(INSERTIONS).forEach(filter::put);
+
+        long falsePositives = uuids(INSERTIONS).stream().filter(filter::mightContain).count();
+
+        // 목표 오탐률 0.1% (10건) 대비 여유를 둔 상한
+        assertThat(falsePositives).isLessThan(50);
+    }
+
+    @Test
+    void concurrentPutsDoNotLoseBits() throws Exception {
+        BloomFilter filter = new BloomFilter(INSERTIONS, FALSE_POSITIVE_RATE);
+        List<String> values = uuids(INSERTIONS);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                int offset = thread;
+                futures.add(executor.submit(() -> IntStream.range(0, values.size())
+                        .filter(i -> i % 8 == offset)
+                        .forEach(i -> filter.put(values.get(i)))));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(values).allMatch(filter::mightContain);
+    }
+
+    @Test
+    void emptyFilterContainsNothing() {
+        BloomFilter filter = new BloomFilter(INSERTIONS, FALSE_POSITIVE_RATE);
+
+        assertThat(uuids(1000)).noneMatch(filter::mightContain);
+    }
+
+    private List<String> uuids(int count) {
+        return IntStream.range(0, count).mapToObj(i -> UUID.randomUUID().toString()).toList();
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.booklog.domain.auth.service;
+
+import com.example.booklog.common.exception.CustomException;
+import com.example.booklog.common.exception.ErrorCode;
+import com.example.booklog.common.security.LocalLoginAttemptStore;
+import com.example.booklog.common.security.LoginThrottle;
+import com.example.booklog.common.util.JwtUtil;
+import com.example.booklog.domain.auth.dto.LoginRequest;
+import com.example.booklog.domain.user.service.UserService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AuthServiceLoginThrottleTest {
+
+    private static final int MAX_PER_IP = 8;
+    private static final int MAX_PER_EMAIL = 5;
+    private static final int THREADS = 32;
+
+    // 비밀번호 검증(BCrypt)까지 도달한 횟수
+    private final AtomicInteger verifications = new AtomicInteger();
+    private AuthService authService;
+
+    @BeforeEach
+    void setUp() {
+        AuthenticationManager authenticationManager = mock(AuthenticationManager.class);
+        when(authenticationManager.authenticate(any())).thenAnswer(invocation -> {
+            verifications.incrementAndGet();
+            // 검증이 겹치도록 BCrypt 비용만큼 지연
+            Thread.sleep(50);
+            throw new BadCredentialsException("bad credentials");
+        });
+
+        LoginThrottle loginThrottle = new LoginThrottle(
+                new LocalLoginAttemptStore(1000, Duration.ofMinutes(10)), new SimpleMeterRegistry(),
+                true, 60, 10, MAX_PER_IP, MAX_PER_EMAIL);
+        authService = new AuthService(mock(UserService.class), mock(PasswordEncoder.class), mock(JwtUtil.class),
+                authenticationManager, loginThrottle, mock(RefreshTokenService.class));
+    }
+
+    @Test
+    void parallelBadLoginsForOneAccountVerifyAtMostMaxPerEmail() throws Exception {
+        List<ErrorCode> results = loginConcurrently(i -> "10.0.0." + i, i -> "victim@booklog.test");
+
+        assertThat(verifications.get()).isBetween(1, MAX_PER_EMAIL);
+        assertThat(results).filteredOn(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS::equals)
+                .hasSize(THREADS - verifications.get());
+    }
+
+    @Test
+    void parallelBadLoginsFromOneIpVerifyAtMostMaxPerIp() throws Exception {
+        List<ErrorCode> results = loginConcurrently(i -> "10.0.0.1", i -> "user" + i + "@booklog.test");
+
+        assertThat(verifications.get()).isBetween(1, MAX_PER_IP);
+        assertThat(results).filteredOn(ErrorCode.INVALID_LOGIN_CREDENTIALS::equals)
+                .hasSize(verifications.get());
+    }
+
+    @Test
+    void rejectedAttemptsAreNotCountedAsFailures() throws Exception {
+        loginConcurrently(i -> "10.0.0." + i, i -> "victim@booklog.test");
+        int verified = verifications.get();
+
+        // 실패로 남은 것은 검증까지 간 시도뿐이므로 한도에 못 미쳤다면 다음 시도는 검증까지 진행
+        ErrorCode next = login("10.0.1.1", "victim@booklog.test");
+        if (verified < MAX_PER_EMAIL) {
+            assertThat(next).isEqualTo(ErrorCode.INVALID_LOGIN_CREDENTIALS);
+        } else {
+            assertThat(next).isEqualTo(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+        }
+    }
+
+    private List<ErrorCode> loginConcurrently(IntFunction<String> clientIp, IntFunction<String> email)
+            throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<ErrorCode>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return login(clientIp.apply(index), email.apply(index));
+                }));
+            }
+            start.countDown();
+
+            List<ErrorCode> results = new ArrayList<>();
+            for (Future<ErrorCode> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private ErrorCode login(String clientIp, String email) {
+        try {
+            authService.login(new LoginRequest(email, "wrong-password"), clientIp);
+            return null;
+        } catch (CustomException e) {
+            return e.getErrorCode();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.booklog.domain.auth.service;
+
+import com.example.booklog.common.exception.CustomException;
+import com.example.booklog.common.exception.ErrorCode;
+import com.example.booklog.common.security.TokenRevocationList;
+import com.example.booklog.common.util.JwtUtil;
+import com.example.booklog.domain.user.entity.User;
+import com.example.booklog.domain.user.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:booklog_refresh;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class RefreshTokenServiceTest {
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private TokenRevocationList tokenRevocationList;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        String name = UUID.randomUUID().toString().substring(0, 8);
+        user = userService.saveUser(User.builder()
+                .username("reader-" + name)
+                .email(name + "@booklog.test")
+                .password("encoded")
+                .build());
+    }
+
+    @Test
+    void refreshRotatesTokenWithinFamily() {
+        RefreshTokenService.IssuedTokens issued = refreshTokenService.issue(user);
+
+        RefreshTokenService.IssuedTokens rotated = refreshTokenService.refresh(issued.refreshToken());
+
+        assertThat(rotated.refreshToken()).isNotEqualTo(issued.refreshToken());
+        assertThat(rotated.user().getId()).isEqualTo(user.getId());
+        assertThat(tokenRevocationList.isRevoked(tokenId(rotated))).isFalse();
+    }
+
+    @Test
+    void reusedRefreshTokenRevokesWholeFamily() {
+        RefreshTokenService.IssuedTokens issued = refreshTokenService.issue(user);
+        RefreshTokenService.IssuedTokens rotated = refreshTokenService.refresh(issued.refreshToken());
+
+        // 이미 교체된 토큰을 다시 제시 (탈취로 간주)
+        assertThatThrownBy(() -> refreshTokenService.refresh(issued.refreshToken()))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_REFRESH_TOKEN);
+
+        // 폐기 내역은 예외와 함께 커밋되어 정상 사용자 쪽 최신 토큰도 사용할 수 없음
+        assertThatThrownBy(() -> refreshTokenService.refresh(rotated.refreshToken()))
+                .isInstanceOf(CustomException.class);
+        assertThat(tokenRevocationList.isRevoked(tokenId(rotated))).isTrue();
+    }
+
+    @Test
+    void reuseDoesNotAffectOtherFamilies() {
+        RefreshTokenService.IssuedTokens stolen = refreshTokenService.issue(user);
+        RefreshTokenService.IssuedTokens otherDevice = refreshTokenService.issue(user);
+        refreshTokenService.refresh(stolen.refreshToken());
+
+        assertThatThrownBy(() -> refreshTokenService.refresh(stolen.refreshToken()))
+                .isInstanceOf(CustomException.class);
+
+        RefreshTokenService.IssuedTokens rotated = refreshTokenService.refresh(otherDevice.refreshToken());
+        assertThat(tokenRevocationList.isRevoked(tokenId(rotated))).isFalse();
+    }
+
+    @Test
+    void logoutRevokesFamilyAndAccessToken() {
+        RefreshTokenService.IssuedTokens issued = refreshTokenService.issue(user);
+
+        refreshTokenService.logout(issued.refreshToken(), tokenId(issued));
+
+        assertThat(tokenRevocationList.isRevoked(tokenId(issued))).isTrue();
+        assertThatThrownBy(() -> refreshTokenService.refresh(issued.refreshToken()))
+                .isInstanceOf(CustomException.class);
+    }
+
+    private String tokenId(RefreshTokenService.IssuedTokens tokens) {
+        return jwtUtil.parseClaims(tokens.accessToken()).getId();
+    }
+}
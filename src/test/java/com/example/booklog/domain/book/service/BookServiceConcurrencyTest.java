@@ -0,0 +1,76 @@
+package com.example.booklog.domain.book.service;
+
+import com.example.booklog.domain.book.dto.BookSearchResponse;
+import com.example.booklog.domain.book.repository.BookRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:booklog_upsert;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class BookServiceConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int REQUESTS = 400;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Test
+    void concurrentAddsOfSameBookAllSucceedWithSingleRow() throws Exception {
+        BookSearchResponse.BookSummary summary = BookSearchResponse.BookSummary.builder()
+                .googleBooksId("trending-book")
+                .title("Trending Book")
+                .authors(List.of("Author"))
+                .pageCount(320)
+                .build();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Long>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < REQUESTS; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return bookService.findOrCreateBook(summary).getId();
+                }));
+            }
+            start.countDown();
+
+            // 하나라도 실패하면 get()에서 ExecutionException 발생
+            Set<Long> bookIds = new HashSet<>();
+            for (Future<Long> result : results) {
+                bookIds.add(result.get(30, TimeUnit.SECONDS));
+            }
+
+            assertThat(bookIds).hasSize(1);
+            assertThat(bookRepository.findByGoogleBooksId("trending-book"))
+                    .get()
+                    .extracting(book -> book.getId())
+                    .isEqualTo(bookIds.iterator().next());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.booklog.domain.leaderboard.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LeaderboardTest {
+
+    private final Leaderboard leaderboard = new Leaderboard(100);
+
+    @Test
+    void topOrdersByScoreThenId() {
+        leaderboard.set(3, 10);
+        leaderboard.set(1, 20);
+        leaderboard.set(2, 10);
+        leaderboard.set(4, 5);
+
+        assertThat(leaderboard.top(3)).containsExactly(
+                new Leaderboard.Entry(1, 20),
+                new Leaderboard.Entry(2, 10),
+                new Leaderboard.Entry(3, 10));
+    }
+
+    @Test
+    void tiedScoresShareRank() {
+        leaderboard.set(1, 20);
+        leaderboard.set(2, 10);
+        leaderboard.set(3, 10);
+        leaderboard.set(4, 5);
+
+        assertThat(leaderboard.rank(1)).isEqualTo(1);
+        assertThat(leaderboard.rank(2)).isEqualTo(2);
+        assertThat(leaderboard.rank(3)).isEqualTo(2);
+        assertThat(leaderboard.rank(4)).isEqualTo(4);
+        assertThat(leaderboard.rank(99)).isNull();
+    }
+
+    @Test
+    void incrementMovesEntryAndUpdatesRanks() {
+        leaderboard.set(1, 3);
+        leaderboard.set(2, 2);
+
+        leaderboard.increment(2, 2);
+
+        assertThat(leaderboard.score(2)).isEqualTo(4);
+        assertThat(leaderboard.rank(2)).isEqualTo(1);
+        assertThat(leaderboard.rank(1)).isEqualTo(2);
+        assertThat(leaderboard.top(1)).containsExactly(new Leaderboard.Entry(2, 4));
+    }
+
+    @Test
+    void nonPositiveScoreRemovesEntry() {
+        leaderboard.set(1, 3);
+        leaderboard.set(2, 2);
+
+        leaderboard.increment(1, -3);
+
+        assertThat(leaderboard.size()).isEqualTo(1);
+        assertThat(leaderboard.rank(1)).isNull();
+        assertThat(leaderboard.rank(2)).isEqualTo(1);
+    }
+
+    @Test
+    void scoresAboveMaxTieAtMaxForRankOnly() {
+        leaderboard.set(1, 500);
+        leaderboard.set(2, 100);
+        leaderboard.set(3, 99);
+
+        assertThat(leaderboard.top(2)).containsExactly(
+                new Leaderboard.Entry(1, 500),
+                new Leaderboard.Entry(2, 100));
+        assertThat(leaderboard.rank(2)).isEqualTo(1);
+        assertThat(leaderboard.rank(3)).isEqualTo(3);
+    }
+
+    @Test
+    void clearRemovesAllEntries() {
+        leaderboard.set(1, 3);
+        leaderboard.set(2, 2);
+
+        leaderboard.clear();
+
+        assertThat(leaderboard.size()).isZero();
+        assertThat(leaderboard.top(10)).isEmpty();
+        leaderboard.set(3, 1);
+        assertThat(leaderboard.rank(3)).isEqualTo(1);
+    }
+
+    @Test
+    void topNeverMissesEntriesDuringConcurrentUpdates() throws Exception {
+        int members = 50;
+        for (long id = 1; id <= members; id++) {
+            leaderboard.set(id, 1);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int thread = 0; thread < 2; thread++) {
+                writers.add(executor.submit(() -> {
+                    for (int i = 0; i < 20_000; i++) {
+                        leaderboard.set(1 + i % members, 1 + i % 50);
+                    }
+                }));
+            }
+            // 점수 변경(제거 후 추가) 중에도 전체 인원이 그대로 보여야 함
+            for (int i = 0; i < 2_000; i++) {
+                assertThat(leaderboard.top(members)).hasSize(members);
+            }
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.booklog.domain.stats.service;
+
+import com.example.booklog.domain.stats.dto.ReadingActivityResponse;
+import com.example.booklog.domain.stats.entity.ReadingActivityYear;
+import com.example.booklog.domain.stats.repository.ReadingActivityYearRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.BeanUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReadingActivityServiceTest {
+
+    private static final Long USER_ID = 7L;
+
+    private JdbcTemplate jdbcTemplate;
+    private ReadingActivityService readingActivityService;
+    // 연도 -> markActive가 저장한 비트로 만든 행
+    private final Map<Integer, ReadingActivityYear> rows = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        ReadingActivityYearRepository repository = mock(ReadingActivityYearRepository.class);
+        when(repository.findById(any())).thenAnswer(invocation -> {
+            ReadingActivityYear.ActivityYearId id = invocation.getArgument(0);
+            return Optional.ofNullable(rows.get(id.getActivityYear()));
+        });
+        readingActivityService = new ReadingActivityService(jdbcTemplate, repository);
+    }
+
+    @Test
+    void daysArePackedIntoLow63BitsOfEachWord() {
+        List<Object[]> args = mark(
+                LocalDate.of(2024, 1, 1),    // index 0   -> word0 bit 0
+                LocalDate.of(2024, 3, 3),    // index 62  -> word0 bit 62
+                LocalDate.of(2024, 3, 4),    // index 63  -> word1 bit 0
+                LocalDate.of(2024, 12, 31)); // index 365 -> word5 bit 50
+
+        assertThat(args).hasSize(1);
+        Object[] row = args.get(0);
+        assertThat(row[0]).isEqualTo(USER_ID);
+        assertThat(row[1]).isEqualTo(2024);
+        assertThat(row[2]).isEqualTo(1L | 1L << 62);
+        assertThat(row[3]).isEqualTo(1L);
+        assertThat(row[7]).isEqualTo(1L << 50);
+        // 부호 비트는 사용하지 않음
+        for (int word = 2; word < 8; word++) {
+            assertThat((long) row[word]).isNotNegative();
+        }
+    }
+
+    @Test
+    void daysAreGroupedPerYear() {
+        List<Object[]> args = mark(LocalDate.of(2023, 12, 31), LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 1));
+
+        assertThat(args).extracting(row -> row[1]).containsExactly(2023, 2024);
+    }
+
+    @Test
+    void emptyInputSkipsWrite() {
+        readingActivityService.markActive(List.of());
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), any(List.class));
+    }
+
+    @Test
+    void activityReadsBackPackedDaysAndLongestStreak() {
+        load(mark(
+                LocalDate.of(2024, 3, 2), LocalDate.of(2024, 3, 3), LocalDate.of(2024, 3, 4),
+                LocalDate.of(2024, 3, 5),
+                LocalDate.of(2024, 7, 1), LocalDate.of(2024, 7, 2),
+                LocalDate.of(2024, 12, 31)));
+
+        ReadingActivityResponse activity = readingActivityService.getActivity(USER_ID, 2024);
+
+        assertThat(activity.getActiveDays()).isEqualTo(7);
+        // 단어 경계(3월 3일/4일)를 넘어도 연속으로 계산
+        assertThat(activity.getLongestStreak()).isEqualTo(4);
+        assertThat(activity.getActiveDates()).contains(LocalDate.of(2024, 3, 4), LocalDate.of(2024, 12, 31));
+        assertThat(activity.getActiveDates()).doesNotContain(LocalDate.of(2024, 3, 6));
+    }
+
+    @Test
+    void currentStreakStartsFromYesterdayWhenTodayIsInactive() {
+        LocalDate today = LocalDate.now();
+        load(mark(today.minusDays(1), today.minusDays(2), today.minusDays(3), today.minusDays(5)));
+
+        ReadingActivityResponse activity = readingActivityService.getActivity(USER_ID, today.getYear());
+
+        assertThat(activity.getCurrentStreak()).isEqualTo(3);
+    }
+
+    @Test
+    void currentStreakContinuesIntoPreviousYear() {
+        LocalDate today = LocalDate.now();
+        // 오늘부터 연초를 넘어 이전 연도까지 이어지는 기록
+        int days = today.getDayOfYear() + 10;
+        load(mark(IntStream.range(0, days).mapToObj(today::minusDays).toArray(LocalDate[]::new)));
+
+        ReadingActivityResponse activity = readingActivityService.getActivity(USER_ID, today.getYear());
+
+        assertThat(activity.getCurrentStreak()).isEqualTo(days);
+        assertThat(activity.getActiveDays()).isEqualTo(today.getDayOfYear());
+    }
+
+    private List<Object[]> mark(LocalDate... dates) {
+        readingActivityService.markActive(Arrays.stream(dates)
+                .map(date -> new ReadingActivityService.ActiveDay(USER_ID, date))
+                .toList());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), captor.capture());
+        return captor.getValue();
+    }
+
+    private void load(List<Object[]> args) {
+        for (Object[] row : args) {
+            ReadingActivityYear year = BeanUtils.instantiateClass(ReadingActivityYear.class);
+            ReflectionTestUtils.setField(year, "userId", row[0]);
+            ReflectionTestUtils.setField(year, "activityYear", row[1]);
+            for (int word = 0; word < ReadingActivityYear.WORD_COUNT; word++) {
+                ReflectionTestUtils.setField(year, "word" + word, row[word + 2]);
+            }
+            rows.put((Integer) row[1], year);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.booklog.domain.trending.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class DecayingHeavyHittersTest {
+
+    private static final long HALF_LIFE = 60_000;
+    private static final long BUCKET = 1_000;
+
+    @Test
+    void scoreHalvesAfterHalfLife() {
+        DecayingHeavyHitters hitters = new DecayingHeavyHitters(10, HALF_LIFE, BUCKET, 0);
+        hitters.add(1, 1.0, 0);
+
+        assertThat(hitters.top(1, 0).get(0).score()).isCloseTo(1.0, within(1e-9));
+        assertThat(hitters.top(1, HALF_LIFE).get(0).score()).isCloseTo(0.5, within(1e-9));
+        assertThat(hitters.top(1, 2 * HALF_LIFE).get(0).score()).isCloseTo(0.25, within(1e-9));
+    }
+
+    @Test
+    void recentEventsOutrankOlderOnes() {
+        DecayingHeavyHitters hitters = new DecayingHeavyHitters(10, HALF_LIFE, BUCKET, 0);
+        for (int i = 0; i < 3; i++) {
+            hitters.add(1, 1.0, 0);
+        }
+        hitters.add(2, 1.0, 2 * HALF_LIFE);
+
+        List<DecayingHeavyHitters.Scored> top = hitters.top(2, 2 * HALF_LIFE);
+
+        assertThat(top).extracting(DecayingHeavyHitters.Scored::id).containsExactly(2L, 1L);
+        assertThat(top.get(1).score()).isCloseTo(0.75, within(1e-9));
+    }
+
+    @Test
+    void eventsInSameBucketShareWeight() {
+        DecayingHeavyHitters hitters = new DecayingHeavyHitters(10, HALF_LIFE, BUCKET, 0);
+        hitters.add(1, 1.0, 1_000);
+        hitters.add(2, 1.0, 1_999);
+
+        List<DecayingHeavyHitters.Scored> top = hitters.top(2, 1_000);
+
+        assertThat(top.get(0).score()).isEqualTo(top.get(1).score());
+    }
+
+    @Test
+    void fullSketchEvictsSmallestCounterAndInheritsItAsError() {
+        DecayingHeavyHitters hitters = new DecayingHeavyHitters(2, HALF_LIFE, BUCKET, 0);
+        hitters.add(1, 5.0, 0);
+        hitters.add(2, 3.0, 0);
+
+        hitters.add(3, 1.0, 0);
+
+        List<DecayingHeavyHitters.Scored> top = hitters.top(10, 0);
+        assertThat(hitters.size()).isEqualTo(2);
+        assertThat(top).extracting(DecayingHeavyHitters.Scored::id).containsExactly(1L, 3L);
+        // 넘겨받은 카운터 값(3)만큼 과대 추정하며, 하한은 실제 반영한 값
+        assertThat(top.get(1).score()).isCloseTo(4.0, within(1e-9));
+        assertThat(top.get(1).guaranteed()).isCloseTo(1.0, within(1e-9));
+        assertThat(top.get(0).guaranteed()).isCloseTo(top.get(0).score(), within(1e-9));
+    }
+
+    @Test
+    void rescalingKeepsOrderAndFiniteScores() {
+        DecayingHeavyHitters hitters = new DecayingHeavyHitters(10, HALF_LIFE, BUCKET, 0);
+        hitters.add(1, 1.0, 0);
+        hitters.add(2, 2.0, 0);
+
+        // 가중치 지수가 상한을 넘는 시각 (반감기 100회 이상)
+        long later = 100 * HALF_LIFE;
+        hitters.add(3, 1.0, later);
+
+        List<DecayingHeavyHitters.Scored> top = hitters.top(3, later);
+        assertThat(top).extracting(DecayingHeavyHitters.Scored::id).containsExactly(3L, 2L, 1L);
+        assertThat(top.get(0).score()).isCloseTo(1.0, within(1e-9));
+        assertThat(top).allMatch(scored -> Double.isFinite(scored.score()));
+    }
+}